@@ -3,9 +3,11 @@ package com.example.dfa_app;
 import com.example.dfa_app.DFA.*;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.*;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseDragEvent;
 import javafx.scene.input.MouseEvent;
@@ -16,12 +18,18 @@ import javafx.scene.shape.Circle;
 import javafx.event.EventHandler;
 import javafx.util.Duration;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class Application_Controler  implements SelectionListener  {
     @FXML
@@ -37,14 +45,16 @@ public class Application_Controler  implements SelectionListener  {
     @FXML
     private ComboBox fromStateCombo, toStateCombo, transitionNameCombo;
     @FXML
-    private TableView dfaTransitionTable;
+    private TableView<State> dfaTransitionTable;
     @FXML
-    private TableColumn stateColumn;
+    private TableColumn<State, String> stateColumn;
     @FXML
-    private TableColumn transitionsParentColumn;
+    private TableColumn<State, ?> transitionsParentColumn;
     @FXML
     private Pane pane;
     @FXML
+    private BorderPane centerPane;
+    @FXML
     private Button startProcessButton;
     @FXML
     private TextArea logTextArea;
@@ -68,18 +78,34 @@ public class Application_Controler  implements SelectionListener  {
 
     // Hold a reference to the DFA instance.
     private DFA dfa;
+    // The automaton drawn on the pane, with its incrementally maintained counters.
+    private final AutomatonDocument document = new AutomatonDocument();
+    // Minimal automata of recently processed inputs, kept across DFA instances.
+    private final MinimizationCache minimizationCache = new MinimizationCache(64);
     private Transition currentTransition;
     private boolean waitingForSecondClick = false;
+    // Background autosave of every edit, replayed at startup.
+    private static final Path AUTOSAVE_DIRECTORY = Paths.get(System.getProperty("user.home"), ".dfa_app", "autosave");
+    private EditJournal journal;
+    // The transition table below the settings, filled from the document.
+    private TransitionGrid transitionGrid;
+    private static final int TABLE_STATES_PER_ROW = 12;
+    // Highlights the run of a word on the pane; the run is computed off the FX thread.
+    private final SimulationPlayer simulationPlayer = new SimulationPlayer();
+    // Zoom, pan and level of detail of the pane.
+    private DiagramViewport viewport;
+    private static final double KEY_ZOOM_FACTOR = 1.25;
 
     @FXML
     public void initialize() {
         // Initialize the DFA model.
         dfa = new DFA();
-
+        dfa.setMinimizationCache(minimizationCache);
 
         Timeline dfaUpdater = new Timeline(
                 new KeyFrame(Duration.millis(100), event -> {
-                    logTextArea.setText(dfa.getDFAData());
+                    logTextArea.setText(simulationPlayer.getStatus() + "\n" + document.getSummary()
+                            + "\n\n" + dfa.getDFAData());
                 })
         );
         dfaUpdater.setCycleCount(Timeline.INDEFINITE);
@@ -172,9 +198,14 @@ public class Application_Controler  implements SelectionListener  {
         // When process button is clicked, first build the DFA from current UI elements.
         startProcessButton.setOnAction(actionEvent -> {
             buildDFAFromPane();
+            if (!document.isDeterministic()) {
+                dfa.determinize();
+            }
             dfa.removeUnreachableStates();
+            dfa.removeDeadStates();
             dfa.minimizeDFA();
             dfa.printMinimizedDFA();
+            System.out.println(dfa.analyzeLanguage().summary(5));
         });
 
         // Global key handlers.
@@ -228,8 +259,154 @@ public class Application_Controler  implements SelectionListener  {
                         event.consume();
                     }
                     break;
+                case E:
+                    if (event.isControlDown()) {
+                        importRegex(); // Build an automaton from a regular expression.
+                        event.consume();
+                    }
+                    break;
+                case W:
+                    if (event.isControlDown()) {
+                        simulateWord(); // Run a word and play it on the pane.
+                        event.consume();
+                    }
+                    break;
+                case P:
+                    if (event.isControlDown()) {
+                        simulationPlayer.togglePlaying();
+                        event.consume();
+                    }
+                    break;
+                case RIGHT:
+                case LEFT:
+                    if (event.isControlDown()) {
+                        simulationPlayer.stepBy(event.getCode() == KeyCode.RIGHT ? 1 : -1);
+                        event.consume();
+                    }
+                    break;
+                case UP:
+                case DOWN:
+                    if (event.isControlDown()) {
+                        // Fast-forward or slow down by a factor of 4.
+                        double factor = event.getCode() == KeyCode.UP ? 4 : 0.25;
+                        simulationPlayer.setSpeed(simulationPlayer.getSpeed() * factor);
+                        event.consume();
+                    }
+                    break;
+                case HOME:
+                    if (event.isControlDown()) {
+                        simulationPlayer.seek(0);
+                        event.consume();
+                    }
+                    break;
+                case END:
+                    if (event.isControlDown()) {
+                        simulationPlayer.seekEnd();
+                        event.consume();
+                    }
+                    break;
+                case EQUALS:
+                case PLUS:
+                case MINUS:
+                    if (event.isControlDown()) {
+                        viewport.zoomBy(event.getCode() == KeyCode.MINUS ? 1 / KEY_ZOOM_FACTOR : KEY_ZOOM_FACTOR);
+                        event.consume();
+                    }
+                    break;
+                case DIGIT0:
+                    if (event.isControlDown()) {
+                        viewport.reset(); // Back to 100 %.
+                        event.consume();
+                    }
+                    break;
             }
         });
+
+        transitionGrid = new TransitionGrid(dfaTransitionTable, stateColumn, transitionsParentColumn,
+                document, this::createStateNamed, this);
+        document.addEditListener(transitionGrid);
+        viewport = new DiagramViewport(pane, centerPane);
+        restoreAutosave();
+    }
+
+    /**
+     * Creates a named state without user interaction (used by the transition table), placing it
+     * on a grid after the existing states.
+     */
+    private State createStateNamed(String name) {
+        int index = document.getStateCount();
+        State state = new State(60 + (index % TABLE_STATES_PER_ROW) * 90, 60 + (index / TABLE_STATES_PER_ROW) * 90,
+                30, Color.WHITE);
+        state.setSelectionListener(this);
+        pane.getChildren().add(state);
+        document.addState(state);
+        state.setName(name);
+        return state;
+    }
+
+    /**
+     * Opens the autosave journal, rebuilds the automaton it holds on the pane, and from then on
+     * records every edit of the document in the background.
+     */
+    private void restoreAutosave() {
+        try {
+            journal = EditJournal.open(AUTOSAVE_DIRECTORY);
+        } catch (IOException e) {
+            System.out.println("Autosave disabled: " + e.getMessage());
+            return;
+        }
+        EditModel saved = journal.getRecoveredModel();
+        Map<Long, State> restored = new HashMap<>();
+        for (EditModel.StateEntry entry : saved.getStates()) {
+            State state = new State(entry.getX(), entry.getY(), 30, Color.WHITE);
+            state.setSelectionListener(this);
+            pane.getChildren().add(state);
+            document.addState(state);
+            if (!entry.getName().trim().isEmpty()) {
+                try {
+                    state.setName(entry.getName());
+                } catch (IllegalArgumentException e) {
+                    // Left unnamed; the user names it before deselecting it.
+                    showError("Invalid State Name", e.getMessage());
+                }
+            }
+            state.setAccepting(entry.isAccepting());
+            journal.bind(state, entry.getId());
+            restored.put(entry.getId(), state);
+        }
+        if (restored.containsKey(saved.getInitialState())) {
+            document.setInitialState(restored.get(saved.getInitialState()));
+        }
+        for (EditModel.TransitionEntry entry : saved.getTransitions()) {
+            State from = restored.get(entry.getFrom());
+            State to = restored.get(entry.getTo());
+            if (from == null || to == null) {
+                continue;
+            }
+            Transition transition = new Transition(from, entry.getSymbol(), to);
+            transition.getCurvedArrow().setControl(entry.getControlX(), entry.getControlY());
+            transition.setSelectionListener(this);
+            from.addTransition(transition);
+        }
+        if (!restored.isEmpty()) {
+            System.out.println("Restored " + restored.size() + " states from " + AUTOSAVE_DIRECTORY + ".");
+        }
+        document.addEditListener(journal);
+    }
+
+    /**
+     * Writes the pending autosave edits; called when the application stops.
+     */
+    public void shutdown() {
+        if (journal == null) {
+            return;
+        }
+        document.removeEditListener(journal);
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Autosave failed: " + e.getMessage());
+        }
     }
 
     /**
@@ -271,6 +448,111 @@ public class Application_Controler  implements SelectionListener  {
         dfa.configureDFA(stateList, alphabet, initialState, acceptingStates, transitionsMap);
     }
 
+    /**
+     * Asks for a regular expression, compiles it to a DFA, runs it through the minimization steps
+     * and shows the minimized automaton on the pane (replacing the current drawing).
+     */
+    private void importRegex() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Import Regular Expression");
+        dialog.setHeaderText(null);
+        dialog.setContentText("Regular expression:");
+        dialog.showAndWait().ifPresent(pattern -> {
+            CompiledDFA compiled;
+            try {
+                compiled = RegexCompiler.compile(pattern);
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                Alert alert = new Alert(Alert.AlertType.ERROR);
+                alert.setTitle("Invalid Regular Expression");
+                alert.setHeaderText(null);
+                alert.setContentText(ex.getMessage());
+                alert.showAndWait();
+                return;
+            }
+            dfa = new DFA();
+            dfa.setMinimizationCache(minimizationCache);
+            dfa.configureDFA(compiled);
+            dfa.removeUnreachableStates();
+            dfa.removeDeadStates();
+            dfa.minimizeDFA();
+            dfa.printMinimizedDFA();
+            showDFA();
+        });
+    }
+
+    /**
+     * Asks for a word (or "@file" to read it from a file), runs it against a compiled copy of the
+     * drawn automaton on a worker thread, and plays the run on the pane.
+     */
+    private void simulateWord() {
+        if (document.getStateCount() == 0) {
+            System.out.println("Nothing to simulate: the automaton has no states.");
+            return;
+        }
+        if (!document.isDeterministic()) {
+            // The run of a compiled copy would follow one arbitrary edge per symbol.
+            System.out.println("Cannot simulate: the automaton has ε-transitions or several transitions on one symbol.");
+            return;
+        }
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Simulate Word");
+        dialog.setHeaderText(null);
+        dialog.setContentText("Word (or @file):");
+        dialog.showAndWait().ifPresent(input -> {
+            List<State> order = new ArrayList<>();
+            CompiledDFA compiled = document.compile(order);
+            simulationPlayer.clear();
+            CompletableFuture.supplyAsync(() -> SimulationTrace.run(compiled, readWord(input)))
+                    .whenComplete((trace, error) -> Platform.runLater(() -> {
+                        if (error != null) {
+                            System.out.println("Simulation failed: " + error.getCause().getMessage());
+                            return;
+                        }
+                        System.out.println("Simulation: " + trace);
+                        simulationPlayer.load(trace, order);
+                        simulationPlayer.play();
+                    }));
+        });
+    }
+
+    private static String readWord(String input) {
+        if (!input.startsWith("@")) {
+            return input;
+        }
+        try {
+            return Files.readString(Paths.get(input.substring(1).trim())).strip();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replaces the content of the pane with the states and transitions of the current DFA model.
+     */
+    private void showDFA() {
+        for (Node node : new ArrayList<>(pane.getChildren())) {
+            if (node instanceof State) {
+                ((State) node).deleteState();
+            }
+        }
+        pane.getChildren().clear();
+        for (State state : dfa.getStates()) {
+            state.setSelectionListener(this);
+            pane.getChildren().add(state);
+            document.addState(state);
+        }
+        document.setInitialState(dfa.getInitialState());
+        for (State state : dfa.getStates()) {
+            for (Transition t : state.getTransitions()) {
+                t.setSelectionListener(this);
+                // Bundled transitions are drawn by their carrier.
+                if (t.isDrawn()) {
+                    pane.getChildren().add(0, t);
+                }
+            }
+        }
+    }
+
     /**
      * Creates a new state and allows the user to place it on the pane via mouse movement.
      * A temporary mouse handler lets the state follow the cursor until its position is finalized.
@@ -280,6 +562,7 @@ public class Application_Controler  implements SelectionListener  {
         State newState = new State(-30, -30, 30, Color.WHITE);
         newState.setSelectionListener(this);
         pane.getChildren().add(newState);
+        document.addState(newState);
         newState.select();
 
         // Handler to have the state follow the mouse.
@@ -336,6 +619,14 @@ public class Application_Controler  implements SelectionListener  {
         return false;
     }
 
+    private void showError(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
     /**
      * Shows an error alert when a new state overlaps with an existing state.
      */
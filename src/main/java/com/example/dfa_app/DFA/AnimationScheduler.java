@@ -0,0 +1,186 @@
+package com.example.dfa_app.DFA;
+
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.ScaleTransition;
+import javafx.animation.Timeline;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Runs the editor's animations, so their number stays bounded however many elements change.
+ *
+ * Every node has at most one animation of each kind, created on first use and kept in the node's
+ * properties; a new request restarts it from where the node is instead of starting another one.
+ * Decorative effects (pulses, fades) are skipped while something is being dragged or when
+ * {@link #MAX_RUNNING} animations are already running, and a pulse is merged into one that is still
+ * running on the same node. Animations whose end state matters (selection scale, moves) are never
+ * dropped; when effects are suspended they jump straight to the end. FX thread only.
+ */
+public final class AnimationScheduler {
+
+    public static final int MAX_RUNNING = 64;
+
+    private enum Kind { PULSE, SCALE, FADE, MOVE }
+
+    private static int running = 0;
+    private static boolean dragging = false;
+    private static final Set<Node> pulsing = new HashSet<>();
+
+    private AnimationScheduler() {
+    }
+
+    // --- Suspension ---
+    /**
+     * Marks the start and end of a drag; running pulses are stopped when one starts.
+     */
+    public static void setDragging(boolean isDragging) {
+        if (isDragging && !dragging) {
+            for (Node node : new ArrayList<>(pulsing)) {
+                stop(node, Kind.PULSE);
+            }
+        }
+        dragging = isDragging;
+    }
+
+    public static boolean isDragging() {
+        return dragging;
+    }
+
+    public static int getRunningCount() {
+        return running;
+    }
+
+    private static boolean effectsSuspended() {
+        return dragging || running >= MAX_RUNNING;
+    }
+
+    // --- Animations ---
+    /**
+     * Decorative pulse: scales the node up and back once. Skipped if one is still running on it.
+     */
+    public static void pulse(Node node, double scale, Duration duration) {
+        ScaleTransition pulse = (ScaleTransition) node.getProperties().get(Kind.PULSE);
+        if (pulse != null && pulse.getStatus() == Animation.Status.RUNNING) {
+            return;
+        }
+        if (effectsSuspended()) {
+            return;
+        }
+        if (pulse == null) {
+            pulse = track(node, Kind.PULSE, new ScaleTransition(duration, node));
+            pulse.statusProperty().addListener((obs, before, now) -> {
+                if (now == Animation.Status.RUNNING) {
+                    pulsing.add(node);
+                } else {
+                    pulsing.remove(node);
+                }
+            });
+            pulse.setFromX(1);
+            pulse.setFromY(1);
+            pulse.setCycleCount(2);
+            pulse.setAutoReverse(true);
+        }
+        pulse.setDuration(duration);
+        pulse.setToX(scale);
+        pulse.setToY(scale);
+        pulse.playFromStart();
+    }
+
+    /**
+     * Scales the node to the given factor, starting from its current scale.
+     */
+    public static void scaleTo(Node node, double scale, Duration duration) {
+        ScaleTransition transition = (ScaleTransition) node.getProperties().get(Kind.SCALE);
+        if (transition != null) {
+            transition.stop();
+        }
+        // A pulse still running on the node would fight over the same properties.
+        stop(node, Kind.PULSE);
+        if (effectsSuspended()) {
+            node.setScaleX(scale);
+            node.setScaleY(scale);
+            return;
+        }
+        if (transition == null) {
+            transition = track(node, Kind.SCALE, new ScaleTransition(duration, node));
+        }
+        transition.setDuration(duration);
+        transition.setToX(scale);
+        transition.setToY(scale);
+        transition.playFromStart();
+    }
+
+    /**
+     * Decorative fade in from transparent; when suspended the node is just shown.
+     */
+    public static void fadeIn(Node node, Duration duration) {
+        FadeTransition fade = (FadeTransition) node.getProperties().get(Kind.FADE);
+        if (fade != null) {
+            fade.stop();
+        }
+        if (effectsSuspended()) {
+            node.setOpacity(1);
+            return;
+        }
+        if (fade == null) {
+            fade = track(node, Kind.FADE, new FadeTransition(duration, node));
+            fade.setFromValue(0);
+            fade.setToValue(1);
+        }
+        fade.setDuration(duration);
+        fade.playFromStart();
+    }
+
+    /**
+     * Moves the node's layout position; a new target replaces the previous one.
+     */
+    public static void moveTo(Node node, double x, double y, Duration duration) {
+        Timeline move = (Timeline) node.getProperties().get(Kind.MOVE);
+        if (move == null) {
+            move = track(node, Kind.MOVE, new Timeline());
+        }
+        move.stop();
+        if (effectsSuspended()) {
+            node.setLayoutX(x);
+            node.setLayoutY(y);
+            return;
+        }
+        move.getKeyFrames().setAll(new KeyFrame(duration,
+                new KeyValue(node.layoutXProperty(), x, Interpolator.EASE_BOTH),
+                new KeyValue(node.layoutYProperty(), y, Interpolator.EASE_BOTH)));
+        move.playFromStart();
+    }
+
+    // --- Bookkeeping ---
+    private static <A extends Animation> A track(Node node, Kind kind, A animation) {
+        animation.statusProperty().addListener((obs, before, now) -> {
+            if (now == Animation.Status.RUNNING) {
+                running++;
+            } else if (before == Animation.Status.RUNNING) {
+                running--;
+            }
+        });
+        node.getProperties().put(kind, animation);
+        return animation;
+    }
+
+    // A stopped pulse leaves the node half scaled, so it is put back.
+    private static void stop(Node node, Kind kind) {
+        Animation animation = (Animation) node.getProperties().get(kind);
+        if (animation != null && animation.getStatus() != Animation.Status.STOPPED) {
+            animation.stop();
+            if (kind == Kind.PULSE) {
+                node.setScaleX(1);
+                node.setScaleY(1);
+            }
+        }
+    }
+}
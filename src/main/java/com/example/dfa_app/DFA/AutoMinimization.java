@@ -0,0 +1,96 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * Chooses a strategy from the size and shape of the input.
+ *
+ * <ul>
+ *   <li>An NFA whose reversal is deterministic (one accepting state, no ε-edges, at most one edge
+ *       into each state per symbol) goes to {@link MinimizationStrategy#BRZOZOWSKI}, which then
+ *       needs a single subset construction.</li>
+ *   <li>Small DFAs go to {@link MinimizationStrategy#MOORE}.</li>
+ *   <li>Larger DFAs get Moore's method with a budget of rounds. A round costs n * k, while
+ *       {@link MinimizationStrategy#VALMARI_LEHTINEN} costs about m * log2(n) for m existing
+ *       transitions, so the budget is what that would cost, counted in rounds. Most automata
+ *       settle within a few rounds and are done cheaply; the others (long chains, anything that
+ *       needs many rounds) switch to Valmari-Lehtinen and lose at most the budget. Sparse automata,
+ *       whose budget is below {@link #MIN_ROUNDS}, go to Valmari-Lehtinen directly.</li>
+ * </ul>
+ */
+public class AutoMinimization implements MinimizationStrategy {
+
+    /** Up to this many states Moore's method is used without a budget. */
+    public static final int SMALL_STATES = 256;
+    /** Cost of Valmari-Lehtinen per transition and halving, in table cells of a Moore round (measured). */
+    static final double COST_RATIO = 6;
+    /** Below this budget Moore's method is not tried. */
+    static final int MIN_ROUNDS = 8;
+
+    @Override
+    public String getName() {
+        return "auto";
+    }
+
+    @Override
+    public CompiledDFA minimize(CompiledDFA trimmed) {
+        int n = trimmed.getStateCount();
+        if (n <= SMALL_STATES) {
+            return MinimizationStrategy.MOORE.minimize(trimmed);
+        }
+        int budget = roundBudget(trimmed);
+        if (budget >= MIN_ROUNDS) {
+            PartitionRefinement refinement = new PartitionRefinement(trimmed);
+            if (refinement.run(null, budget)) {
+                return refinement.toQuotient();
+            }
+        }
+        return MinimizationStrategy.VALMARI_LEHTINEN.minimize(trimmed);
+    }
+
+    @Override
+    public CompiledDFA minimize(NFA nfa) {
+        if (!nfa.isDeterministic() && isReverseDeterministic(nfa)) {
+            return MinimizationStrategy.BRZOZOWSKI.minimize(nfa);
+        }
+        return minimize(Reachability.trim(Minimizer.determinize(nfa)));
+    }
+
+    /**
+     * Number of Moore rounds that cost about as much as Valmari-Lehtinen on this automaton:
+     * COST_RATIO * completeness * log2(n).
+     */
+    static int roundBudget(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        long cells = (long) n * dfa.getSymbolCount();
+        if (cells == 0) {
+            return Integer.MAX_VALUE;
+        }
+        double completeness = (double) dfa.getTransitionCount() / cells;
+        double log2 = Math.log(n) / Math.log(2);
+        return (int) Math.ceil(COST_RATIO * completeness * log2);
+    }
+
+    static boolean isReverseDeterministic(NFA nfa) {
+        int accepting = 0;
+        for (int q = 0; q < nfa.getStateCount(); q++) {
+            if (nfa.isAccepting(q)) {
+                accepting++;
+            }
+        }
+        if (accepting != 1) {
+            return false;
+        }
+        int k = nfa.getSymbolCount();
+        boolean[] seen = new boolean[nfa.getStateCount() * k];
+        for (int e = 0; e < nfa.getEdgeCount(); e++) {
+            if (nfa.edgeSymbol(e) == NFA.EPSILON_INDEX) {
+                return false;
+            }
+            int cell = nfa.edgeTo(e) * k + nfa.edgeSymbol(e);
+            if (seen[cell]) {
+                return false;
+            }
+            seen[cell] = true;
+        }
+        return true;
+    }
+}
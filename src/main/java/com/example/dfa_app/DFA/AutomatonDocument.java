@@ -0,0 +1,399 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The automaton being edited: its states plus counters that are kept up to date on every edit,
+ * so questions like "is it deterministic and complete?" are answered in O(1) instead of by a rescan.
+ *
+ * States report their transition changes through {@link State#addTransition(Transition)} and
+ * {@link State#removeTransition(Transition)}. Reachability grows incrementally when an edge is added;
+ * removals only mark it stale, and it is recomputed on the next query.
+ *
+ * Each document has its own {@link StateNameRegistry}, so any number of documents can be built,
+ * minimized and discarded in parallel. The methods of one document are synchronized.
+ *
+ * {@link EditListener}s (e.g. {@link EditJournal}, {@link TransitionGrid}) are told about every edit
+ * of the model. They are called on the thread that made the edit, inside the document's lock, so
+ * they must return quickly.
+ */
+public class AutomatonDocument {
+
+    /** Receives the edits of a document; every method does nothing by default. */
+    public interface EditListener {
+        default void stateAdded(State state) {
+        }
+
+        default void stateRemoved(State state) {
+        }
+
+        default void stateMoved(State state) {
+        }
+
+        default void stateRenamed(State state) {
+        }
+
+        default void acceptingChanged(State state) {
+        }
+
+        default void initialStateChanged(State state) {
+        }
+
+        default void transitionAdded(State from, Transition transition) {
+        }
+
+        default void transitionRemoved(State from, Transition transition) {
+        }
+
+        default void controlPointMoved(State from, Transition transition) {
+        }
+    }
+
+    private final Set<State> states = new LinkedHashSet<>();
+    private final StateNameRegistry nameRegistry = new StateNameRegistry();
+    private State initialState;
+
+    // Non-ε symbol -> number of edges using it; its key set is the alphabet.
+    private final Map<String, Integer> edgesPerSymbol = new HashMap<>();
+    // (state, symbol) pairs with at least one / more than one edge.
+    private long definedPairs = 0;
+    private long duplicatePairs = 0;
+    private long epsilonEdges = 0;
+
+    private final Set<State> reachable = new HashSet<>();
+    private boolean reachabilityStale = false;
+
+    private final List<EditListener> editListeners = new CopyOnWriteArrayList<>();
+
+    // --- States ---
+    /**
+     * Adds a state (moving it out of its previous document, if any). The check and the move happen
+     * while holding the state's lock, so concurrent adds of one state cannot both take it.
+     *
+     * @throws IllegalArgumentException if the state's name is already used in this document; the
+     *         state then stays where it was.
+     */
+    public void addState(State state) {
+        synchronized (state) {
+            AutomatonDocument previous = state.getDocument();
+            if (previous == this) {
+                return;
+            }
+            claimName(state);
+            if (previous != null) {
+                previous.removeState(state);
+            }
+            addDetachedState(state);
+        }
+    }
+
+    private synchronized void claimName(State state) {
+        String name = state.getName();
+        if (name != null && !name.trim().isEmpty() && !nameRegistry.claim(name)) {
+            throw new IllegalArgumentException("A state with the name '" + name + "' already exists.");
+        }
+    }
+
+    private synchronized void addDetachedState(State state) {
+        states.add(state);
+        state.setDocument(this);
+        // Position in the symbol's list + 1 is the pair size right after that edge was added.
+        for (Transition t : state.getTransitions()) {
+            countAdded(t.getSymbol(), state.getTransitions(t.getSymbol()).indexOf(t) + 1);
+        }
+        for (EditListener listener : editListeners) {
+            listener.stateAdded(state);
+        }
+        if (initialState == null) {
+            setInitialState(state);
+        }
+        reachabilityStale = true;
+    }
+
+    /**
+     * Deletes the state together with the transitions of the other states into it.
+     */
+    public synchronized void deleteState(State state) {
+        if (!states.contains(state)) {
+            return;
+        }
+        state.removeIncomingTransitions();
+        removeState(state);
+    }
+
+    /**
+     * Takes the state out of this document, e.g. to move it to another one. Its outgoing transitions
+     * leave with it; transitions into it are kept (see {@link #deleteState(State)}).
+     */
+    public synchronized void removeState(State state) {
+        if (!states.remove(state)) {
+            return;
+        }
+        String name = state.getName();
+        if (name != null && !name.trim().isEmpty()) {
+            nameRegistry.release(name);
+        }
+        // Position in the symbol's list is the pair size right after removing the edges from the back.
+        for (Transition t : state.getTransitions()) {
+            countRemoved(t.getSymbol(), state.getTransitions(t.getSymbol()).indexOf(t));
+        }
+        state.setDocument(null);
+        for (EditListener listener : editListeners) {
+            listener.stateRemoved(state);
+        }
+        if (state.equals(initialState)) {
+            setInitialState(states.isEmpty() ? null : states.iterator().next());
+        }
+        reachabilityStale = true;
+    }
+
+    public StateNameRegistry getNameRegistry() {
+        return nameRegistry;
+    }
+
+    public synchronized Set<State> getStates() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(states));
+    }
+
+    public synchronized State getInitialState() {
+        return initialState;
+    }
+
+    public synchronized void setInitialState(State state) {
+        if (state == initialState) {
+            return;
+        }
+        this.initialState = state;
+        reachabilityStale = true;
+        for (EditListener listener : editListeners) {
+            listener.initialStateChanged(state);
+        }
+    }
+
+    /**
+     * Adds a listener that is told about every following edit.
+     */
+    public void addEditListener(EditListener listener) {
+        editListeners.add(listener);
+    }
+
+    public void removeEditListener(EditListener listener) {
+        editListeners.remove(listener);
+    }
+
+    // --- Notifications from State ---
+    /**
+     * @param pairSize Number of transitions of {@code from} on this symbol after the addition.
+     */
+    synchronized void onTransitionAdded(State from, Transition transition, int pairSize) {
+        countAdded(transition.getSymbol(), pairSize);
+        for (EditListener listener : editListeners) {
+            listener.transitionAdded(from, transition);
+        }
+        State target = transition.getNextState();
+        if (!reachabilityStale && reachable.contains(from) && target != null && !reachable.contains(target)) {
+            extendReachable(target);
+        }
+    }
+
+    /**
+     * @param pairSize Number of transitions of {@code from} on this symbol after the removal.
+     */
+    synchronized void onTransitionRemoved(State from, Transition transition, int pairSize) {
+        countRemoved(transition.getSymbol(), pairSize);
+        reachabilityStale = true;
+        for (EditListener listener : editListeners) {
+            listener.transitionRemoved(from, transition);
+        }
+    }
+
+    // The following only matter to the listeners; the counters do not depend on them.
+    synchronized void onStateMoved(State state) {
+        for (EditListener listener : editListeners) {
+            listener.stateMoved(state);
+        }
+    }
+
+    synchronized void onStateRenamed(State state) {
+        for (EditListener listener : editListeners) {
+            listener.stateRenamed(state);
+        }
+    }
+
+    synchronized void onAcceptingChanged(State state) {
+        for (EditListener listener : editListeners) {
+            listener.acceptingChanged(state);
+        }
+    }
+
+    synchronized void onControlPointMoved(State from, Transition transition) {
+        for (EditListener listener : editListeners) {
+            listener.controlPointMoved(from, transition);
+        }
+    }
+
+    private void countAdded(String symbol, int pairSize) {
+        if (NFA.EPSILON.equals(symbol)) {
+            epsilonEdges++;
+            return;
+        }
+        edgesPerSymbol.merge(symbol, 1, Integer::sum);
+        if (pairSize == 1) {
+            definedPairs++;
+        } else if (pairSize == 2) {
+            duplicatePairs++;
+        }
+    }
+
+    private void countRemoved(String symbol, int pairSize) {
+        if (NFA.EPSILON.equals(symbol)) {
+            epsilonEdges--;
+            return;
+        }
+        if (edgesPerSymbol.merge(symbol, -1, Integer::sum) == 0) {
+            edgesPerSymbol.remove(symbol);
+        }
+        if (pairSize == 0) {
+            definedPairs--;
+        } else if (pairSize == 1) {
+            duplicatePairs--;
+        }
+    }
+
+    // --- Reachability ---
+    private void extendReachable(State from) {
+        Deque<State> queue = new ArrayDeque<>();
+        if (states.contains(from) && reachable.add(from)) {
+            queue.add(from);
+        }
+        while (!queue.isEmpty()) {
+            State current = queue.poll();
+            for (Transition t : current.getTransitions()) {
+                State next = t.getNextState();
+                if (next != null && states.contains(next) && reachable.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    private void refreshReachability() {
+        if (reachabilityStale) {
+            reachable.clear();
+            reachabilityStale = false;
+            if (initialState != null) {
+                extendReachable(initialState);
+            }
+        }
+    }
+
+    // --- Compiling ---
+    /**
+     * Builds the index based form of the drawn automaton, like {@link DFA#compile(List)}: the
+     * initial state is state 0, the alphabet (without ε) is sorted, and of several transitions on
+     * one symbol the first is used. The result only has the language of the drawing if
+     * {@link #isDeterministic()}.
+     *
+     * @param order Receives the State objects in index order (may be null).
+     */
+    public synchronized CompiledDFA compile(List<State> order) {
+        List<State> list = new ArrayList<>(states.size());
+        if (initialState != null) {
+            list.add(initialState);
+        }
+        for (State state : states) {
+            if (!state.equals(initialState)) {
+                list.add(state);
+            }
+        }
+        Map<State, Integer> index = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            index.put(list.get(i), i);
+        }
+        String[] symbols = edgesPerSymbol.keySet().stream().filter(a -> !NFA.EPSILON.equals(a)).sorted()
+                .toArray(String[]::new);
+        int k = symbols.length;
+        int[] delta = new int[list.size() * k];
+        boolean[] accepting = new boolean[list.size()];
+        String[] names = new String[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            State state = list.get(i);
+            accepting[i] = state.isAccepting();
+            names[i] = state.getName();
+            for (int a = 0; a < k; a++) {
+                Transition t = state.getTransition(symbols[a]);
+                Integer target = t == null ? null : index.get(t.getNextState());
+                delta[i * k + a] = target == null ? CompiledDFA.NO_TRANSITION : target;
+            }
+        }
+        if (order != null) {
+            order.addAll(list);
+        }
+        return new CompiledDFA(symbols, delta, accepting, 0, names);
+    }
+
+    // --- Counters ---
+    public synchronized int getStateCount() {
+        return states.size();
+    }
+
+    public synchronized int getAlphabetSize() {
+        return edgesPerSymbol.size();
+    }
+
+    public synchronized List<String> getAlphabet() {
+        return new ArrayList<>(edgesPerSymbol.keySet());
+    }
+
+    /**
+     * Number of (state, symbol) pairs without a transition.
+     */
+    public synchronized long getMissingTransitionCount() {
+        return (long) states.size() * edgesPerSymbol.size() - definedPairs;
+    }
+
+    /**
+     * Number of (state, symbol) pairs with more than one transition.
+     */
+    public synchronized long getDuplicateSymbolCount() {
+        return duplicatePairs;
+    }
+
+    public synchronized long getEpsilonTransitionCount() {
+        return epsilonEdges;
+    }
+
+    public synchronized int getUnreachableCount() {
+        refreshReachability();
+        return states.size() - reachable.size();
+    }
+
+    public synchronized boolean isDeterministic() {
+        return duplicatePairs == 0 && epsilonEdges == 0;
+    }
+
+    /**
+     * Deterministic and every state has a transition for every symbol.
+     */
+    public synchronized boolean isComplete() {
+        return isDeterministic() && getMissingTransitionCount() == 0;
+    }
+
+    public synchronized String getSummary() {
+        return "States: " + states.size()
+                + ", missing transitions: " + getMissingTransitionCount()
+                + ", duplicate symbols: " + duplicatePairs
+                + ", ε-transitions: " + epsilonEdges
+                + ", unreachable: " + getUnreachableCount();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.dfa_app.DFA;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes an automaton in some text format, state by state, straight to the output. The automaton is
+ * read through an {@link AutomatonView}, so neither a {@link CompiledDFA} nor the drawing is copied.
+ * Implementations keep no more than one row of the automaton in memory, and the export methods add
+ * one fixed-size buffer, so exporting takes the same memory for ten states or ten million.
+ *
+ * Built-in formats are available through {@link #forFormat(String)}: Graphviz DOT
+ * ({@link DotExporter}), a plain transition table ({@link TableExporter}), JSON
+ * ({@link JsonExporter}) and the {@link AutomatonFile} format. Other formats only need to implement
+ * {@link #write(AutomatonView, Writer)}.
+ */
+public interface AutomatonExporter {
+
+    /** Size of the buffer between an exporter and its output, in chars. */
+    int BUFFER_SIZE = 64 * 1024;
+
+    /** Short name of the format, e.g. "dot". */
+    String getFormatName();
+
+    /** File extension including the dot, e.g. ".dot". */
+    String getFileExtension();
+
+    /**
+     * Writes the automaton. The writer is already buffered; implementations should write small
+     * pieces and must not close it.
+     */
+    <S> void write(AutomatonView<S> automaton, Writer out) throws IOException;
+
+    /**
+     * Writes the automaton through a buffer of {@link #BUFFER_SIZE} chars and flushes it.
+     * The writer is not closed.
+     */
+    default void export(AutomatonView<?> automaton, Writer out) throws IOException {
+        Writer buffered = out instanceof BufferedWriter ? out : new BufferedWriter(out, BUFFER_SIZE);
+        write(automaton, buffered);
+        buffered.flush();
+    }
+
+    default void export(CompiledDFA dfa, Writer out) throws IOException {
+        export(AutomatonView.of(dfa), out);
+    }
+
+    /**
+     * Writes the automaton as UTF-8 to the channel and flushes it. The channel is not closed.
+     */
+    default void export(CompiledDFA dfa, WritableByteChannel channel) throws IOException {
+        Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE);
+        write(AutomatonView.of(dfa), out);
+        out.flush();
+    }
+
+    /**
+     * Writes the automaton to a file, replacing it if it exists.
+     */
+    default void export(CompiledDFA dfa, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            export(dfa, channel);
+        }
+    }
+
+    /**
+     * The built-in exporter for "dot", "table", "json" or "dfa".
+     */
+    static AutomatonExporter forFormat(String name) {
+        return switch (name.toLowerCase()) {
+            case "dot" -> new DotExporter();
+            case "table" -> new TableExporter();
+            case "json" -> new JsonExporter();
+            case "dfa" -> new AutomatonExporter() {
+                @Override
+                public String getFormatName() {
+                    return "dfa";
+                }
+
+                @Override
+                public String getFileExtension() {
+                    return AutomatonFile.EXTENSION;
+                }
+
+                @Override
+                public <S> void write(AutomatonView<S> automaton, Writer out) throws IOException {
+                    AutomatonFile.write(automaton, out);
+                }
+            };
+            default -> throw new IllegalArgumentException("Unknown export format: " + name
+                    + " (expected dot, table, json or dfa).");
+        };
+    }
+}
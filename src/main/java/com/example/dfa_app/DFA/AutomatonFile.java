@@ -0,0 +1,183 @@
+package com.example.dfa_app.DFA;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plain text format for automata, one item per line:
+ *
+ * <pre>
+ * # comment
+ * states: q0 q1 q2
+ * alphabet: a b
+ * initial: q0
+ * accepting: q2
+ * q0 a q1
+ * q1 b q2
+ * q1 ε q0
+ * </pre>
+ *
+ * Every other non-empty line is a transition "from symbol to". States and symbols are whitespace
+ * separated tokens and are declared on first use, so the header lines are optional; without an
+ * "initial:" line the first state is initial. The symbol {@link NFA#EPSILON} is an ε-transition
+ * and a state may have several transitions on one symbol, so files are read as an {@link NFA}.
+ */
+public final class AutomatonFile {
+
+    /** Extension used for automaton files when a whole directory is processed. */
+    public static final String EXTENSION = ".dfa";
+
+    private AutomatonFile() {
+    }
+
+    // --- Reading ---
+    public static NFA read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if a line is malformed (the message names the line).
+     */
+    public static NFA read(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        NFA nfa = new NFA();
+        Map<String, Integer> stateIndex = new HashMap<>();
+        String initial = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String key = colon > 0 ? line.substring(0, colon).trim() : "";
+            String[] values = colon > 0 ? tokens(line.substring(colon + 1)) : null;
+            switch (key) {
+                case "states" -> {
+                    for (String name : values) {
+                        state(nfa, stateIndex, name);
+                    }
+                }
+                case "alphabet" -> {
+                    for (String symbol : values) {
+                        nfa.addSymbol(symbol);
+                    }
+                }
+                case "initial" -> {
+                    if (values.length != 1) {
+                        throw error(lineNumber, "expected exactly one initial state");
+                    }
+                    initial = values[0];
+                    state(nfa, stateIndex, initial);
+                }
+                case "accepting" -> {
+                    for (String name : values) {
+                        nfa.setAccepting(state(nfa, stateIndex, name), true);
+                    }
+                }
+                default -> {
+                    String[] parts = tokens(line);
+                    if (parts.length != 3) {
+                        throw error(lineNumber, "expected 'from symbol to' but found '" + line + "'");
+                    }
+                    int from = state(nfa, stateIndex, parts[0]);
+                    int to = state(nfa, stateIndex, parts[2]);
+                    nfa.addTransition(from, parts[1], to);
+                }
+            }
+        }
+        if (nfa.getStateCount() == 0) {
+            throw new IllegalArgumentException("The automaton has no states.");
+        }
+        if (initial != null) {
+            nfa.setInitialState(stateIndex.get(initial));
+        }
+        return nfa;
+    }
+
+    private static int state(NFA nfa, Map<String, Integer> stateIndex, String name) {
+        Integer index = stateIndex.get(name);
+        if (index == null) {
+            index = nfa.addState(name, false);
+            stateIndex.put(name, index);
+        }
+        return index;
+    }
+
+    private static String[] tokens(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+    private static IllegalArgumentException error(int lineNumber, String message) {
+        return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+    }
+
+    // --- Writing ---
+    public static void write(CompiledDFA dfa, Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(dfa, writer);
+        }
+    }
+
+    /**
+     * Writes the automaton with its initial state listed first. Missing transitions are omitted.
+     */
+    public static void write(CompiledDFA dfa, Writer out) throws IOException {
+        write(AutomatonView.of(dfa), out);
+    }
+
+    public static <S> void write(AutomatonView<S> automaton, Writer out) throws IOException {
+        int k = automaton.getSymbolCount();
+        S initial = automaton.getInitialState();
+        // Written piece by piece, so that the lines listing every state need no buffer of their own.
+        out.write("states: ");
+        out.write(automaton.getName(initial));
+        for (S q : automaton.getStates()) {
+            if (!q.equals(initial)) {
+                out.write(' ');
+                out.write(automaton.getName(q));
+            }
+        }
+        out.write("\nalphabet:");
+        for (int a = 0; a < k; a++) {
+            out.write(' ');
+            out.write(automaton.getSymbol(a));
+        }
+        out.write("\ninitial: ");
+        out.write(automaton.getName(initial));
+        out.write("\naccepting:");
+        for (S q : automaton.getStates()) {
+            if (automaton.isAccepting(q)) {
+                out.write(' ');
+                out.write(automaton.getName(q));
+            }
+        }
+        out.write('\n');
+
+        for (S q : automaton.getStates()) {
+            for (int a = 0; a < k; a++) {
+                S t = automaton.next(q, a);
+                if (t != null) {
+                    out.write(automaton.getName(q));
+                    out.write(' ');
+                    out.write(automaton.getSymbol(a));
+                    out.write(' ');
+                    out.write(automaton.getName(t));
+                    out.write('\n');
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Builds synthetic automata for scale and stress tests. The same seed and settings always give the
+ * same automaton, whether it is built on the heap or straight into a file.
+ *
+ * <ul>
+ *   <li>{@link Shape#RANDOM}: every state is reachable from state 0 (through a random spanning
+ *       tree); the other transitions exist with probability {@link #setDensity density} and go to
+ *       uniformly random targets.</li>
+ *   <li>{@link Shape#CHAIN}: q0 -0-&gt; q1 -0-&gt; ... -0-&gt; q(n-1), every other symbol loops,
+ *       and only the last state accepts. All states are distinct, but Moore's refinement needs n-1
+ *       rounds to see it, so this is the worst case for round-based minimization.</li>
+ *   <li>{@link Shape#EQUIVALENT}: a random automaton of n / copies states, each state repeated
+ *       {@link #setCopies copies} times with its transitions going to random copies of the targets.
+ *       Minimizing it gives back at most n / copies states.</li>
+ * </ul>
+ *
+ * States are unnamed ("q0", "q1", ...); symbols are "0"-"9", "a"-"z", "A"-"Z" and then "s62", "s63", ...
+ */
+public class AutomatonGenerator {
+
+    public enum Shape { RANDOM, CHAIN, EQUIVALENT }
+
+    public static final int MAX_STATES = 100_000_000;
+
+    private static final String SINGLE_CHAR_SYMBOLS =
+            "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    /** Where the transitions go: heap arrays or an {@link OffHeapDFA}. */
+    private interface Target {
+        void set(int state, int symbol, int target);
+
+        int get(int state, int symbol);
+
+        void accept(int state);
+
+        boolean isAccepting(int state);
+    }
+
+    private final long seed;
+    private double density = 1.0;
+    private double acceptingRatio = 0.5;
+    private int copies = 4;
+
+    public AutomatonGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    // --- Settings ---
+    /**
+     * Probability of each transition outside the spanning tree; 1 (the default) gives complete automata.
+     */
+    public AutomatonGenerator setDensity(double density) {
+        if (!(density >= 0 && density <= 1)) {
+            throw new IllegalArgumentException("Density must be between 0 and 1.");
+        }
+        this.density = density;
+        return this;
+    }
+
+    /**
+     * Probability that a state accepts (default 0.5); ignored by {@link Shape#CHAIN}.
+     */
+    public AutomatonGenerator setAcceptingRatio(double acceptingRatio) {
+        if (!(acceptingRatio >= 0 && acceptingRatio <= 1)) {
+            throw new IllegalArgumentException("Accepting ratio must be between 0 and 1.");
+        }
+        this.acceptingRatio = acceptingRatio;
+        return this;
+    }
+
+    /**
+     * Number of equivalent copies of each state for {@link Shape#EQUIVALENT} (default 4).
+     */
+    public AutomatonGenerator setCopies(int copies) {
+        if (copies < 1) {
+            throw new IllegalArgumentException("Copies must be at least 1.");
+        }
+        this.copies = copies;
+        return this;
+    }
+
+    public static String[] alphabet(int symbolCount) {
+        String[] alphabet = new String[symbolCount];
+        for (int a = 0; a < symbolCount; a++) {
+            alphabet[a] = a < SINGLE_CHAR_SYMBOLS.length()
+                    ? String.valueOf(SINGLE_CHAR_SYMBOLS.charAt(a)) : "s" + a;
+        }
+        return alphabet;
+    }
+
+    // --- Generation ---
+    /**
+     * Builds the automaton on the heap (4 bytes per transition).
+     */
+    public CompiledDFA generate(Shape shape, int stateCount, int symbolCount) {
+        checkSizes(stateCount, symbolCount);
+        if ((long) stateCount * symbolCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many transitions for the heap; generate into a file instead.");
+        }
+        int k = symbolCount;
+        int[] delta = new int[stateCount * k];
+        Arrays.fill(delta, CompiledDFA.NO_TRANSITION);
+        boolean[] accepting = new boolean[stateCount];
+        fill(shape, stateCount, k, new Target() {
+            @Override
+            public void set(int state, int symbol, int target) {
+                delta[state * k + symbol] = target;
+            }
+
+            @Override
+            public int get(int state, int symbol) {
+                return delta[state * k + symbol];
+            }
+
+            @Override
+            public void accept(int state) {
+                accepting[state] = true;
+            }
+
+            @Override
+            public boolean isAccepting(int state) {
+                return accepting[state];
+            }
+        });
+        return new CompiledDFA(alphabet(k), delta, accepting, 0, null);
+    }
+
+    /**
+     * Builds the automaton straight into a file in the {@link OffHeapDFA} format, so the size is
+     * only bounded by the disk; 10^7 states with 16 symbols take 640 MB.
+     */
+    public OffHeapDFA generate(Shape shape, int stateCount, int symbolCount, Path file) throws IOException {
+        checkSizes(stateCount, symbolCount);
+        OffHeapDFA dfa = OffHeapDFA.create(file, alphabet(symbolCount), stateCount, 0);
+        fill(shape, stateCount, symbolCount, new Target() {
+            @Override
+            public void set(int state, int symbol, int target) {
+                dfa.setTransition(state, symbol, target);
+            }
+
+            @Override
+            public int get(int state, int symbol) {
+                return dfa.next(state, symbol);
+            }
+
+            @Override
+            public void accept(int state) {
+                dfa.setAccepting(state, true);
+            }
+
+            @Override
+            public boolean isAccepting(int state) {
+                return dfa.isAccepting(state);
+            }
+        });
+        dfa.force();
+        return dfa;
+    }
+
+    private static void checkSizes(int stateCount, int symbolCount) {
+        if (stateCount < 1 || stateCount > MAX_STATES) {
+            throw new IllegalArgumentException("State count must be between 1 and " + MAX_STATES + ".");
+        }
+        if (symbolCount < 1) {
+            throw new IllegalArgumentException("The alphabet needs at least one symbol.");
+        }
+    }
+
+    private void fill(Shape shape, int n, int k, Target target) {
+        SplittableRandom random = new SplittableRandom(seed);
+        switch (shape) {
+            case RANDOM -> fillRandom(random, n, k, target);
+            case CHAIN -> fillChain(n, k, target);
+            case EQUIVALENT -> fillEquivalent(random, n, k, target);
+        }
+    }
+
+    private void fillRandom(SplittableRandom random, int n, int k, Target target) {
+        // Spanning tree: every state q > 0 gets its first incoming edge from a state before it.
+        for (int q = 1; q < n; q++) {
+            if (k == 1) {
+                target.set(q - 1, 0, q);
+                continue;
+            }
+            // At most half of the slots of the states before q are taken, so this ends quickly.
+            int from;
+            int symbol;
+            do {
+                from = random.nextInt(q);
+                symbol = random.nextInt(k);
+            } while (target.get(from, symbol) != CompiledDFA.NO_TRANSITION);
+            target.set(from, symbol, q);
+        }
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                if (target.get(q, a) == CompiledDFA.NO_TRANSITION && random.nextDouble() < density) {
+                    target.set(q, a, random.nextInt(n));
+                }
+            }
+            if (random.nextDouble() < acceptingRatio) {
+                target.accept(q);
+            }
+        }
+    }
+
+    private static void fillChain(int n, int k, Target target) {
+        for (int q = 0; q < n; q++) {
+            target.set(q, 0, Math.min(q + 1, n - 1));
+            for (int a = 1; a < k; a++) {
+                target.set(q, a, q);
+            }
+        }
+        target.accept(n - 1);
+    }
+
+    private void fillEquivalent(SplittableRandom random, int n, int k, Target target) {
+        // States 0 .. classes-1 are the original; state s is a copy of s % classes.
+        int classes = (int) ((n + (long) copies - 1) / copies);
+        fillRandom(random, classes, k, target);
+        for (int s = classes; s < n; s++) {
+            int original = s % classes;
+            for (int a = 0; a < k; a++) {
+                int t = target.get(original, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    target.set(s, a, randomCopy(random, t, classes, n));
+                }
+            }
+            if (target.isAccepting(original)) {
+                target.accept(s);
+            }
+        }
+        // The originals point to random copies too, so no copy is special.
+        for (int q = 0; q < classes; q++) {
+            for (int a = 0; a < k; a++) {
+                int t = target.get(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    target.set(q, a, randomCopy(random, t % classes, classes, n));
+                }
+            }
+        }
+    }
+
+    private int randomCopy(SplittableRandom random, int original, int classes, int n) {
+        long copy = original + (long) classes * random.nextInt(copies);
+        return copy < n ? (int) copy : original;
+    }
+}
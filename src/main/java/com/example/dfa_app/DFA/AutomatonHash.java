@@ -0,0 +1,50 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * A 128-bit hash of an automaton, computed by {@link CanonicalForm}.
+ * Written as 32 hex digits, which is also its file name in an on-disk {@link MinimizationCache}.
+ */
+public final class AutomatonHash {
+
+    private final long high;
+    private final long low;
+
+    public AutomatonHash(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Parses the 32 hex digits written by {@link #toString()}.
+     */
+    public static AutomatonHash parse(String hex) {
+        if (hex.length() != 32) {
+            throw new IllegalArgumentException("Expected 32 hex digits: " + hex);
+        }
+        return new AutomatonHash(Long.parseUnsignedLong(hex.substring(0, 16), 16),
+                Long.parseUnsignedLong(hex.substring(16), 16));
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof AutomatonHash other && other.high == high && other.low == low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
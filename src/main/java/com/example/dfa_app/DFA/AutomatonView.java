@@ -0,0 +1,85 @@
+package com.example.dfa_app.DFA;
+
+import java.util.AbstractList;
+
+/**
+ * Read-only access to an automaton one state at a time, which is all the exporters need.
+ * S is whatever the owner identifies states by: {@code Integer} indexes for a {@link CompiledDFA}
+ * ({@link #of(CompiledDFA)}), {@link State} nodes for the drawing ({@link DFA#view()}). The view
+ * reads the owner's data directly, so writing an automaton does not copy it into a table first.
+ */
+public interface AutomatonView<S> {
+
+    int getSymbolCount();
+
+    String getSymbol(int symbol);
+
+    S getInitialState();
+
+    /**
+     * Every state once, in a fixed order.
+     */
+    Iterable<S> getStates();
+
+    String getName(S state);
+
+    boolean isAccepting(S state);
+
+    /**
+     * Returns the target of the transition, or null if there is none.
+     */
+    S next(S state, int symbol);
+
+    /**
+     * A view of the compiled automaton, states in index order.
+     */
+    static AutomatonView<Integer> of(CompiledDFA dfa) {
+        return new AutomatonView<>() {
+            @Override
+            public int getSymbolCount() {
+                return dfa.getSymbolCount();
+            }
+
+            @Override
+            public String getSymbol(int symbol) {
+                return dfa.getSymbol(symbol);
+            }
+
+            @Override
+            public Integer getInitialState() {
+                return dfa.getInitialState();
+            }
+
+            @Override
+            public Iterable<Integer> getStates() {
+                return new AbstractList<>() {
+                    @Override
+                    public Integer get(int index) {
+                        return index;
+                    }
+
+                    @Override
+                    public int size() {
+                        return dfa.getStateCount();
+                    }
+                };
+            }
+
+            @Override
+            public String getName(Integer state) {
+                return dfa.getStateName(state);
+            }
+
+            @Override
+            public boolean isAccepting(Integer state) {
+                return dfa.isAccepting(state);
+            }
+
+            @Override
+            public Integer next(Integer state, int symbol) {
+                int t = dfa.next(state, symbol);
+                return t == CompiledDFA.NO_TRANSITION ? null : t;
+            }
+        };
+    }
+}
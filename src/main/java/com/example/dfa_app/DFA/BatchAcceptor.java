@@ -0,0 +1,99 @@
+package com.example.dfa_app.DFA;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks many independent words against the same automaton, for validators over a byte alphabet
+ * (every symbol a single character with code 0-255).
+ *
+ * The automaton is flattened into one table indexed by (state &lt;&lt; 8 | byte), with an extra
+ * non-accepting sink state in place of missing transitions and bytes outside the alphabet, so a step
+ * is one array read without any branch. The words are passed packed in one byte array: word i is
+ * data[bounds[i] .. bounds[i + 1]).
+ *
+ * {@link #acceptAll(byte[], int[], boolean[])} runs the words one after another on that table.
+ * There is no Vector API path: on JDK 21 one word per lane with a gather per step was about three
+ * times slower than this loop, and C2 crashed compiling it on AVX-512 hardware.
+ */
+public final class BatchAcceptor {
+
+    private final int initialState;
+    private final int[] table;
+    private final boolean[] accepting;
+
+    public BatchAcceptor(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        if (n + 1 > Integer.MAX_VALUE >> 8) {
+            throw new IllegalArgumentException("Too many states for a byte table: " + n);
+        }
+        int[] symbolOfByte = new int[256];
+        Arrays.fill(symbolOfByte, -1);
+        for (int a = 0; a < dfa.getSymbolCount(); a++) {
+            String symbol = dfa.getSymbol(a);
+            if (symbol.length() != 1 || symbol.charAt(0) > 0xFF) {
+                throw new IllegalArgumentException("Batch acceptance needs single-byte symbols, found \"" + symbol + "\".");
+            }
+            symbolOfByte[symbol.charAt(0)] = a;
+        }
+
+        initialState = dfa.getInitialState();
+        int sink = n;
+        table = new int[(n + 1) << 8];
+        accepting = new boolean[n + 1];
+        for (int q = 0; q <= n; q++) {
+            accepting[q] = q < n && dfa.isAccepting(q);
+            for (int b = 0; b < 256; b++) {
+                int t = q == sink || symbolOfByte[b] < 0 ? CompiledDFA.NO_TRANSITION : dfa.next(q, symbolOfByte[b]);
+                table[q << 8 | b] = t == CompiledDFA.NO_TRANSITION ? sink : t;
+            }
+        }
+    }
+
+    // --- Running words ---
+    public boolean accepts(byte[] data, int from, int to) {
+        int state = initialState;
+        for (int i = from; i < to; i++) {
+            state = table[state << 8 | (data[i] & 0xFF)];
+        }
+        return accepting[state];
+    }
+
+    /**
+     * Sets result[i] to whether word i (data[bounds[i]] to data[bounds[i + 1]]) is accepted,
+     * for every i below bounds.length - 1.
+     */
+    public void acceptAll(byte[] data, int[] bounds, boolean[] result) {
+        int count = checkBounds(bounds, result);
+        for (int w = 0; w < count; w++) {
+            result[w] = accepts(data, bounds[w], bounds[w + 1]);
+        }
+    }
+
+    /**
+     * Packs the words (ISO-8859-1) and checks them all.
+     */
+    public boolean[] acceptAll(List<String> words) {
+        int[] bounds = new int[words.size() + 1];
+        for (int i = 0; i < words.size(); i++) {
+            bounds[i + 1] = bounds[i] + words.get(i).length();
+        }
+        byte[] data = new byte[bounds[words.size()]];
+        for (int i = 0; i < words.size(); i++) {
+            byte[] bytes = words.get(i).getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(bytes, 0, data, bounds[i], bytes.length);
+        }
+        boolean[] result = new boolean[words.size()];
+        acceptAll(data, bounds, result);
+        return result;
+    }
+
+    private static int checkBounds(int[] bounds, boolean[] result) {
+        int count = bounds.length - 1;
+        if (count < 0 || result.length < count) {
+            throw new IllegalArgumentException("Expected " + Math.max(0, count) + " results for " + bounds.length + " bounds.");
+        }
+        return count;
+    }
+}
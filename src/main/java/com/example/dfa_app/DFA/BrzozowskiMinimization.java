@@ -0,0 +1,100 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Brzozowski's double reversal: determinize the reversed automaton, then reverse and determinize
+ * again. The second subset construction yields the minimal DFA directly, since the automaton it
+ * starts from is the reversal of a reachable DFA.
+ *
+ * Each determinization may be exponential, so this is not a general choice. It pays off for an NFA
+ * whose reversal is deterministic: the first step is then linear, and the only real subset
+ * construction already produces the minimal automaton instead of a large DFA that still has to be
+ * minimized.
+ */
+public class BrzozowskiMinimization implements MinimizationStrategy {
+
+    @Override
+    public String getName() {
+        return "brzozowski";
+    }
+
+    @Override
+    public CompiledDFA minimize(CompiledDFA trimmed) {
+        return determinizeReversed(determinizeReversed(trimmed));
+    }
+
+    @Override
+    public CompiledDFA minimize(NFA nfa) {
+        return determinizeReversed(new SubsetConstruction(reverse(nfa)).run(acceptingStates(nfa)));
+    }
+
+    // The subset construction drops the empty subset, so the result has no dead state.
+    private static CompiledDFA determinizeReversed(CompiledDFA dfa) {
+        int[] initial = new int[dfa.getStateCount()];
+        int count = 0;
+        for (int q = 0; q < dfa.getStateCount(); q++) {
+            if (dfa.isAccepting(q)) {
+                initial[count++] = q;
+            }
+        }
+        return new SubsetConstruction(reverse(dfa)).run(Arrays.copyOf(initial, count));
+    }
+
+    private static int[] acceptingStates(NFA nfa) {
+        int[] accepting = new int[nfa.getStateCount()];
+        int count = 0;
+        for (int q = 0; q < nfa.getStateCount(); q++) {
+            if (nfa.isAccepting(q)) {
+                accepting[count++] = q;
+            }
+        }
+        return Arrays.copyOf(accepting, count);
+    }
+
+    // --- Reversal ---
+    // The former accepting states are the initial states of a reversal (passed to the subset
+    // construction), and the former initial state is its only accepting state. A single extra
+    // initial state would end up in the first subset and make it differ from equivalent ones.
+    // The alphabet keeps its order.
+
+    static NFA reverse(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        NFA reversed = new NFA();
+        addAlphabet(reversed, dfa.getAlphabet());
+        for (int q = 0; q < n; q++) {
+            reversed.addState(null, q == dfa.getInitialState());
+        }
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    reversed.addEdge(t, a, q);
+                }
+            }
+        }
+        return reversed;
+    }
+
+    static NFA reverse(NFA nfa) {
+        int n = nfa.getStateCount();
+        NFA reversed = new NFA();
+        addAlphabet(reversed, nfa.getAlphabet());
+        for (int q = 0; q < n; q++) {
+            reversed.addState(null, q == nfa.getInitialState());
+        }
+        for (int e = 0; e < nfa.getEdgeCount(); e++) {
+            reversed.addEdge(nfa.edgeTo(e), nfa.edgeSymbol(e), nfa.edgeFrom(e));
+        }
+        return reversed;
+    }
+
+    private static void addAlphabet(NFA nfa, String[] alphabet) {
+        for (String symbol : alphabet) {
+            if (nfa.addSymbol(symbol) == NFA.EPSILON_INDEX) {
+                throw new IllegalArgumentException("'" + NFA.EPSILON + "' cannot be a symbol of a DFA.");
+            }
+        }
+    }
+}
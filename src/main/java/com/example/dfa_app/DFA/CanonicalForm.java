@@ -0,0 +1,165 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Canonical numbering and 128-bit hash of a deterministic automaton.
+ *
+ * The symbols are sorted and the states reachable from the initial state are renumbered in BFS
+ * order, following the symbols in that order; unreachable states are dropped. Two automata that
+ * differ only in the order of their states or symbols therefore get the same canonical form and hash.
+ * For minimal (trimmed) automata over the same alphabet, equal canonical forms mean equal languages.
+ */
+public final class CanonicalForm {
+
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+
+    private final CompiledDFA dfa;
+    private final AutomatonHash hash;
+    private final int[] canonicalIndex;
+
+    private CanonicalForm(CompiledDFA dfa, AutomatonHash hash, int[] canonicalIndex) {
+        this.dfa = dfa;
+        this.hash = hash;
+        this.canonicalIndex = canonicalIndex;
+    }
+
+    /**
+     * Computes the canonical form in O(states * symbols), plus sorting the symbols.
+     */
+    public static CanonicalForm of(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        String[] alphabet = dfa.getAlphabet();
+        Integer[] order = new Integer[k];
+        for (int a = 0; a < k; a++) {
+            order[a] = a;
+        }
+        Arrays.sort(order, (x, y) -> alphabet[x].compareTo(alphabet[y]));
+        String[] sortedAlphabet = new String[k];
+        for (int a = 0; a < k; a++) {
+            sortedAlphabet[a] = alphabet[order[a]];
+        }
+
+        // BFS; the queue doubles as the map from canonical to original index.
+        int[] canonicalIndex = new int[n];
+        Arrays.fill(canonicalIndex, CompiledDFA.NO_TRANSITION);
+        int[] queue = new int[n];
+        int count = 0;
+        canonicalIndex[dfa.getInitialState()] = 0;
+        queue[count++] = dfa.getInitialState();
+        for (int head = 0; head < count; head++) {
+            int q = queue[head];
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, order[a]);
+                if (t != CompiledDFA.NO_TRANSITION && canonicalIndex[t] == CompiledDFA.NO_TRANSITION) {
+                    canonicalIndex[t] = count;
+                    queue[count++] = t;
+                }
+            }
+        }
+
+        int[] delta = new int[count * k];
+        boolean[] accepting = new boolean[count];
+        String[] names = new String[count];
+        for (int c = 0; c < count; c++) {
+            int q = queue[c];
+            accepting[c] = dfa.isAccepting(q);
+            names[c] = "P" + c;
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, order[a]);
+                delta[c * k + a] = t == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : canonicalIndex[t];
+            }
+        }
+        CompiledDFA canonical = new CompiledDFA(sortedAlphabet, delta, accepting, 0, names);
+        return new CanonicalForm(canonical, hash(canonical), canonicalIndex);
+    }
+
+    private static AutomatonHash hash(CompiledDFA dfa) {
+        long high = SEED_HIGH;
+        long low = SEED_LOW;
+        int k = dfa.getSymbolCount();
+        // Symbols, then the state count, then per state its accepting flag and row.
+        for (int a = 0; a < k; a++) {
+            String symbol = dfa.getSymbol(a);
+            high = step(high, symbol.length(), 31);
+            low = step(low, symbol.length(), 29);
+            for (int i = 0; i < symbol.length(); i++) {
+                high = step(high, symbol.charAt(i), 31);
+                low = step(low, symbol.charAt(i), 29);
+            }
+        }
+        high = step(high, dfa.getStateCount(), 31);
+        low = step(low, dfa.getStateCount(), 29);
+        for (int q = 0; q < dfa.getStateCount(); q++) {
+            long flag = dfa.isAccepting(q) ? 1 : 0;
+            high = step(high, flag, 31);
+            low = step(low, flag, 29);
+            for (int a = 0; a < k; a++) {
+                int target = dfa.next(q, a);
+                high = step(high, target, 31);
+                low = step(low, target, 29);
+            }
+        }
+        return new AutomatonHash(finish(high), finish(low));
+    }
+
+    // Two lanes with different rotations so that they do not collide together.
+    private static long step(long h, long value, int rotation) {
+        h ^= value * 0x87C37B91114253D5L;
+        return Long.rotateLeft(h, rotation) * 0x4CF5AD432745937FL + 0x52DCE729L;
+    }
+
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    // --- Results ---
+    /**
+     * The renumbered automaton: sorted alphabet, initial state 0, states named P0, P1, ...
+     */
+    public CompiledDFA getDFA() {
+        return dfa;
+    }
+
+    public AutomatonHash getHash() {
+        return hash;
+    }
+
+    /**
+     * Canonical index of an original state, or {@link CompiledDFA#NO_TRANSITION} if it is unreachable.
+     */
+    public int canonicalIndexOf(int state) {
+        return canonicalIndex[state];
+    }
+
+    /**
+     * True if the two minimal automata accept the same language. The hashes are compared first;
+     * the tables are compared only when they match, so a hash collision cannot give a wrong answer.
+     */
+    public static boolean sameLanguage(CanonicalForm first, CanonicalForm second) {
+        if (!first.hash.equals(second.hash)) {
+            return false;
+        }
+        CompiledDFA a = first.dfa;
+        CompiledDFA b = second.dfa;
+        if (!Arrays.equals(a.getAlphabet(), b.getAlphabet())
+                || !Arrays.equals(a.acceptingTable(), b.acceptingTable())) {
+            return false;
+        }
+        // Cell by cell, so that a compressed table is not expanded.
+        for (int q = 0; q < a.getStateCount(); q++) {
+            for (int symbol = 0; symbol < a.getSymbolCount(); symbol++) {
+                if (a.next(q, symbol) != b.next(q, symbol)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Row displacement ("comb vector") table with a default target per state.
+ *
+ * Each state has a default target, the value that occurs most often in its row (usually
+ * {@link CompiledDFA#NO_TRANSITION}). Only the other entries, the exceptions, are stored: the rows
+ * are overlaid in two shared arrays, each row shifted by its own base so that its exceptions land in
+ * free slots. A lookup is one bounds check and one owner check:
+ *
+ * <pre>
+ * i = base[state] + symbol
+ * next = (i &lt; owner.length &amp;&amp; owner[i] == state) ? target[i] : defaults[state]
+ * </pre>
+ *
+ * Rows are placed first-fit, the ones with the most exceptions first; free slots are found through
+ * a union-find "next free slot" array, and a row that does not fit after a bounded number of
+ * attempts is appended at the end, which keeps the construction close to linear.
+ */
+public final class CombTransitionTable implements TransitionTable {
+
+    private static final int FREE = -1;
+    // Candidate bases tried per row before it is appended at the end.
+    private static final int MAX_ATTEMPTS = 64;
+
+    private final int stateCount;
+    private final int symbolCount;
+    private final int[] base;
+    private final int[] defaults;
+    private final int[] owner;
+    private final int[] target;
+
+    public CombTransitionTable(int[] delta, int stateCount, int symbolCount) {
+        if (delta.length != stateCount * symbolCount) {
+            throw new IllegalArgumentException("Transition table size does not match states and alphabet.");
+        }
+        this.stateCount = stateCount;
+        this.symbolCount = symbolCount;
+        base = new int[stateCount];
+        defaults = new int[stateCount];
+
+        // Defaults and exception counts.
+        int[] exceptions = new int[stateCount];
+        int[] row = new int[symbolCount];
+        for (int q = 0; q < stateCount; q++) {
+            System.arraycopy(delta, q * symbolCount, row, 0, symbolCount);
+            defaults[q] = mostFrequent(row);
+            for (int a = 0; a < symbolCount; a++) {
+                if (delta[q * symbolCount + a] != defaults[q]) {
+                    exceptions[q]++;
+                }
+            }
+        }
+
+        // Place the rows, fullest first.
+        Integer[] order = new Integer[stateCount];
+        for (int q = 0; q < stateCount; q++) {
+            order[q] = q;
+        }
+        Arrays.sort(order, (x, y) -> Integer.compare(exceptions[y], exceptions[x]));
+        int[] slots = new int[Math.max(16, symbolCount)];
+        Arrays.fill(slots, FREE);
+        // nextFree[i] leads (with path compression) to the first free slot at or after i.
+        int[] nextFree = new int[slots.length];
+        for (int i = 0; i < nextFree.length; i++) {
+            nextFree[i] = i;
+        }
+        int used = 0;
+        int[] columns = new int[symbolCount];
+        for (int q : order) {
+            if (exceptions[q] == 0) {
+                break;
+            }
+            int count = 0;
+            for (int a = 0; a < symbolCount; a++) {
+                if (delta[q * symbolCount + a] != defaults[q]) {
+                    columns[count++] = a;
+                }
+            }
+            // Try the bases that put the first exception on a free slot; after a bounded number of
+            // attempts, append the row behind everything placed so far.
+            int b = -1;
+            int slot = findFree(nextFree, columns[0]);
+            for (int attempt = 0; attempt < MAX_ATTEMPTS && slot - columns[0] < used; attempt++) {
+                if (fits(slots, columns, count, slot - columns[0])) {
+                    b = slot - columns[0];
+                    break;
+                }
+                slot = findFree(nextFree, slot + 1);
+            }
+            if (b < 0) {
+                b = Math.max(0, used - columns[0]);
+            }
+            int end = b + columns[count - 1] + 1;
+            if (end > slots.length) {
+                int oldLength = slots.length;
+                int newLength = Math.max(end, oldLength * 2);
+                slots = Arrays.copyOf(slots, newLength);
+                Arrays.fill(slots, oldLength, newLength, FREE);
+                nextFree = Arrays.copyOf(nextFree, newLength);
+                for (int i = oldLength; i < newLength; i++) {
+                    nextFree[i] = i;
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                int s = b + columns[i];
+                slots[s] = q;
+                nextFree[s] = s + 1;
+            }
+            base[q] = b;
+            used = Math.max(used, end);
+        }
+
+        owner = Arrays.copyOf(slots, used);
+        target = new int[used];
+        for (int i = 0; i < used; i++) {
+            if (owner[i] != FREE) {
+                target[i] = delta[owner[i] * symbolCount + (i - base[owner[i]])];
+            }
+        }
+    }
+
+    private static int findFree(int[] nextFree, int i) {
+        int root = i;
+        while (root < nextFree.length && nextFree[root] != root) {
+            root = nextFree[root];
+        }
+        while (i < nextFree.length && nextFree[i] != i) {
+            int next = nextFree[i];
+            nextFree[i] = root;
+            i = next;
+        }
+        return root;
+    }
+
+    private static boolean fits(int[] slots, int[] columns, int count, int b) {
+        for (int i = 0; i < count; i++) {
+            int slot = b + columns[i];
+            if (slot < slots.length && slots[slot] != FREE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // May sort the row in place.
+    private static int mostFrequent(int[] row) {
+        int missing = 0;
+        for (int t : row) {
+            if (t == CompiledDFA.NO_TRANSITION) {
+                missing++;
+            }
+        }
+        // The common sparse case: more than half of the row is missing, so no need to sort.
+        if (missing * 2 > row.length) {
+            return CompiledDFA.NO_TRANSITION;
+        }
+        Arrays.sort(row);
+        int best = row.length == 0 ? CompiledDFA.NO_TRANSITION : row[0];
+        int bestRun = 0;
+        for (int i = 0; i < row.length; ) {
+            int j = i;
+            while (j < row.length && row[j] == row[i]) {
+                j++;
+            }
+            if (j - i > bestRun) {
+                bestRun = j - i;
+                best = row[i];
+            }
+            i = j;
+        }
+        return best;
+    }
+
+    /**
+     * Quick estimate of the compressed size: a base and a default per state, two ints per exception.
+     * Counts the entries that differ from {@link CompiledDFA#NO_TRANSITION} or from the first entry
+     * of the row, whichever is fewer, so that it never needs to sort.
+     */
+    static long estimateBytes(int[] delta, int stateCount, int symbolCount) {
+        long exceptions = 0;
+        for (int q = 0; q < stateCount; q++) {
+            int first = delta[q * symbolCount];
+            int notMissing = 0;
+            int notFirst = 0;
+            for (int a = 0; a < symbolCount; a++) {
+                int t = delta[q * symbolCount + a];
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    notMissing++;
+                }
+                if (t != first) {
+                    notFirst++;
+                }
+            }
+            exceptions += Math.min(notMissing, notFirst);
+        }
+        return (2L * stateCount + 2L * exceptions) * Integer.BYTES;
+    }
+
+    @Override
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    @Override
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    @Override
+    public int next(int state, int symbol) {
+        int i = base[state] + symbol;
+        return i < owner.length && owner[i] == state ? target[i] : defaults[state];
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return (2L * stateCount + 2L * owner.length) * Integer.BYTES;
+    }
+
+    @Override
+    public int[] toDense() {
+        int[] delta = new int[stateCount * symbolCount];
+        for (int q = 0; q < stateCount; q++) {
+            for (int a = 0; a < symbolCount; a++) {
+                delta[q * symbolCount + a] = next(q, a);
+            }
+        }
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        return "CombTransitionTable[" + stateCount + " x " + symbolCount + ", " + owner.length
+                + " slots, " + getMemoryBytes() + " bytes]";
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact, index based form of an automaton.
+ * States are numbered 0..n-1, symbols 0..k-1 and the transition function is a {@link TransitionTable}
+ * (row = state, column = symbol). A missing transition is stored as {@link #NO_TRANSITION}.
+ * The table is compressed automatically when most states only use a few symbols.
+ * It holds no JavaFX nodes, so it can be built and processed without the UI.
+ */
+public class CompiledDFA {
+
+    public static final int NO_TRANSITION = -1;
+
+    private final String[] alphabet;
+    private final TransitionTable table;
+    private final boolean[] accepting;
+    private final int initialState;
+    private final String[] stateNames;
+    // Built on first use; volatile so that a copy shared between threads sees a complete map.
+    private volatile Map<String, Integer> symbolIndex;
+
+    /**
+     * @param alphabet     The symbols, in column order.
+     * @param delta        Transition table of size stateCount * alphabet.length.
+     * @param accepting    Accepting flag per state.
+     * @param initialState Index of the initial state.
+     * @param stateNames   Optional display names (may be null).
+     */
+    public CompiledDFA(String[] alphabet, int[] delta, boolean[] accepting, int initialState, String[] stateNames) {
+        this(alphabet, TransitionTable.of(checkSize(delta, accepting, alphabet), accepting.length, alphabet.length),
+                accepting, initialState, stateNames);
+    }
+
+    /**
+     * Uses the given table as it is.
+     */
+    public CompiledDFA(String[] alphabet, TransitionTable table, boolean[] accepting, int initialState, String[] stateNames) {
+        if (table.getStateCount() != accepting.length || table.getSymbolCount() != alphabet.length) {
+            throw new IllegalArgumentException("Transition table size does not match states and alphabet.");
+        }
+        this.alphabet = alphabet;
+        this.table = table;
+        this.accepting = accepting;
+        this.initialState = initialState;
+        this.stateNames = stateNames;
+    }
+
+    private static int[] checkSize(int[] delta, boolean[] accepting, String[] alphabet) {
+        if (delta.length != accepting.length * alphabet.length) {
+            throw new IllegalArgumentException("Transition table size does not match states and alphabet.");
+        }
+        return delta;
+    }
+
+    // --- Getters ---
+    public int getStateCount() {
+        return accepting.length;
+    }
+
+    public int getSymbolCount() {
+        return alphabet.length;
+    }
+
+    public String getSymbol(int symbol) {
+        return alphabet[symbol];
+    }
+
+    public String[] getAlphabet() {
+        return alphabet.clone();
+    }
+
+    public int getInitialState() {
+        return initialState;
+    }
+
+    public boolean isAccepting(int state) {
+        return accepting[state];
+    }
+
+    public String getStateName(int state) {
+        if (stateNames != null && stateNames[state] != null) {
+            return stateNames[state];
+        }
+        return "q" + state;
+    }
+
+    public boolean hasStateNames() {
+        return stateNames != null;
+    }
+
+    /**
+     * Returns the target of the transition, or {@link #NO_TRANSITION} if there is none.
+     */
+    public int next(int state, int symbol) {
+        return table.next(state, symbol);
+    }
+
+    public TransitionTable getTransitions() {
+        return table;
+    }
+
+    /**
+     * Returns the index of the given symbol, or -1 if it is not part of the alphabet.
+     */
+    public int indexOfSymbol(String symbol) {
+        Map<String, Integer> index = symbolIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (int i = 0; i < alphabet.length; i++) {
+                index.put(alphabet[i], i);
+            }
+            symbolIndex = index;
+        }
+        Integer i = index.get(symbol);
+        return i == null ? -1 : i;
+    }
+
+    // Direct access for the algorithms in this package; callers must not modify the array.
+    // The transitions are read through next() or getTransitions(), which never expand a compressed table.
+    boolean[] acceptingTable() {
+        return accepting;
+    }
+
+    // --- Running words ---
+    /**
+     * Runs the word (one symbol per element) from the initial state.
+     * @return true if the word ends in an accepting state.
+     */
+    public boolean accepts(String... word) {
+        int state = initialState;
+        for (String symbol : word) {
+            int a = indexOfSymbol(symbol);
+            if (a < 0) {
+                return false;
+            }
+            state = next(state, a);
+            if (state == NO_TRANSITION) {
+                return false;
+            }
+        }
+        return accepting[state];
+    }
+
+    /**
+     * Returns the number of defined (non-missing) transitions.
+     */
+    public long getTransitionCount() {
+        long count = 0;
+        for (int q = 0; q < accepting.length; q++) {
+            for (int a = 0; a < alphabet.length; a++) {
+                if (table.next(q, a) != NO_TRANSITION) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledDFA[states=" + getStateCount() + ", alphabet=" + Arrays.toString(alphabet)
+                + ", initial=" + initialState + "]";
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.dfa_app.DFA;
 
-import javafx.animation.ScaleTransition;
 import javafx.scene.Cursor;
 import javafx.scene.Group;
 import javafx.scene.paint.Color;
@@ -27,6 +26,7 @@ public class CurvedArrow extends Group {
 
     private boolean selected = false;
     private boolean complete = false;
+    private boolean detailed = true;
 
     // Constants for arrowhead dimensions.
     private static final double ARROW_LENGTH = 15.0;
@@ -76,6 +76,7 @@ public class CurvedArrow extends Group {
         this.startY = y;
         curve.setStartX(x);
         curve.setStartY(y);
+        applyControl();
         updateArrowHead();
     }
 
@@ -84,19 +85,27 @@ public class CurvedArrow extends Group {
         this.endY = y;
         curve.setEndX(x);
         curve.setEndY(y);
+        applyControl();
         updateArrowHead();
     }
 
     public void setControl(double x, double y) {
         this.controlX = x;
         this.controlY = y;
-        curve.setControlX(x);
-        curve.setControlY(y);
+        applyControl();
         controlPoint.setCenterX(x);
         controlPoint.setCenterY(y);
         updateArrowHead();
     }
 
+    public double getControlX() {
+        return controlX;
+    }
+
+    public double getControlY() {
+        return controlY;
+    }
+
     // Given a parameter t, computes the point on the quadratic curve.
     private double[] getCurvePoint(double t) {
         double oneMinusT = 1 - t;
@@ -115,11 +124,22 @@ public class CurvedArrow extends Group {
 
     // Updates the arrow head’s geometry based on the curve’s midpoint.
     public void updateArrowHead() {
+        layoutArrowHead();
+        if (complete && detailed) {
+            animateArrowHead();
+        }
+    }
+
+    // The tip is always kept (labels are placed on it); the head itself only when it is shown.
+    private void layoutArrowHead() {
         double t = 0.5;
         double[] midPoint = getCurvePoint(t);
         arrowTipX = midPoint[0];
         arrowTipY = midPoint[1];
 
+        if (!detailed) {
+            return;
+        }
         double[] derivative = getCurveDerivative(t);
         double angle = Math.atan2(derivative[1], derivative[0]);
 
@@ -130,22 +150,11 @@ public class CurvedArrow extends Group {
         double rightX = baseX - ARROW_WIDTH * Math.sin(angle);
         double rightY = baseY + ARROW_WIDTH * Math.cos(angle);
         arrowHead.getPoints().setAll(arrowTipX, arrowTipY, leftX, leftY, rightX, rightY);
-
-        if (complete) {
-            animateArrowHead();
-        }
     }
 
-    // Plays a pulse animation on the arrow head when finalized.
+    // Plays a pulse animation on the arrow head when finalized (merged with one still running).
     private void animateArrowHead() {
-        ScaleTransition st = new ScaleTransition(Duration.millis(200), arrowHead);
-        st.setFromX(1);
-        st.setFromY(1);
-        st.setToX(1.7);
-        st.setToY(1.7);
-        st.setCycleCount(2);
-        st.setAutoReverse(true);
-        st.play();
+        AnimationScheduler.pulse(arrowHead, 1.7, Duration.millis(200));
     }
 
     // Returns the arrow tip coordinates.
@@ -174,14 +183,45 @@ public class CurvedArrow extends Group {
         return selected;
     }
 
+    // Marks the arrow taken by a simulation step; independent of the selection.
+    public void setHighlighted(boolean highlighted) {
+        curve.setStroke(highlighted ? Color.ORANGE : selected ? Color.BLUE : Color.BLACK);
+        curve.setStrokeWidth(highlighted ? 4 : 2);
+        arrowHead.setFill(highlighted ? Color.ORANGE : Color.BLACK);
+    }
+
     // Sets the cursor on this group and its relevant child nodes.
     private void setArrow(Cursor cursor) {
-        this.setArrow(cursor);
+        this.setCursor(cursor);
         curve.setCursor(cursor);
         controlPoint.setCursor(cursor);
         // Do not change the arrow head’s cursor so that it remains purely decorative.
     }
 
+    // --- Level of Detail ---
+    /**
+     * Without detail the arrow is drawn as a straight line without head; the control point is kept.
+     */
+    public void setDetailed(boolean detailed) {
+        if (this.detailed == detailed) {
+            return;
+        }
+        this.detailed = detailed;
+        arrowHead.setVisible(detailed);
+        applyControl();
+        layoutArrowHead();
+    }
+
+    public boolean isDetailed() {
+        return detailed;
+    }
+
+    // A quadratic curve whose control point is the middle of its ends is a straight line.
+    private void applyControl() {
+        curve.setControlX(detailed ? controlX : (startX + endX) / 2);
+        curve.setControlY(detailed ? controlY : (startY + endY) / 2);
+    }
+
     // Mark the arrow as complete (to trigger animation, etc.).
     public void setComplete(boolean complete) {
         this.complete = complete;
@@ -2,7 +2,15 @@ package com.example.dfa_app.DFA;
 
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.Stream;
 
 public class DFA {
     private Set<State> states;
@@ -10,6 +18,13 @@ public class DFA {
     private State initialState;
     private Set<State> acceptingStates;
     private Pane pane;
+    // Owns the names of the states this DFA creates; replaced whenever the states are rebuilt.
+    private AutomatonDocument document = new AutomatonDocument();
+    // Kept from the last minimization for separating-word queries.
+    private List<State> lastOrder;
+    private CompiledDFA lastCompiled;
+    private MinimizationCache minimizationCache;
+    private MinimizationStrategy minimizationStrategy = MinimizationStrategy.AUTO;
 
     public DFA() {
         states = new HashSet<>();
@@ -17,6 +32,37 @@ public class DFA {
         acceptingStates = new HashSet<>();
     }
 
+    // --- Getters ---
+    public Set<State> getStates() {
+        return Collections.unmodifiableSet(states);
+    }
+
+    public State getInitialState() {
+        return initialState;
+    }
+
+    public AutomatonDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * Cache consulted by {@link #minimizeDFA()}; null (the default) disables it.
+     */
+    public void setMinimizationCache(MinimizationCache cache) {
+        this.minimizationCache = cache;
+    }
+
+    /**
+     * Algorithm used by {@link #minimizeDFA()}; {@link MinimizationStrategy#AUTO} by default.
+     * Only Moore's method prints its rounds (AUTO uses it for small automata).
+     */
+    public void setMinimizationStrategy(MinimizationStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("The minimization strategy cannot be null.");
+        }
+        this.minimizationStrategy = strategy;
+    }
+
     /**
      * Configures the DFA using already created State objects.
      *
@@ -33,35 +79,112 @@ public class DFA {
      * - The complete transition function.
      */
     public String getDFAData() {
-        StringBuilder sb = new StringBuilder();
+        StringWriter out = new StringWriter();
+        try {
+            writeDFAData(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen in memory
+        }
+        return out.toString();
+    }
 
-        sb.append("----- DFA Data -----\n");
-        sb.append("States:\n");
+    /**
+     * Writes the text of {@link #getDFAData()} piece by piece, without building it in memory first.
+     */
+    public void writeDFAData(Writer out) throws IOException {
+        out.write("----- DFA Data -----\n");
+        out.write("States:\n");
         for (State state : states) {
-            sb.append("  ");
-            sb.append(state.getName());
+            out.write("  ");
+            out.write(state.getName());
             if (state.equals(initialState)) {
-                sb.append(" [initial]");
+                out.write(" [initial]");
             }
             if (state.isAccepting()) {
-                sb.append(" [accepting]");
+                out.write(" [accepting]");
             }
-            sb.append("\n");
+            out.write('\n');
         }
 
-        sb.append("\nAlphabet: ").append(alphabet).append("\n\n");
+        out.write("\nAlphabet: ");
+        out.write(alphabet.toString());
+        out.write("\n\n");
 
-        sb.append("Transitions:\n");
+        out.write("Transitions:\n");
         for (State state : states) {
             for (Transition t : state.getTransitions()) {
                 // Check to avoid null pointer exceptions if transitions are incomplete.
                 if (t.getSymbol() != null && t.getNextState() != null) {
-                    sb.append(String.format("  δ(%s, %s) = %s\n", state.getName(), t.getSymbol(), t.getNextState().getName()));
+                    out.write("  δ(");
+                    out.write(state.getName());
+                    out.write(", ");
+                    out.write(t.getSymbol());
+                    out.write(") = ");
+                    out.write(t.getNextState().getName());
+                    out.write('\n');
                 }
             }
         }
-        sb.append("--------------------");
-        return sb.toString();
+        out.write("--------------------");
+    }
+
+    /**
+     * Streams the current automaton to the writer in the exporter's format (see {@link AutomatonExporter}).
+     * The states are read through {@link #view()}, so nothing is copied first.
+     */
+    public void exportDFA(AutomatonExporter exporter, Writer out) throws IOException {
+        if (initialState == null) {
+            throw new IllegalStateException("The DFA has no initial state.");
+        }
+        exporter.export(view(), out);
+    }
+
+    /**
+     * A live view of the states, read the same way as {@link #compile(List)}: the initial state
+     * first, the alphabet sorted without ε, the first transition on each symbol, and transitions into
+     * removed states treated as missing.
+     */
+    public AutomatonView<State> view() {
+        String[] symbols = alphabet.stream().filter(a -> !NFA.EPSILON.equals(a)).sorted().toArray(String[]::new);
+        return new AutomatonView<>() {
+            @Override
+            public int getSymbolCount() {
+                return symbols.length;
+            }
+
+            @Override
+            public String getSymbol(int symbol) {
+                return symbols[symbol];
+            }
+
+            @Override
+            public State getInitialState() {
+                return initialState;
+            }
+
+            @Override
+            public Iterable<State> getStates() {
+                return () -> Stream.concat(Stream.of(initialState),
+                        states.stream().filter(state -> !state.equals(initialState))).iterator();
+            }
+
+            @Override
+            public String getName(State state) {
+                return state.getName();
+            }
+
+            @Override
+            public boolean isAccepting(State state) {
+                return state.isAccepting();
+            }
+
+            @Override
+            public State next(State state, int symbol) {
+                Transition t = state.getTransition(symbols[symbol]);
+                State target = t == null ? null : t.getNextState();
+                return target != null && states.contains(target) ? target : null;
+            }
+        };
     }
 
     public void configureDFA(List<State> stateList,
@@ -88,6 +211,7 @@ public class DFA {
 
     /**
      * Alternative configuration method that creates states and transitions from names.
+     * Replaces whatever was configured before, in a new document.
      *
      * @param stateNames           List of state names.
      * @param alphabet             Set of alphabet symbols.
@@ -101,15 +225,22 @@ public class DFA {
                              List<String> acceptingStateNames,
                              Map<String, Map<String, String>> transitionsData) {
         Map<String, State> stateMap = new HashMap<>();
+        document = new AutomatonDocument();
+        this.states = new HashSet<>();
+        this.alphabet = new HashSet<>();
+        this.acceptingStates = new HashSet<>();
         for (String name : stateNames) {
             // Create states using your parameterized constructor.
             // Defaults: center at (50,50), radius 15, color LIGHTGRAY—adjust as needed.
-            State s = new State(50, 50, 15, Color.LIGHTGRAY, name);
+            State s = new State(50, 50, 15, Color.LIGHTGRAY, name, document);
             stateMap.put(name, s);
             states.add(s);
         }
         this.alphabet.addAll(alphabet);
         this.initialState = stateMap.get(initialStateName);
+        if (initialState != null) {
+            document.setInitialState(initialState);
+        }
         for (String name : acceptingStateNames) {
             State s = stateMap.get(name);
             if (s != null) {
@@ -134,13 +265,145 @@ public class DFA {
         }
     }
 
+    /**
+     * Configuration method that creates states and transitions from a compiled automaton.
+     * The new states are laid out on a circle; missing transitions stay missing.
+     *
+     * @param compiled The automaton to load.
+     */
+    public void configureDFA(CompiledDFA compiled) {
+        int count = compiled.getStateCount();
+        double radius = Math.max(150, count * 12);
+        List<State> created = new ArrayList<>(count);
+        document = new AutomatonDocument();
+        states = new HashSet<>();
+        acceptingStates = new HashSet<>();
+        alphabet = new HashSet<>(Arrays.asList(compiled.getAlphabet()));
+        for (int q = 0; q < count; q++) {
+            double angle = 2 * Math.PI * q / count;
+            State s = new State(radius + 50 + radius * Math.cos(angle), radius + 50 + radius * Math.sin(angle),
+                    15, Color.LIGHTGRAY, compiled.getStateName(q), document);
+            if (compiled.isAccepting(q)) {
+                s.setAccepting(true);
+                acceptingStates.add(s);
+            }
+            created.add(s);
+            states.add(s);
+        }
+        for (int q = 0; q < count; q++) {
+            for (int a = 0; a < compiled.getSymbolCount(); a++) {
+                int target = compiled.next(q, a);
+                if (target != CompiledDFA.NO_TRANSITION) {
+                    created.get(q).addTransitionDirect(compiled.getSymbol(a), created.get(target));
+                }
+            }
+        }
+        initialState = created.get(compiled.getInitialState());
+        if (initialState != null) {
+            document.setInitialState(initialState);
+        }
+    }
+
+    /**
+     * Turns the automaton into an equivalent DFA using the subset construction.
+     * States with several transitions on one symbol, or with ε-transitions, are resolved here,
+     * so that the following steps always work on a deterministic automaton.
+     */
+    public void determinize() {
+        System.out.println("\n*** Step 0: Determinizing (Subset Construction) ***");
+        if (initialState == null) {
+            System.out.println("No initial state.");
+            return;
+        }
+        List<State> order = new ArrayList<>(states);
+        Map<State, Integer> index = new HashMap<>();
+        NFA nfa = new NFA();
+        for (State state : order) {
+            index.put(state, nfa.addState(state.getName(), state.isAccepting()));
+        }
+        for (State state : order) {
+            for (Transition t : state.getTransitions()) {
+                Integer target = index.get(t.getNextState());
+                if (t.getSymbol() != null && target != null) {
+                    nfa.addTransition(index.get(state), t.getSymbol(), target);
+                }
+            }
+        }
+        nfa.setInitialState(index.get(initialState));
+
+        if (nfa.isDeterministic()) {
+            System.out.println("Already deterministic.");
+            alphabet.remove(NFA.EPSILON);
+            return;
+        }
+
+        SubsetConstruction construction = new SubsetConstruction(nfa);
+        CompiledDFA compiled = construction.run();
+        String[] names = new String[compiled.getStateCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = construction.describeSubset(i);
+        }
+        configureDFA(new CompiledDFA(compiled.getAlphabet(), compiled.getTransitions(),
+                compiled.acceptingTable(), compiled.getInitialState(), names));
+        System.out.println("Subsets created: " + names.length);
+    }
+
+    /**
+     * Builds the index based form of the current automaton. The initial state becomes state 0,
+     * the alphabet is sorted and a missing transition is {@link CompiledDFA#NO_TRANSITION}.
+     * If a state has several transitions on one symbol, the first one is used.
+     *
+     * @param order Receives the State objects in index order (may be null).
+     */
+    public CompiledDFA compile(List<State> order) {
+        List<State> list = new ArrayList<>(states.size());
+        if (initialState != null) {
+            list.add(initialState);
+        }
+        for (State state : states) {
+            if (!state.equals(initialState)) {
+                list.add(state);
+            }
+        }
+        Map<State, Integer> index = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            index.put(list.get(i), i);
+        }
+        String[] symbols = alphabet.stream().filter(a -> !NFA.EPSILON.equals(a)).sorted().toArray(String[]::new);
+        int k = symbols.length;
+        int[] delta = new int[list.size() * k];
+        boolean[] accepting = new boolean[list.size()];
+        String[] names = new String[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            State state = list.get(i);
+            accepting[i] = state.isAccepting();
+            names[i] = state.getName();
+            for (int a = 0; a < k; a++) {
+                Transition t = state.getTransition(symbols[a]);
+                Integer target = t == null ? null : index.get(t.getNextState());
+                delta[i * k + a] = target == null ? CompiledDFA.NO_TRANSITION : target;
+            }
+        }
+        if (order != null) {
+            order.addAll(list);
+        }
+        return new CompiledDFA(symbols, delta, accepting, 0, names);
+    }
+
+    /**
+     * Returns language statistics (empty/finite/infinite, word counts) for the current automaton.
+     */
+    public LanguageAnalysis analyzeLanguage() {
+        return new LanguageAnalysis(compile(null));
+    }
+
     /**
      * Removes unreachable states from the DFA.
      */
     public void removeUnreachableStates() {
         System.out.println("\n*** Step 1: Removing Unreachable States ***");
         Set<State> reachableStates = new HashSet<>();
-        Queue<State> queue = new LinkedList<>();
+        Deque<State> queue = new ArrayDeque<>();
         reachableStates.add(initialState);
         queue.add(initialState);
 
@@ -165,60 +428,223 @@ public class DFA {
     }
 
     /**
-     * Minimizes the DFA using the partitioning method.
+     * Removes states from which no accepting state can be reached (BFS over reversed transitions).
+     * Transitions into removed states are then treated as missing by {@link #compile(List)} and left
+     * out when the minimized states are rebuilt, so they all lead to one implicit sink. The initial
+     * state is always kept.
+     */
+    public void removeDeadStates() {
+        System.out.println("\n*** Step 1b: Removing Dead States ***");
+        Map<State, List<State>> predecessors = new HashMap<>();
+        for (State state : states) {
+            for (Transition t : state.getTransitions()) {
+                State nextState = t.getNextState();
+                if (nextState != null) {
+                    predecessors.computeIfAbsent(nextState, s -> new ArrayList<>()).add(state);
+                }
+            }
+        }
+
+        Set<State> liveStates = new HashSet<>();
+        Deque<State> queue = new ArrayDeque<>();
+        for (State state : states) {
+            if (state.isAccepting() && liveStates.add(state)) {
+                queue.add(state);
+            }
+        }
+        while (!queue.isEmpty()) {
+            State current = queue.poll();
+            for (State previous : predecessors.getOrDefault(current, Collections.emptyList())) {
+                if (states.contains(previous) && liveStates.add(previous)) {
+                    queue.add(previous);
+                }
+            }
+        }
+
+        List<State> deadStates = new ArrayList<>();
+        for (State state : states) {
+            if (!liveStates.contains(state) && !state.equals(initialState)) {
+                deadStates.add(state);
+            }
+        }
+        states.removeAll(deadStates);
+
+        System.out.print("Dead States: ");
+        for (State state : deadStates) {
+            System.out.print(state.getName() + " ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Minimizes the DFA with the configured {@link MinimizationStrategy}; the partitioning method
+     * prints its rounds. Missing transitions all lead to one implicit sink (block -1); it is never
+     * added as a state.
      */
     public void minimizeDFA() {
         System.out.println("\n*** Step 2: Minimizing DFA using Partitioning Method ***");
+        if (initialState == null) {
+            System.out.println("No initial state.");
+            return;
+        }
 
-        List<Set<State>> partitions = new ArrayList<>();
-        Set<State> acceptingPartition = new HashSet<>();
-        Set<State> nonAcceptingPartition = new HashSet<>();
+        List<State> order = new ArrayList<>();
+        CompiledDFA compiled = compile(order);
+        lastOrder = order;
+        lastCompiled = compiled;
+
+        AutomatonHash key = null;
+        if (minimizationCache != null) {
+            key = CanonicalForm.of(compiled).getHash();
+            CompiledDFA cached = minimizationCache.get(key);
+            int[] cachedBlocks = cached == null ? null : blocksFromMinimal(compiled, cached);
+            if (cachedBlocks != null) {
+                System.out.println("Found in the minimization cache (" + key + ").");
+                rebuildDFA(toPartitions(order, cachedBlocks));
+                return;
+            }
+        }
 
-        for (State state : states) {
-            if (state.isAccepting()) {
-                acceptingPartition.add(state);
-            } else {
-                nonAcceptingPartition.add(state);
-            }
-        }
-
-        if (!nonAcceptingPartition.isEmpty()) partitions.add(nonAcceptingPartition);
-        if (!acceptingPartition.isEmpty()) partitions.add(acceptingPartition);
-
-        printPartitions(partitions);
-
-        boolean partitionsChanged;
-        int iteration = 0;
-        do {
-            partitionsChanged = false;
-            List<Set<State>> newPartitions = new ArrayList<>();
-
-            System.out.println("\nIteration " + iteration + ":");
-            for (Set<State> partition : partitions) {
-                Map<String, Set<State>> blockMap = new HashMap<>();
-                for (State state : partition) {
-                    StringBuilder signature = new StringBuilder();
-                    for (String symbol : alphabet) {
-                        // Assumes you have implemented getTransition(symbol) in State.
-                        Transition transition = state.getTransition(symbol);
-                        State nextState = (transition != null) ? (State) transition.getNextState() : null;
-                        int index = getPartitionIndex(partitions, nextState);
-                        signature.append(symbol).append("-P").append(index).append(";");
-                    }
-                    String sig = signature.toString();
-                    blockMap.computeIfAbsent(sig, k -> new HashSet<>()).add(state);
+        boolean printRounds = minimizationStrategy == MinimizationStrategy.MOORE
+                || (minimizationStrategy == MinimizationStrategy.AUTO && compiled.getStateCount() <= AutoMinimization.SMALL_STATES);
+        if (!printRounds) {
+            CompiledDFA minimal = Minimizer.minimize(compiled, minimizationStrategy);
+            int[] blocks = blocksFromMinimal(compiled, minimal);
+            if (blocks != null) {
+                System.out.println("Minimized with the " + minimizationStrategy.getName() + " strategy: "
+                        + compiled.getStateCount() + " -> " + minimal.getStateCount() + " states.");
+                if (key != null) {
+                    minimizationCache.put(key, minimal);
+                }
+                rebuildDFA(toPartitions(order, blocks));
+                return;
+            }
+            // Unreachable states have no block in the minimal automaton; refine them all instead.
+        }
+
+        PartitionRefinement refinement = new PartitionRefinement(compiled);
+        refinement.run((round, blocks, blockCount) -> {
+            if (round > 0) {
+                System.out.println("\nIteration " + (round - 1) + ":");
+            }
+            printPartitions(toPartitions(order, blocks, blockCount));
+        });
+
+        if (key != null) {
+            minimizationCache.put(key, CanonicalForm.of(Reachability.trim(refinement.toQuotient())).getDFA());
+        }
+        int[] blocks = new int[order.size()];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = refinement.blockOf(i);
+        }
+        rebuildDFA(toPartitions(order, blocks, refinement.getBlockCount()));
+    }
+
+    /**
+     * Maps every state to the state of the cached minimal automaton with the same language by running
+     * both side by side from their initial states; states that accept nothing share one extra block.
+     * Returns null if a state is unreachable or the two automata disagree (the entry does not fit).
+     */
+    private static int[] blocksFromMinimal(CompiledDFA dfa, CompiledDFA minimal) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        int dead = minimal.getStateCount();
+        int[] symbolMap = new int[k];
+        for (int a = 0; a < k; a++) {
+            symbolMap[a] = minimal.indexOfSymbol(dfa.getSymbol(a));
+        }
+        int[] blocks = new int[n];
+        Arrays.fill(blocks, -1);
+        int[] queue = new int[n];
+        int count = 0;
+        blocks[dfa.getInitialState()] = minimal.getInitialState();
+        queue[count++] = dfa.getInitialState();
+        for (int head = 0; head < count; head++) {
+            int q = queue[head];
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t == CompiledDFA.NO_TRANSITION) {
+                    continue;
                 }
-                if (blockMap.size() > 1) {
-                    partitionsChanged = true;
+                int m = blocks[q] == dead || symbolMap[a] < 0 ? CompiledDFA.NO_TRANSITION : minimal.next(blocks[q], symbolMap[a]);
+                int block = m == CompiledDFA.NO_TRANSITION ? dead : m;
+                if (blocks[t] < 0) {
+                    blocks[t] = block;
+                    queue[count++] = t;
+                } else if (blocks[t] != block) {
+                    return null;
                 }
-                newPartitions.addAll(blockMap.values());
             }
-            partitions = newPartitions;
-            printPartitions(partitions);
-            iteration++;
-        } while (partitionsChanged);
+        }
+        if (count < n) {
+            return null;
+        }
+        for (int q = 0; q < n; q++) {
+            boolean accepting = blocks[q] != dead && minimal.isAccepting(blocks[q]);
+            if (accepting != dfa.isAccepting(q)) {
+                return null;
+            }
+        }
+        return blocks;
+    }
+
+    private static List<Set<State>> toPartitions(List<State> order, int[] blocks) {
+        int blockCount = 0;
+        for (int block : blocks) {
+            blockCount = Math.max(blockCount, block + 1);
+        }
+        return toPartitions(order, blocks, blockCount);
+    }
 
-        rebuildDFA(partitions);
+    private static List<Set<State>> toPartitions(List<State> order, int[] blocks, int blockCount) {
+        List<Set<State>> partitions = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            partitions.add(new HashSet<>());
+        }
+        for (int i = 0; i < order.size(); i++) {
+            partitions.get(blocks[i]).add(order.get(i));
+        }
+        return partitions;
+    }
+
+    // --- Witness Queries ---
+    /**
+     * Shortest word that leads from the initial state to the given state, or null if it is unreachable.
+     */
+    public String[] shortestWordTo(State state) {
+        List<State> order = new ArrayList<>();
+        CompiledDFA compiled = compile(order);
+        int index = order.indexOf(state);
+        return index < 0 ? null : new Witnesses(compiled).shortestWordTo(index);
+    }
+
+    /**
+     * Shortest accepted word, or null if the automaton accepts nothing.
+     */
+    public String[] shortestAcceptedWord() {
+        if (initialState == null) {
+            return null;
+        }
+        return new Witnesses(compile(null)).shortestAcceptedWord();
+    }
+
+    /**
+     * Shortest word accepted from exactly one of the two states, in the automaton as it was before
+     * the last {@link #minimizeDFA()} run (the states are those from before minimization).
+     *
+     * @return the word, or null if the states are equivalent.
+     * @throws IllegalStateException if minimizeDFA has not run or the states were not part of it.
+     */
+    public String[] separatingWord(State first, State second) {
+        if (lastCompiled == null) {
+            throw new IllegalStateException("minimizeDFA has not been run.");
+        }
+        int p = lastOrder.indexOf(first);
+        int q = lastOrder.indexOf(second);
+        if (p < 0 || q < 0) {
+            throw new IllegalStateException("The states were not part of the last minimization.");
+        }
+        return Witnesses.separatingWord(lastCompiled, p, q);
     }
 
     /**
@@ -230,6 +656,7 @@ public class DFA {
         Set<State> newAcceptingStates = new HashSet<>();
         State newInitialState = null;
         int index = 0;
+        document = new AutomatonDocument();
 
         for (Set<State> partition : partitions) {
             State representative = partition.iterator().next();
@@ -239,7 +666,8 @@ public class DFA {
                     representative.getLayoutY(),
                     representative.getMainCircle().getRadius(),
                     (Color) representative.getMainCircle().getFill(),
-                    "P" + index
+                    "P" + index,
+                    document
             );
             if (partition.contains(initialState)) {
                 newInitialState = newState;
@@ -267,9 +695,10 @@ public class DFA {
             for (String symbol : alphabet) {
                 Transition oldTransition = oldRepresentative.getTransition(symbol);
                 if (oldTransition != null) {
-                    State oldTarget = (State) oldTransition.getNextState();
-                    if (oldTarget != null) {
-                        State newTarget = stateMapping.get(oldTarget);
+                    // Targets removed by removeDeadStates have no partition: the edge goes to the
+                    // implicit sink and is left out, as in compile().
+                    State newTarget = stateMapping.get(oldTransition.getNextState());
+                    if (newTarget != null) {
                         newState.addTransitionDirect(symbol, newTarget);
                     }
                 }
@@ -279,18 +708,9 @@ public class DFA {
         states = newStates;
         acceptingStates = newAcceptingStates;
         initialState = newInitialState;
-    }
-
-    /**
-     * Helper method to get the partition index for a given state.
-     */
-    private int getPartitionIndex(List<Set<State>> partitions, State state) {
-        for (int i = 0; i < partitions.size(); i++) {
-            if (partitions.get(i).contains(state)) {
-                return i;
-            }
+        if (initialState != null) {
+            document.setInitialState(initialState);
         }
-        return -1;
     }
 
     /**
@@ -310,32 +730,14 @@ public class DFA {
     }
 
     /**
-     * Prints the minimized DFA details to the console.
+     * Prints the minimized DFA as a transition table to the console.
      */
     public void printMinimizedDFA() {
         System.out.println("\n*** Minimized DFA ***");
-        System.out.print("States: ");
-        for (State state : states) {
-            System.out.print(state.getName() + " ");
-        }
-        System.out.println();
-
-        System.out.println("Alphabet: " + alphabet);
-
-        System.out.println("Initial State: " + initialState.getName());
-
-        System.out.print("Accepting States: ");
-        for (State state : acceptingStates) {
-            System.out.print(state.getName() + " ");
-        }
-        System.out.println();
-
-        System.out.println("Transition Function:");
-        for (State state : states) {
-            for (Transition t : state.getTransitions()) {
-                System.out.println("δ(" + state.getName() + ", " + t.getSymbol() + ") = " +
-                        t.getNextState().getName());
-            }
+        try {
+            exportDFA(new TableExporter(), new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
@@ -0,0 +1,50 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * One int per state and symbol, in one flat array (row = state, column = symbol).
+ */
+public final class DenseTransitionTable implements TransitionTable {
+
+    private final int[] delta;
+    private final int stateCount;
+    private final int symbolCount;
+
+    public DenseTransitionTable(int[] delta, int stateCount, int symbolCount) {
+        if (delta.length != stateCount * symbolCount) {
+            throw new IllegalArgumentException("Transition table size does not match states and alphabet.");
+        }
+        this.delta = delta;
+        this.stateCount = stateCount;
+        this.symbolCount = symbolCount;
+    }
+
+    @Override
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    @Override
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    @Override
+    public int next(int state, int symbol) {
+        return delta[state * symbolCount + symbol];
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return (long) delta.length * Integer.BYTES;
+    }
+
+    @Override
+    public int[] toDense() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        return "DenseTransitionTable[" + stateCount + " x " + symbolCount + ", " + getMemoryBytes() + " bytes]";
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.dfa_app.DFA;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * Zoom (mouse wheel) and pan (middle button drag) for the diagram pane, with level of detail.
+ *
+ * At a scale of {@link #DETAIL_SCALE} or more everything is drawn in full. Below it only the
+ * elements near the center of the view keep their details, and below {@link #OVERVIEW_SCALE} none
+ * do: states become plain dots, transitions straight lines without head or label. Elements outside
+ * the view are hidden.
+ *
+ * States and transitions are kept in a uniform grid of {@link #CELL_SIZE} pane units, updated when
+ * their bounds change. A refresh, at most one per frame, visits the cells under the view and the
+ * elements shown in the previous frame, so its cost follows what is visible, not the size of the
+ * diagram. Zoomed far out the view covers many cells; then the occupied cells are visited instead.
+ */
+public class DiagramViewport {
+
+    public static final double MIN_SCALE = 0.05;
+    public static final double MAX_SCALE = 4;
+    public static final double DETAIL_SCALE = 0.75;
+    public static final double OVERVIEW_SCALE = 0.3;
+
+    // Radius of the detailed area between the two scales, as a part of the smaller side of the view.
+    private static final double DETAIL_RADIUS = 0.35;
+    private static final double ZOOM_PER_SCROLL_PIXEL = 1.0015;
+    /** Side of a grid cell in pane coordinates (about two states with their labels). */
+    static final double CELL_SIZE = 200;
+
+    private final Pane content;
+    private final Region view;
+    private final Scale scale = new Scale(1, 1, 0, 0);
+    private final Translate translate = new Translate();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    // --- Spatial index (FX thread) ---
+    // Cell key -> elements whose bounds touch the cell.
+    private final Map<Long, Set<Node>> cells = new HashMap<>();
+    // Element -> its cell range {x0, y0, x1, y1}, and the listener that marks it for re-indexing.
+    private final Map<Node, int[]> cellRanges = new HashMap<>();
+    private final Map<Node, InvalidationListener> boundsListeners = new HashMap<>();
+    // Elements whose bounds changed since the last refresh.
+    private final Set<Node> moved = new LinkedHashSet<>();
+    // Elements shown by the last refresh.
+    private Set<Node> shown = new HashSet<>();
+
+    // Last mouse position while panning.
+    private double panX;
+    private double panY;
+
+    /**
+     * @param content The pane holding the states and transitions; its transforms are replaced.
+     * @param view The region the pane is shown in; it is clipped and receives the zoom and pan gestures.
+     */
+    public DiagramViewport(Pane content, Region view) {
+        this.content = content;
+        this.view = view;
+        content.getTransforms().setAll(translate, scale);
+
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(view.widthProperty());
+        clip.heightProperty().bind(view.heightProperty());
+        view.setClip(clip);
+
+        view.addEventHandler(ScrollEvent.SCROLL, e -> {
+            zoomAt(e.getSceneX(), e.getSceneY(), Math.pow(ZOOM_PER_SCROLL_PIXEL, e.getDeltaY()));
+            e.consume();
+        });
+        view.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+            if (e.getButton() == MouseButton.MIDDLE) {
+                panX = e.getSceneX();
+                panY = e.getSceneY();
+                e.consume();
+            }
+        });
+        view.addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
+            if (e.isMiddleButtonDown()) {
+                panBy(e.getSceneX() - panX, e.getSceneY() - panY);
+                panX = e.getSceneX();
+                panY = e.getSceneY();
+                e.consume();
+            }
+        });
+
+        InvalidationListener viewChanged = obs -> scheduleRefresh();
+        scale.xProperty().addListener(viewChanged);
+        translate.xProperty().addListener(viewChanged);
+        translate.yProperty().addListener(viewChanged);
+        view.widthProperty().addListener(viewChanged);
+        view.heightProperty().addListener(viewChanged);
+        content.getChildren().addListener((ListChangeListener<Node>) change -> {
+            while (change.next()) {
+                for (Node node : change.getRemoved()) {
+                    untrack(node);
+                }
+                for (Node node : change.getAddedSubList()) {
+                    track(node);
+                }
+            }
+            scheduleRefresh();
+        });
+        for (Node node : content.getChildren()) {
+            track(node);
+        }
+    }
+
+    // --- Zoom and Pan ---
+    /**
+     * Zooms by the given factor, keeping the point under the given scene position in place.
+     */
+    public void zoomAt(double sceneX, double sceneY, double factor) {
+        double newScale = Math.max(MIN_SCALE, Math.min(scale.getX() * factor, MAX_SCALE));
+        Point2D before = content.sceneToLocal(sceneX, sceneY);
+        scale.setX(newScale);
+        scale.setY(newScale);
+        Point2D after = content.sceneToLocal(sceneX, sceneY);
+        translate.setX(translate.getX() + (after.getX() - before.getX()) * newScale);
+        translate.setY(translate.getY() + (after.getY() - before.getY()) * newScale);
+    }
+
+    /**
+     * Zooms by the given factor around the center of the view.
+     */
+    public void zoomBy(double factor) {
+        Bounds bounds = view.localToScene(view.getLayoutBounds());
+        zoomAt(bounds.getCenterX(), bounds.getCenterY(), factor);
+    }
+
+    public void panBy(double dx, double dy) {
+        translate.setX(translate.getX() + dx);
+        translate.setY(translate.getY() + dy);
+    }
+
+    /**
+     * Back to a scale of 1 with the pane's origin in the top left corner.
+     */
+    public void reset() {
+        scale.setX(1);
+        scale.setY(1);
+        translate.setX(0);
+        translate.setY(0);
+    }
+
+    public double getScale() {
+        return scale.getX();
+    }
+
+    // --- Spatial Index (FX thread) ---
+    private void track(Node node) {
+        if (!(node instanceof State) && !(node instanceof Transition) || boundsListeners.containsKey(node)) {
+            return;
+        }
+        InvalidationListener listener = obs -> {
+            moved.add(node);
+            scheduleRefresh();
+        };
+        boundsListeners.put(node, listener);
+        node.boundsInParentProperty().addListener(listener);
+        moved.add(node);
+        // New elements start visible; the next refresh hides them if they are outside the view.
+        shown.add(node);
+    }
+
+    private void untrack(Node node) {
+        InvalidationListener listener = boundsListeners.remove(node);
+        if (listener == null) {
+            return;
+        }
+        node.boundsInParentProperty().removeListener(listener);
+        moved.remove(node);
+        shown.remove(node);
+        int[] range = cellRanges.remove(node);
+        if (range != null) {
+            forEachCell(range, key -> removeFromCell(key, node));
+        }
+    }
+
+    // Reading the bounds also re-arms the invalidation listener.
+    private void reindex(Node node) {
+        if (!boundsListeners.containsKey(node)) {
+            return;
+        }
+        int[] range = cellRange(node.getBoundsInParent());
+        int[] old = cellRanges.put(node, range);
+        if (Arrays.equals(old, range)) {
+            return;
+        }
+        if (old != null) {
+            forEachCell(old, key -> removeFromCell(key, node));
+        }
+        forEachCell(range, key -> cells.computeIfAbsent(key, k -> new HashSet<>()).add(node));
+    }
+
+    private void removeFromCell(long key, Node node) {
+        Set<Node> cell = cells.get(key);
+        if (cell != null && cell.remove(node) && cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private static int[] cellRange(Bounds bounds) {
+        return new int[]{cellOf(bounds.getMinX()), cellOf(bounds.getMinY()),
+                cellOf(bounds.getMaxX()), cellOf(bounds.getMaxY())};
+    }
+
+    private static int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long cellKey(int x, int y) {
+        return (long) x << 32 | (y & 0xFFFFFFFFL);
+    }
+
+    private static void forEachCell(int[] range, LongConsumer action) {
+        for (int x = range[0]; x <= range[2]; x++) {
+            for (int y = range[1]; y <= range[3]; y++) {
+                action.accept(cellKey(x, y));
+            }
+        }
+    }
+
+    // --- Level of Detail (FX thread) ---
+    // Zooming, panning and dragging fire many events per frame; they end in a single refresh.
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            Platform.runLater(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        refreshPending.set(false);
+        for (Node node : moved.toArray(new Node[0])) {
+            moved.remove(node);
+            reindex(node);
+        }
+        Bounds visible = content.sceneToLocal(view.localToScene(view.getLayoutBounds()));
+        if (visible == null) {
+            return;
+        }
+
+        // Elements in the cells under the view, or in all occupied cells if those are fewer.
+        Set<Node> candidates = new HashSet<>();
+        int[] range = cellRange(visible);
+        long viewCells = (long) (range[2] - range[0] + 1) * (range[3] - range[1] + 1);
+        if (viewCells > cells.size()) {
+            for (Set<Node> cell : cells.values()) {
+                candidates.addAll(cell);
+            }
+        } else {
+            forEachCell(range, key -> {
+                Set<Node> cell = cells.get(key);
+                if (cell != null) {
+                    candidates.addAll(cell);
+                }
+            });
+        }
+
+        double s = scale.getX();
+        double centerX = visible.getCenterX();
+        double centerY = visible.getCenterY();
+        double radius = DETAIL_RADIUS * Math.min(visible.getWidth(), visible.getHeight());
+        Set<Node> nowShown = new HashSet<>();
+        for (Node node : candidates) {
+            Bounds bounds = node.getBoundsInParent();
+            if (!bounds.intersects(visible)) {
+                continue;
+            }
+            nowShown.add(node);
+            if (!node.isVisible()) {
+                node.setVisible(true);
+            }
+            boolean detailed = s >= DETAIL_SCALE || s >= OVERVIEW_SCALE
+                    && Math.hypot(bounds.getCenterX() - centerX, bounds.getCenterY() - centerY) <= radius;
+            if (node instanceof State) {
+                ((State) node).setDetailed(detailed);
+            } else {
+                ((Transition) node).setDetailed(detailed);
+            }
+        }
+        // Elements that left the view.
+        for (Node node : shown) {
+            if (!nowShown.contains(node) && node.isVisible()) {
+                node.setVisible(false);
+            }
+        }
+        shown = nowShown;
+    }
+}
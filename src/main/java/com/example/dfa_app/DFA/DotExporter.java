@@ -0,0 +1,114 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Graphviz DOT: circles for states, double circles for accepting ones, an arrow from a point into
+ * the initial state, and one edge per pair of states labelled with all of its symbols.
+ *
+ * <pre>
+ * digraph DFA {
+ *   rankdir=LR;
+ *   node [shape=circle];
+ *   "_" [shape=point, label=""];
+ *   "_" -&gt; "A";
+ *   "A" -&gt; "B" [label="0"];
+ *   "A" -&gt; "F" [label="1"];
+ *   "C" [shape=doublecircle];
+ * }
+ * </pre>
+ *
+ * A state's node ID is its name. IDs starting with an underscore are reserved: the start point is
+ * "_", and a state whose name is empty or starts with an underscore gets the ID "__" + name and its
+ * name as label, so no state can clash with the start point.
+ */
+public class DotExporter implements AutomatonExporter {
+
+    private static final String START_ID = "_";
+
+    @Override
+    public String getFormatName() {
+        return "dot";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".dot";
+    }
+
+    @Override
+    public <S> void write(AutomatonView<S> automaton, Writer out) throws IOException {
+        int k = automaton.getSymbolCount();
+        out.write("digraph DFA {\n  rankdir=LR;\n  node [shape=circle];\n  ");
+        writeQuoted(out, START_ID);
+        out.write(" [shape=point, label=\"\"];\n  ");
+        writeQuoted(out, START_ID);
+        out.write(" -> ");
+        writeId(out, automaton.getName(automaton.getInitialState()));
+        out.write(";\n");
+
+        // One row at a time: the symbols of a state grouped by target, in order of first use.
+        Map<S, StringBuilder> labels = new LinkedHashMap<>();
+        for (S q : automaton.getStates()) {
+            String name = automaton.getName(q);
+            boolean renamed = isReserved(name);
+            if (automaton.isAccepting(q) || renamed) {
+                out.write("  ");
+                writeId(out, name);
+                out.write(" [");
+                if (automaton.isAccepting(q)) {
+                    out.write(renamed ? "shape=doublecircle, " : "shape=doublecircle");
+                }
+                if (renamed) {
+                    out.write("label=");
+                    writeQuoted(out, name);
+                }
+                out.write("];\n");
+            }
+            labels.clear();
+            for (int a = 0; a < k; a++) {
+                S t = automaton.next(q, a);
+                if (t != null) {
+                    StringBuilder label = labels.computeIfAbsent(t, target -> new StringBuilder());
+                    if (label.length() > 0) {
+                        label.append(',');
+                    }
+                    label.append(automaton.getSymbol(a));
+                }
+            }
+            for (Map.Entry<S, StringBuilder> edge : labels.entrySet()) {
+                out.write("  ");
+                writeId(out, name);
+                out.write(" -> ");
+                writeId(out, automaton.getName(edge.getKey()));
+                out.write(" [label=");
+                writeQuoted(out, edge.getValue());
+                out.write("];\n");
+            }
+        }
+        out.write("}\n");
+    }
+
+    private static boolean isReserved(String name) {
+        return name.isEmpty() || name.charAt(0) == '_';
+    }
+
+    private static void writeId(Writer out, String name) throws IOException {
+        writeQuoted(out, isReserved(name) ? "__" + name : name);
+    }
+
+    private static void writeQuoted(Writer out, CharSequence text) throws IOException {
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+            }
+            out.write(c == '\n' ? ' ' : c);
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,575 @@
+package com.example.dfa_app.DFA;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of the edits of an {@link AutomatonDocument}, for autosave and crash
+ * recovery. The directory holds two files:
+ *
+ * <pre>
+ * snapshot.bin   "DFAS" version lastSeq nextId model crc32
+ * journal.bin    "DFAJ" version, then records: length seq type payload crc32
+ * </pre>
+ *
+ * The listener methods run on the editing (FX) thread and only put a small record into a queue.
+ * A daemon thread takes the records, waits {@link #GROUP_COMMIT_MILLIS} to collect the rest of
+ * the burst (a drag gives one move per mouse event), keeps only the last move of each state or
+ * control point, and appends the batch with one write and one force. Once the journal grows past
+ * {@link #COMPACT_BYTES} the thread writes a new snapshot of its own copy of the model and empties
+ * the journal.
+ *
+ * {@link #open(Path)} replays the snapshot and every record after it up to the first torn or
+ * damaged one; the result is {@link #getRecoveredModel()}. States created from it are tied to
+ * their old ids with {@link #bind(State, long)} before the journal is added as a listener.
+ */
+public class EditJournal implements AutomatonDocument.EditListener, AutoCloseable {
+
+    public static final String SNAPSHOT_FILE = "snapshot.bin";
+    public static final String JOURNAL_FILE = "journal.bin";
+    public static final long GROUP_COMMIT_MILLIS = 100;
+    public static final long COMPACT_BYTES = 1 << 20;
+
+    private static final int SNAPSHOT_MAGIC = 0x44464153; // "DFAS"
+    private static final int JOURNAL_MAGIC = 0x4446414A; // "DFAJ"
+    private static final int VERSION = 1;
+    private static final int JOURNAL_HEADER = 8;
+    // A record body is seq + type + payload + crc; the payload starts with the state id.
+    private static final int MIN_RECORD = 8 + 1 + 8 + 4;
+    private static final int MAX_RECORD = 1 << 20;
+
+    // --- Record Types ---
+    private static final byte STATE_ADDED = 1;
+    private static final byte STATE_REMOVED = 2;
+    private static final byte STATE_MOVED = 3;
+    private static final byte STATE_RENAMED = 4;
+    private static final byte ACCEPTING = 5;
+    private static final byte INITIAL = 6;
+    private static final byte TRANSITION_ADDED = 7;
+    private static final byte TRANSITION_REMOVED = 8;
+    private static final byte CONTROL_MOVED = 9;
+
+    /** One edit, captured on the editing thread; only the fields of its type are used. */
+    private static class Edit {
+        final byte type;
+        final long state;
+        final long target;
+        final String text;
+        final double x;
+        final double y;
+        final boolean flag;
+
+        Edit(byte type, long state, long target, String text, double x, double y, boolean flag) {
+            this.type = type;
+            this.state = state;
+            this.target = target;
+            this.text = text == null ? "" : text;
+            this.x = x;
+            this.y = y;
+            this.flag = flag;
+        }
+
+        // Moves overwrite each other; only the last one of a batch with the same key is written.
+        String moveKey() {
+            if (type == STATE_MOVED) {
+                return "s" + state;
+            }
+            if (type == CONTROL_MOVED) {
+                return "c" + state + "\u0000" + text + "\u0000" + target;
+            }
+            return null;
+        }
+    }
+
+    private static final Edit STOP = new Edit((byte) 0, 0, 0, null, 0, 0, false);
+    private static final Logger LOG = Logger.getLogger(EditJournal.class.getName());
+
+    private final Path directory;
+    private final FileChannel journal;
+    private final EditModel model;
+    private final EditModel recovered;
+    private final Map<State, Long> ids = new ConcurrentHashMap<>();
+    private final AtomicLong nextId;
+    private final BlockingQueue<Edit> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private long seq;
+    private final long droppedBytes;
+    private volatile IOException failure;
+
+    private final AtomicLong recordsWritten = new AtomicLong();
+    private final AtomicLong batchesWritten = new AtomicLong();
+
+    private EditJournal(Path directory, FileChannel journal, EditModel model, EditModel recovered,
+                        long seq, long nextId, long droppedBytes) {
+        this.directory = directory;
+        this.droppedBytes = droppedBytes;
+        this.journal = journal;
+        this.model = model;
+        this.recovered = recovered;
+        this.seq = seq;
+        this.nextId = new AtomicLong(nextId);
+        this.writer = new Thread(this::runWriter, "edit-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // --- Opening and Recovery ---
+    /**
+     * Opens (or creates) the journal in the given directory and replays what it holds.
+     */
+    public static EditJournal open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        EditModel model = new EditModel();
+        long lastSeq = 0;
+        long nextId = 0;
+        long droppedBytes;
+
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            byte[] bytes = Files.readAllBytes(snapshot);
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, Math.max(0, bytes.length - 4));
+            if (bytes.length < 4 || (int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt()) {
+                throw new IOException("Damaged snapshot: " + snapshot);
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4));
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a snapshot of this version: " + snapshot);
+            }
+            lastSeq = in.readLong();
+            nextId = in.readLong();
+            model = EditModel.read(in);
+        }
+
+        FileChannel channel = FileChannel.open(directory.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long[] replayed = replay(channel, model, lastSeq);
+            lastSeq = Math.max(lastSeq, replayed[0]);
+            nextId = Math.max(nextId, replayed[1]);
+            droppedBytes = replayed[2];
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        // The model handed out is read back from a snapshot image, so it never shares entries
+        // with the copy the writer thread keeps updating.
+        EditModel recovered = copy(model);
+        return new EditJournal(directory, channel, model, recovered, lastSeq, nextId, droppedBytes);
+    }
+
+    /**
+     * Applies the records after {@code afterSeq} to the model, then cuts the file after the last
+     * complete record so new records are appended behind it.
+     *
+     * @return The last sequence number seen, the next free state id and the number of bytes cut off.
+     */
+    private static long[] replay(FileChannel channel, EditModel model, long afterSeq) throws IOException {
+        long size = channel.size();
+        if (size < JOURNAL_HEADER) {
+            writeJournalHeader(channel);
+            return new long[]{afterSeq, 0, 0};
+        }
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER);
+        readFully(channel, header, 0);
+        if (header.getInt() != JOURNAL_MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not an edit journal of this version.");
+        }
+
+        long lastSeq = afterSeq;
+        long nextId = 0;
+        long position = JOURNAL_HEADER;
+        ByteBuffer length = ByteBuffer.allocate(4);
+        CRC32 crc = new CRC32();
+        while (position + 4 <= size) {
+            length.clear();
+            readFully(channel, length, position);
+            int bodyLength = length.getInt();
+            if (bodyLength < MIN_RECORD || bodyLength > MAX_RECORD || position + 4 + bodyLength > size) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(bodyLength);
+            readFully(channel, body, position + 4);
+            crc.reset();
+            crc.update(body.array(), 0, bodyLength - 4);
+            if ((int) crc.getValue() != body.getInt(bodyLength - 4)) {
+                break;
+            }
+            long recordSeq = body.getLong();
+            byte type = body.get();
+            Edit edit;
+            try {
+                edit = decode(type, new DataInputStream(new ByteArrayInputStream(body.array(), 9, bodyLength - 13)));
+            } catch (IOException e) {
+                break;
+            }
+            nextId = Math.max(nextId, Math.max(edit.state, edit.target) + 1);
+            if (recordSeq > afterSeq) {
+                apply(model, edit);
+                lastSeq = recordSeq;
+            }
+            position += 4 + bodyLength;
+        }
+        if (position < size) {
+            LOG.warning("Edit journal: dropped " + (size - position) + " bytes after the last complete record.");
+            channel.truncate(position);
+        }
+        channel.position(position);
+        return new long[]{lastSeq, nextId, size - position};
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the edit journal.");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static void writeJournalHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER);
+        header.putInt(JOURNAL_MAGIC).putInt(VERSION).flip();
+        channel.truncate(0);
+        channel.write(header, 0);
+        channel.position(JOURNAL_HEADER);
+        channel.force(true);
+    }
+
+    private static EditModel copy(EditModel model) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        model.write(new DataOutputStream(bytes));
+        return EditModel.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    /**
+     * The automaton as it was when the journal was last written, to rebuild the editor from.
+     */
+    public EditModel getRecoveredModel() {
+        return recovered;
+    }
+
+    /**
+     * Number of bytes after the last complete record that {@link #open(Path)} cut off (a write torn by
+     * a crash, or a damaged record and everything behind it).
+     */
+    public long getDroppedBytes() {
+        return droppedBytes;
+    }
+
+    /**
+     * The error that stopped the writer thread, or null while the journal works. Edits made after
+     * it are not saved.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Ties a state rebuilt from {@link #getRecoveredModel()} to its id, so later edits continue
+     * the recorded one.
+     */
+    public void bind(State state, long id) {
+        ids.put(state, id);
+    }
+
+    private long idOf(State state) {
+        return ids.computeIfAbsent(state, s -> nextId.getAndIncrement());
+    }
+
+    // --- Listener (editing thread) ---
+    @Override
+    public void stateAdded(State state) {
+        long id = idOf(state);
+        submit(new Edit(STATE_ADDED, id, 0, state.getName(), state.getLayoutX(), state.getLayoutY(), state.isAccepting()));
+        // A state may arrive with its transitions already in place (e.g. a rebuilt DFA).
+        for (Transition t : state.getTransitions()) {
+            transitionAdded(state, t);
+        }
+    }
+
+    @Override
+    public void stateRemoved(State state) {
+        Long id = ids.remove(state);
+        if (id != null) {
+            submit(new Edit(STATE_REMOVED, id, 0, null, 0, 0, false));
+        }
+    }
+
+    @Override
+    public void stateMoved(State state) {
+        submit(new Edit(STATE_MOVED, idOf(state), 0, null, state.getLayoutX(), state.getLayoutY(), false));
+    }
+
+    @Override
+    public void stateRenamed(State state) {
+        submit(new Edit(STATE_RENAMED, idOf(state), 0, state.getName(), 0, 0, false));
+    }
+
+    @Override
+    public void acceptingChanged(State state) {
+        submit(new Edit(ACCEPTING, idOf(state), 0, null, 0, 0, state.isAccepting()));
+    }
+
+    @Override
+    public void initialStateChanged(State state) {
+        submit(new Edit(INITIAL, state == null ? -1 : idOf(state), 0, null, 0, 0, false));
+    }
+
+    @Override
+    public void transitionAdded(State from, Transition transition) {
+        if (transition.getNextState() == null || transition.getSymbol() == null) {
+            return;
+        }
+        CurvedArrow arrow = transition.getCurvedArrow();
+        submit(new Edit(TRANSITION_ADDED, idOf(from), idOf(transition.getNextState()), transition.getSymbol(),
+                arrow.getControlX(), arrow.getControlY(), false));
+    }
+
+    @Override
+    public void transitionRemoved(State from, Transition transition) {
+        if (transition.getNextState() == null || transition.getSymbol() == null) {
+            return;
+        }
+        submit(new Edit(TRANSITION_REMOVED, idOf(from), idOf(transition.getNextState()), transition.getSymbol(),
+                0, 0, false));
+    }
+
+    @Override
+    public void controlPointMoved(State from, Transition transition) {
+        if (transition.getNextState() == null || transition.getSymbol() == null) {
+            return;
+        }
+        CurvedArrow arrow = transition.getCurvedArrow();
+        submit(new Edit(CONTROL_MOVED, idOf(from), idOf(transition.getNextState()), transition.getSymbol(),
+                arrow.getControlX(), arrow.getControlY(), false));
+    }
+
+    // Never blocks: the queue is unbounded, and a journal that failed only drops the edit.
+    private void submit(Edit edit) {
+        if (failure == null && writer.isAlive()) {
+            queue.offer(edit);
+        }
+    }
+
+    // --- Writer Thread ---
+    private void runWriter() {
+        List<Edit> batch = new ArrayList<>();
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(queue.take());
+                Thread.sleep(GROUP_COMMIT_MILLIS);
+            } catch (InterruptedException e) {
+                stopping = true;
+            }
+            queue.drainTo(batch);
+            stopping |= batch.remove(STOP);
+            try {
+                writeBatch(coalesce(batch));
+                if (journal.size() > COMPACT_BYTES) {
+                    compact();
+                }
+            } catch (IOException e) {
+                failure = e;
+                LOG.severe("Edit journal disabled: " + e.getMessage());
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private static List<Edit> coalesce(List<Edit> batch) {
+        Set<String> seen = new HashSet<>();
+        Edit[] kept = new Edit[batch.size()];
+        int count = 0;
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Edit edit = batch.get(i);
+            String key = edit.moveKey();
+            if (key == null || seen.add(key)) {
+                kept[count++] = edit;
+            }
+        }
+        List<Edit> result = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            result.add(kept[i]);
+        }
+        return result;
+    }
+
+    private void writeBatch(List<Edit> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(batch.size() * 48);
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        CRC32 crc = new CRC32();
+        for (Edit edit : batch) {
+            payload.reset();
+            encode(edit, new DataOutputStream(payload));
+            byte[] body = ByteBuffer.allocate(8 + 1 + payload.size())
+                    .putLong(++seq).put(edit.type).put(payload.toByteArray()).array();
+            crc.reset();
+            crc.update(body);
+            out.writeInt(body.length + 4);
+            out.write(body);
+            out.writeInt((int) crc.getValue());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        // One force per batch is the group commit.
+        journal.force(false);
+        for (Edit edit : batch) {
+            apply(model, edit);
+        }
+        recordsWritten.addAndGet(batch.size());
+        batchesWritten.incrementAndGet();
+    }
+
+    /**
+     * Replaces the snapshot by the current model and empties the journal. A crash in between
+     * leaves records the new snapshot already covers; replay skips them by sequence number.
+     */
+    private void compact() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seq);
+        out.writeLong(nextId.get());
+        model.write(out);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        writeJournalHeader(journal);
+    }
+
+    // --- Record Payloads ---
+    private static void encode(Edit edit, DataOutputStream out) throws IOException {
+        out.writeLong(edit.state);
+        switch (edit.type) {
+            case STATE_ADDED -> {
+                out.writeUTF(edit.text);
+                out.writeDouble(edit.x);
+                out.writeDouble(edit.y);
+                out.writeBoolean(edit.flag);
+            }
+            case STATE_MOVED -> {
+                out.writeDouble(edit.x);
+                out.writeDouble(edit.y);
+            }
+            case STATE_RENAMED -> out.writeUTF(edit.text);
+            case ACCEPTING -> out.writeBoolean(edit.flag);
+            case TRANSITION_ADDED, CONTROL_MOVED -> {
+                out.writeUTF(edit.text);
+                out.writeLong(edit.target);
+                out.writeDouble(edit.x);
+                out.writeDouble(edit.y);
+            }
+            case TRANSITION_REMOVED -> {
+                out.writeUTF(edit.text);
+                out.writeLong(edit.target);
+            }
+            default -> {
+                // STATE_REMOVED and INITIAL only carry the state.
+            }
+        }
+    }
+
+    private static Edit decode(byte type, DataInputStream in) throws IOException {
+        long state = in.readLong();
+        return switch (type) {
+            case STATE_ADDED -> new Edit(type, state, 0, in.readUTF(), in.readDouble(), in.readDouble(), in.readBoolean());
+            case STATE_MOVED -> new Edit(type, state, 0, null, in.readDouble(), in.readDouble(), false);
+            case STATE_RENAMED -> new Edit(type, state, 0, in.readUTF(), 0, 0, false);
+            case ACCEPTING -> new Edit(type, state, 0, null, 0, 0, in.readBoolean());
+            case TRANSITION_ADDED, CONTROL_MOVED -> {
+                String symbol = in.readUTF();
+                yield new Edit(type, state, in.readLong(), symbol, in.readDouble(), in.readDouble(), false);
+            }
+            case TRANSITION_REMOVED -> {
+                String symbol = in.readUTF();
+                yield new Edit(type, state, in.readLong(), symbol, 0, 0, false);
+            }
+            case STATE_REMOVED, INITIAL -> new Edit(type, state, 0, null, 0, 0, false);
+            default -> throw new IOException("Unknown journal record type " + type + ".");
+        };
+    }
+
+    private static void apply(EditModel model, Edit edit) {
+        switch (edit.type) {
+            case STATE_ADDED -> model.addState(edit.state, edit.text, edit.x, edit.y, edit.flag);
+            case STATE_REMOVED -> model.removeState(edit.state);
+            case STATE_MOVED -> model.moveState(edit.state, edit.x, edit.y);
+            case STATE_RENAMED -> model.renameState(edit.state, edit.text);
+            case ACCEPTING -> model.setAccepting(edit.state, edit.flag);
+            case INITIAL -> model.setInitialState(edit.state);
+            case TRANSITION_ADDED -> model.addTransition(edit.state, edit.text, edit.target, edit.x, edit.y);
+            case TRANSITION_REMOVED -> model.removeTransition(edit.state, edit.text, edit.target);
+            case CONTROL_MOVED -> model.moveControlPoint(edit.state, edit.text, edit.target, edit.x, edit.y);
+            default -> throw new IllegalStateException("Unknown journal record type " + edit.type + ".");
+        }
+    }
+
+    // --- Closing ---
+    /**
+     * Writes the pending edits and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        queue.offer(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten.get();
+    }
+
+    public long getBatchesWritten() {
+        return batchesWritten.get();
+    }
+}
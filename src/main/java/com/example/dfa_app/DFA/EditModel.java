@@ -0,0 +1,218 @@
+package com.example.dfa_app.DFA;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Plain copy of an edited automaton as {@link EditJournal} sees it: states with their position,
+ * and transitions with their control point. States are known by a persistent id instead of by
+ * their {@link State} object, so the model can be written out and read back without JavaFX.
+ */
+public class EditModel {
+
+    /** A state as recorded in the journal. */
+    public static class StateEntry {
+        private final long id;
+        private String name;
+        private double x;
+        private double y;
+        private boolean accepting;
+
+        StateEntry(long id, String name, double x, double y, boolean accepting) {
+            this.id = id;
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.accepting = accepting;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public boolean isAccepting() {
+            return accepting;
+        }
+    }
+
+    /** A transition as recorded in the journal; (from, symbol, to) identifies it. */
+    public static class TransitionEntry {
+        private final long from;
+        private final String symbol;
+        private final long to;
+        private double controlX;
+        private double controlY;
+
+        TransitionEntry(long from, String symbol, long to, double controlX, double controlY) {
+            this.from = from;
+            this.symbol = symbol;
+            this.to = to;
+            this.controlX = controlX;
+            this.controlY = controlY;
+        }
+
+        public long getFrom() {
+            return from;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public long getTo() {
+            return to;
+        }
+
+        public double getControlX() {
+            return controlX;
+        }
+
+        public double getControlY() {
+            return controlY;
+        }
+    }
+
+    private final Map<Long, StateEntry> states = new LinkedHashMap<>();
+    private final Map<String, TransitionEntry> transitions = new LinkedHashMap<>();
+    private long initialState = -1;
+
+    // --- Queries ---
+    public Collection<StateEntry> getStates() {
+        return Collections.unmodifiableCollection(states.values());
+    }
+
+    public StateEntry getState(long id) {
+        return states.get(id);
+    }
+
+    public Collection<TransitionEntry> getTransitions() {
+        return Collections.unmodifiableCollection(transitions.values());
+    }
+
+    /**
+     * @return The id of the initial state, or -1 if there is none.
+     */
+    public long getInitialState() {
+        return initialState;
+    }
+
+    public boolean isEmpty() {
+        return states.isEmpty();
+    }
+
+    // --- Edits ---
+    // Edits of unknown states or transitions are ignored. A transition may be recorded before its
+    // target state is (a state is added together with the transitions it already has), so readers
+    // have to skip transitions whose ends are missing.
+    void addState(long id, String name, double x, double y, boolean accepting) {
+        states.put(id, new StateEntry(id, name, x, y, accepting));
+    }
+
+    void removeState(long id) {
+        if (states.remove(id) != null) {
+            transitions.values().removeIf(t -> t.from == id || t.to == id);
+            if (initialState == id) {
+                initialState = -1;
+            }
+        }
+    }
+
+    void moveState(long id, double x, double y) {
+        StateEntry state = states.get(id);
+        if (state != null) {
+            state.x = x;
+            state.y = y;
+        }
+    }
+
+    void renameState(long id, String name) {
+        StateEntry state = states.get(id);
+        if (state != null) {
+            state.name = name;
+        }
+    }
+
+    void setAccepting(long id, boolean accepting) {
+        StateEntry state = states.get(id);
+        if (state != null) {
+            state.accepting = accepting;
+        }
+    }
+
+    void setInitialState(long id) {
+        initialState = states.containsKey(id) ? id : -1;
+    }
+
+    void addTransition(long from, String symbol, long to, double controlX, double controlY) {
+        transitions.put(key(from, symbol, to), new TransitionEntry(from, symbol, to, controlX, controlY));
+    }
+
+    void removeTransition(long from, String symbol, long to) {
+        transitions.remove(key(from, symbol, to));
+    }
+
+    void moveControlPoint(long from, String symbol, long to, double controlX, double controlY) {
+        TransitionEntry transition = transitions.get(key(from, symbol, to));
+        if (transition != null) {
+            transition.controlX = controlX;
+            transition.controlY = controlY;
+        }
+    }
+
+    private static String key(long from, String symbol, long to) {
+        return from + "\u0000" + Objects.requireNonNull(symbol) + "\u0000" + to;
+    }
+
+    // --- Snapshot Format ---
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(states.size());
+        for (StateEntry s : states.values()) {
+            out.writeLong(s.id);
+            out.writeUTF(s.name);
+            out.writeDouble(s.x);
+            out.writeDouble(s.y);
+            out.writeBoolean(s.accepting);
+        }
+        out.writeLong(initialState);
+        out.writeInt(transitions.size());
+        for (TransitionEntry t : transitions.values()) {
+            out.writeLong(t.from);
+            out.writeUTF(t.symbol);
+            out.writeLong(t.to);
+            out.writeDouble(t.controlX);
+            out.writeDouble(t.controlY);
+        }
+    }
+
+    static EditModel read(DataInputStream in) throws IOException {
+        EditModel model = new EditModel();
+        int stateCount = in.readInt();
+        for (int i = 0; i < stateCount; i++) {
+            model.addState(in.readLong(), in.readUTF(), in.readDouble(), in.readDouble(), in.readBoolean());
+        }
+        model.setInitialState(in.readLong());
+        int transitionCount = in.readInt();
+        for (int i = 0; i < transitionCount; i++) {
+            model.addTransition(in.readLong(), in.readUTF(), in.readLong(), in.readDouble(), in.readDouble());
+        }
+        return model;
+    }
+}
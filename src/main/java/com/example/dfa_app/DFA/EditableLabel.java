@@ -1,95 +1,134 @@
 package com.example.dfa_app.DFA;
 
 import javafx.application.Platform;
-import javafx.beans.value.ChangeListener;
-import javafx.scene.control.Label;
+import javafx.geometry.VPos;
+import javafx.scene.Group;
 import javafx.scene.control.TextField;
-import javafx.scene.layout.Pane;
 import javafx.scene.text.Font;
+import javafx.scene.text.Text;
 
-
-public class EditableLabel extends Pane {
+/**
+ * The name of a state or the symbol of a transition. An idle label is a single {@link Text} node;
+ * all labels share one {@link TextField} that is moved into whichever label is being edited, so a
+ * diagram with thousands of elements has one editor and its skin instead of one per element.
+ */
+public class EditableLabel extends Group {
 
     private static final String DEFAULT_FONT_FAMILY = "Arial";
     private static final double DEFAULT_FONT_SIZE = 14;
+    private static final Font FONT = new Font(DEFAULT_FONT_FAMILY, DEFAULT_FONT_SIZE);
 
-    private final Label displayLabel = new Label("");
-    private final TextField editor = new TextField("");
+    // The shared editor and the label it currently belongs to (FX thread only).
+    private static TextField sharedEditor;
+    private static EditableLabel editing;
 
+    private final Text displayText = new Text("");
+    private double editorX;
+    private double editorY;
 
     public EditableLabel() {
-
-        displayLabel.setFont(new Font(DEFAULT_FONT_FAMILY, DEFAULT_FONT_SIZE));
-        editor.setFont(new Font(DEFAULT_FONT_FAMILY, DEFAULT_FONT_SIZE));
-        editor.setVisible(true);
-
-
-        getChildren().addAll(displayLabel, editor);
-
-        editor.focusedProperty().addListener((obs, wasFocused, isNowFocused) -> {
-            if (!isNowFocused) {
-                finalizeLabel();
-            }
-        });
+        displayText.setFont(FONT);
+        displayText.setTextOrigin(VPos.TOP);
+        getChildren().add(displayText);
 
         this.setPickOnBounds(false);
         this.setMouseTransparent(true);
+    }
 
-
+    private static TextField editor() {
+        if (sharedEditor == null) {
+            sharedEditor = new TextField("");
+            sharedEditor.setFont(FONT);
+            sharedEditor.focusedProperty().addListener((obs, wasFocused, isNowFocused) -> {
+                if (!isNowFocused && editing != null) {
+                    editing.finalizeLabel();
+                }
+            });
+        }
+        return sharedEditor;
     }
 
+    /**
+     * The shared editor; only meaningful while this label is being edited.
+     */
     public TextField getEditor() {
-        return editor;
+        return editor();
     }
 
+    public boolean isEditing() {
+        return editing == this;
+    }
 
     public void setText(String text) {
-        displayLabel.setText(text);
-        editor.setText(text);
+        displayText.setText(text);
+        if (isEditing()) {
+            editor().setText(text);
+        }
     }
 
-
+    /**
+     * The text being typed while editing, otherwise the shown text.
+     */
     public String getText() {
-        return editor.getText();
+        return isEditing() ? editor().getText() : displayText.getText();
     }
 
-
+    /**
+     * Moves the shared editor into this label; a label that was being edited keeps what was typed.
+     */
     public void startEditing() {
-        editor.setText(displayLabel.getText());
-        displayLabel.setVisible(false);
-        editor.setVisible(true);
+        if (editing != null && editing != this) {
+            editing.finalizeLabel();
+        }
+        TextField editor = editor();
+        if (editing != this) {
+            editing = this;
+            editor.setText(displayText.getText());
+            editor.setLayoutX(editorX);
+            editor.setLayoutY(editorY);
+            getChildren().add(editor);
+        }
+        displayText.setVisible(false);
         Platform.runLater(() -> {
-            editor.requestFocus();
-            editor.selectAll();
+            if (editing == this) {
+                editor.requestFocus();
+                editor.selectAll();
+            }
         });
     }
 
-
+    /**
+     * Shows the typed text and gives the editor back.
+     */
     public void finalizeLabel() {
-        displayLabel.setText(editor.getText());
-        editor.setVisible(false);
-        displayLabel.setVisible(true);
+        if (editing == this) {
+            editing = null;
+            TextField editor = editor();
+            displayText.setText(editor.getText());
+            getChildren().remove(editor);
+        }
+        displayText.setVisible(true);
     }
 
-
     public void setLabelPosition(double x, double y) {
-        displayLabel.setLayoutX(x);
-        displayLabel.setLayoutY(y);
+        displayText.setLayoutX(x);
+        displayText.setLayoutY(y);
     }
 
-
     public void setEditorPosition(double x, double y) {
-        editor.setLayoutX(x);
-        editor.setLayoutY(y);
+        editorX = x;
+        editorY = y;
+        if (isEditing()) {
+            editor().setLayoutX(x);
+            editor().setLayoutY(y);
+        }
     }
 
-
     public double getLabelWidth() {
-        return displayLabel.getBoundsInLocal().getWidth();
+        return displayText.getBoundsInLocal().getWidth();
     }
 
-
     public double getLabelHeight() {
-        return displayLabel.getBoundsInLocal().getHeight();
+        return displayText.getBoundsInLocal().getHeight();
     }
 }
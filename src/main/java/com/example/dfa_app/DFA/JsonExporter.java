@@ -0,0 +1,89 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JSON, one state per line; missing transitions are left out:
+ *
+ * <pre>
+ * {"alphabet":["0","1"],"initial":"A","states":[
+ * {"name":"A","accepting":false,"transitions":{"0":"B","1":"F"}},
+ * {"name":"C","accepting":true,"transitions":{"0":"A","1":"C"}}
+ * ]}
+ * </pre>
+ */
+public class JsonExporter implements AutomatonExporter {
+
+    @Override
+    public String getFormatName() {
+        return "json";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".json";
+    }
+
+    @Override
+    public <S> void write(AutomatonView<S> automaton, Writer out) throws IOException {
+        int k = automaton.getSymbolCount();
+        out.write("{\"alphabet\":[");
+        for (int a = 0; a < k; a++) {
+            if (a > 0) {
+                out.write(',');
+            }
+            writeString(out, automaton.getSymbol(a));
+        }
+        out.write("],\"initial\":");
+        writeString(out, automaton.getName(automaton.getInitialState()));
+        out.write(",\"states\":[");
+        boolean firstState = true;
+        for (S q : automaton.getStates()) {
+            // The separator goes before a state, since the view does not say which one is last.
+            out.write(firstState ? "\n{\"name\":" : ",\n{\"name\":");
+            firstState = false;
+            writeString(out, automaton.getName(q));
+            out.write(automaton.isAccepting(q) ? ",\"accepting\":true" : ",\"accepting\":false");
+            out.write(",\"transitions\":{");
+            boolean first = true;
+            for (int a = 0; a < k; a++) {
+                S t = automaton.next(q, a);
+                if (t == null) {
+                    continue;
+                }
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                writeString(out, automaton.getSymbol(a));
+                out.write(':');
+                writeString(out, automaton.getName(t));
+            }
+            out.write("}}");
+        }
+        out.write("\n]}\n");
+    }
+
+    private static void writeString(Writer out, String text) throws IOException {
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,381 @@
+package com.example.dfa_app.DFA;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Language level questions about a (preferably minimized) {@link CompiledDFA}:
+ * is the language empty, finite or infinite, and how many words of length n does it accept.
+ *
+ * Counting is dynamic programming over the transition table:
+ * count(0, q) = accepting(q) and count(k, q) = sum over symbols a of count(k-1, δ(q, a)).
+ * Only useful states (reachable and able to reach an accepting state) take part.
+ * For small automata and large n the same recurrence is evaluated by squaring the
+ * state-to-state transition matrix instead.
+ */
+public class LanguageAnalysis {
+
+    public enum Kind { EMPTY, FINITE, INFINITE }
+
+    /** Above this many useful states matrix powers are never used (cubic cost per squaring). */
+    private static final int MATRIX_STATE_LIMIT = 256;
+
+    private final CompiledDFA dfa;
+    private final int n;
+    private final int k;
+    private final boolean[] useful;
+    // Useful states in a compact numbering, with their transition rows translated (-1 = not useful).
+    private final int[] compactOf;
+    private final int[] original;
+    private final int[] compactDelta;
+    private final int compactInitial;
+    private Kind kind;
+
+    public LanguageAnalysis(CompiledDFA dfa) {
+        this.dfa = dfa;
+        this.n = dfa.getStateCount();
+        this.k = dfa.getSymbolCount();
+        this.useful = Reachability.useful(dfa);
+
+        compactOf = new int[n];
+        int count = 0;
+        for (int q = 0; q < n; q++) {
+            compactOf[q] = useful[q] ? count++ : -1;
+        }
+        original = new int[count];
+        compactDelta = new int[count * k];
+        for (int q = 0; q < n; q++) {
+            if (useful[q]) {
+                int c = compactOf[q];
+                original[c] = q;
+                for (int a = 0; a < k; a++) {
+                    int t = dfa.next(q, a);
+                    compactDelta[c * k + a] = t == CompiledDFA.NO_TRANSITION ? -1 : compactOf[t];
+                }
+            }
+        }
+        compactInitial = compactOf[dfa.getInitialState()];
+    }
+
+    // --- Structure ---
+    /**
+     * EMPTY if no word is accepted, INFINITE if the useful part of the automaton has a cycle,
+     * FINITE otherwise.
+     */
+    public Kind getKind() {
+        if (kind == null) {
+            if (compactInitial < 0) {
+                kind = Kind.EMPTY;
+            } else {
+                kind = hasUsefulCycle() ? Kind.INFINITE : Kind.FINITE;
+            }
+        }
+        return kind;
+    }
+
+    public boolean isEmpty() {
+        return getKind() == Kind.EMPTY;
+    }
+
+    public boolean isFinite() {
+        return getKind() != Kind.INFINITE;
+    }
+
+    // Kahn's algorithm: the useful subgraph is acyclic iff every state can be removed.
+    private boolean hasUsefulCycle() {
+        int m = original.length;
+        int[] inDegree = new int[m];
+        for (int target : compactDelta) {
+            if (target >= 0) {
+                inDegree[target]++;
+            }
+        }
+        int[] queue = new int[m];
+        int head = 0, tail = 0;
+        for (int c = 0; c < m; c++) {
+            if (inDegree[c] == 0) {
+                queue[tail++] = c;
+            }
+        }
+        while (head < tail) {
+            int c = queue[head++];
+            for (int a = 0; a < k; a++) {
+                int t = compactDelta[c * k + a];
+                if (t >= 0 && --inDegree[t] == 0) {
+                    queue[tail++] = t;
+                }
+            }
+        }
+        return tail < m;
+    }
+
+    // --- Counting ---
+    /**
+     * Exact number of accepted words of the given length.
+     */
+    public BigInteger countWords(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative.");
+        }
+        if (compactInitial < 0) {
+            return BigInteger.ZERO;
+        }
+        if (useMatrixPower(length)) {
+            return countWordsByMatrix(length);
+        }
+        BigInteger[] current = acceptingVector();
+        BigInteger[] next = new BigInteger[current.length];
+        for (long step = 0; step < length; step++) {
+            for (int c = 0; c < current.length; c++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int a = 0; a < k; a++) {
+                    int t = compactDelta[c * k + a];
+                    if (t >= 0) {
+                        sum = sum.add(current[t]);
+                    }
+                }
+                next[c] = sum;
+            }
+            BigInteger[] swap = current;
+            current = next;
+            next = swap;
+        }
+        return current[compactInitial];
+    }
+
+    /**
+     * Number of accepted words of the given length, modulo {@code modulus}.
+     */
+    public long countWordsMod(long length, long modulus) {
+        if (length < 0 || modulus <= 0) {
+            throw new IllegalArgumentException("Length must not be negative and modulus must be positive.");
+        }
+        if (compactInitial < 0) {
+            return 0;
+        }
+        if (useMatrixPower(length)) {
+            return countWordsByMatrix(length, modulus);
+        }
+        int m = original.length;
+        long[] current = new long[m];
+        for (int c = 0; c < m; c++) {
+            current[c] = dfa.isAccepting(original[c]) ? 1 % modulus : 0;
+        }
+        long[] next = new long[m];
+        for (long step = 0; step < length; step++) {
+            for (int c = 0; c < m; c++) {
+                long sum = 0;
+                for (int a = 0; a < k; a++) {
+                    int t = compactDelta[c * k + a];
+                    if (t >= 0) {
+                        sum = addMod(sum, current[t], modulus);
+                    }
+                }
+                next[c] = sum;
+            }
+            long[] swap = current;
+            current = next;
+            next = swap;
+        }
+        return current[compactInitial];
+    }
+
+    /**
+     * Returns table[r][c] = number of words of length r leading from compact state c to acceptance,
+     * for r = 0..length. Zero entries share one BigInteger instance.
+     */
+    BigInteger[][] countTable(int length) {
+        BigInteger[][] table = new BigInteger[length + 1][];
+        table[0] = acceptingVector();
+        for (int r = 1; r <= length; r++) {
+            BigInteger[] previous = table[r - 1];
+            BigInteger[] row = new BigInteger[previous.length];
+            for (int c = 0; c < row.length; c++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int a = 0; a < k; a++) {
+                    int t = compactDelta[c * k + a];
+                    if (t >= 0 && previous[t].signum() != 0) {
+                        sum = sum.add(previous[t]);
+                    }
+                }
+                row[c] = sum;
+            }
+            table[r] = row;
+        }
+        return table;
+    }
+
+    private BigInteger[] acceptingVector() {
+        BigInteger[] vector = new BigInteger[original.length];
+        for (int c = 0; c < vector.length; c++) {
+            vector[c] = dfa.isAccepting(original[c]) ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        return vector;
+    }
+
+    // Matrix squaring costs m^3 per bit of the length; the plain recurrence costs length * m * k.
+    private boolean useMatrixPower(long length) {
+        int m = original.length;
+        if (m > MATRIX_STATE_LIMIT || length < 2) {
+            return false;
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(length);
+        return (double) m * m * m * bits < (double) length * m * Math.max(1, k);
+    }
+
+    private long[][] symbolCountMatrix(long modulus) {
+        int m = original.length;
+        long[][] matrix = new long[m][m];
+        for (int c = 0; c < m; c++) {
+            for (int a = 0; a < k; a++) {
+                int t = compactDelta[c * k + a];
+                if (t >= 0) {
+                    matrix[c][t] = addMod(matrix[c][t], 1 % modulus, modulus);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    private long countWordsByMatrix(long length, long modulus) {
+        int m = original.length;
+        long[][] power = symbolCountMatrix(modulus);
+        long[] row = new long[m];
+        row[compactInitial] = 1 % modulus;
+        for (long e = length; e > 0; e >>= 1) {
+            if ((e & 1) != 0) {
+                row = multiply(row, power, modulus);
+            }
+            if (e > 1) {
+                power = multiply(power, power, modulus);
+            }
+        }
+        long total = 0;
+        for (int c = 0; c < m; c++) {
+            if (dfa.isAccepting(original[c])) {
+                total = addMod(total, row[c], modulus);
+            }
+        }
+        return total;
+    }
+
+    private BigInteger countWordsByMatrix(long length) {
+        int m = original.length;
+        BigInteger[][] power = new BigInteger[m][m];
+        long[][] counts = symbolCountMatrix(Long.MAX_VALUE);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) {
+                power[i][j] = BigInteger.valueOf(counts[i][j]);
+            }
+        }
+        BigInteger[] row = new BigInteger[m];
+        Arrays.fill(row, BigInteger.ZERO);
+        row[compactInitial] = BigInteger.ONE;
+        for (long e = length; e > 0; e >>= 1) {
+            if ((e & 1) != 0) {
+                row = multiply(row, power);
+            }
+            if (e > 1) {
+                power = multiply(power, power);
+            }
+        }
+        BigInteger total = BigInteger.ZERO;
+        for (int c = 0; c < m; c++) {
+            if (dfa.isAccepting(original[c])) {
+                total = total.add(row[c]);
+            }
+        }
+        return total;
+    }
+
+    private static long[] multiply(long[] row, long[][] matrix, long modulus) {
+        int m = row.length;
+        long[] result = new long[m];
+        for (int i = 0; i < m; i++) {
+            if (row[i] == 0) continue;
+            for (int j = 0; j < m; j++) {
+                result[j] = addMod(result[j], mulMod(row[i], matrix[i][j], modulus), modulus);
+            }
+        }
+        return result;
+    }
+
+    private static long[][] multiply(long[][] x, long[][] y, long modulus) {
+        int m = x.length;
+        long[][] result = new long[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int l = 0; l < m; l++) {
+                if (x[i][l] == 0) continue;
+                for (int j = 0; j < m; j++) {
+                    result[i][j] = addMod(result[i][j], mulMod(x[i][l], y[l][j], modulus), modulus);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static BigInteger[] multiply(BigInteger[] row, BigInteger[][] matrix) {
+        int m = row.length;
+        BigInteger[] result = new BigInteger[m];
+        Arrays.fill(result, BigInteger.ZERO);
+        for (int i = 0; i < m; i++) {
+            if (row[i].signum() == 0) continue;
+            for (int j = 0; j < m; j++) {
+                if (matrix[i][j].signum() != 0) {
+                    result[j] = result[j].add(row[i].multiply(matrix[i][j]));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static BigInteger[][] multiply(BigInteger[][] x, BigInteger[][] y) {
+        int m = x.length;
+        BigInteger[][] result = new BigInteger[m][];
+        for (int i = 0; i < m; i++) {
+            result[i] = multiply(x[i], y);
+        }
+        return result;
+    }
+
+    // a + b for 0 <= a, b < modulus, without overflowing when the modulus is above 2^62.
+    private static long addMod(long a, long b, long modulus) {
+        return a >= modulus - b ? a - (modulus - b) : a + b;
+    }
+
+    private static long mulMod(long a, long b, long modulus) {
+        if (a < (1L << 31) && b < (1L << 31)) {
+            return (a * b) % modulus;
+        }
+        return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(modulus)).longValue();
+    }
+
+    // --- Access for the sampler ---
+    CompiledDFA getDFA() {
+        return dfa;
+    }
+
+    int compactInitial() {
+        return compactInitial;
+    }
+
+    int compactNext(int compactState, int symbol) {
+        return compactDelta[compactState * k + symbol];
+    }
+
+    /**
+     * One line summary, e.g. "Language: INFINITE, words of length 0..5: [0, 1, 2, 4, 8, 16]".
+     */
+    public String summary(int maxLength) {
+        StringBuilder sb = new StringBuilder("Language: ").append(getKind()).append(", words of length 0..")
+                .append(maxLength).append(": [");
+        BigInteger[][] table = compactInitial < 0 ? null : countTable(maxLength);
+        for (int length = 0; length <= maxLength; length++) {
+            if (length > 0) {
+                sb.append(", ");
+            }
+            sb.append(table == null ? BigInteger.ZERO : table[length][compactInitial]);
+        }
+        return sb.append(']').toString();
+    }
+}
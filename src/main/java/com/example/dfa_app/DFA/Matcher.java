@@ -0,0 +1,10 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * Decides whether a whole text is in the language of an automaton, one character per symbol.
+ * Built by {@link MatcherCompiler}; implementations are immutable and thread-safe.
+ */
+public interface Matcher {
+
+    boolean matches(CharSequence text);
+}
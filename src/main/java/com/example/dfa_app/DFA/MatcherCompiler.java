@@ -0,0 +1,358 @@
+package com.example.dfa_app.DFA;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Turns an automaton into a {@link Matcher} class generated at runtime, so that the JIT sees the
+ * automaton as code instead of data. The class is defined with
+ * {@link MethodHandles.Lookup#defineHiddenClass}, so it is unloaded again once the matcher is no
+ * longer used.
+ *
+ * The generated matches(text) is one method in which every useful state is a block of code:
+ *
+ * <pre>
+ * state_q:  if (i &gt;= length) return accepting(q);
+ *           switch (text.charAt(i++)) { case 'a': goto state_p; ... default: return false; }
+ * </pre>
+ *
+ * Every symbol must be a single character. A JVM method holds at most 64 KiB of code, so an
+ * automaton that does not fit gets a matcher that walks the transition table instead
+ * (see {@link #isGenerated(Matcher)}).
+ */
+public final class MatcherCompiler {
+
+    // Class file version 49 (Java 5) is verified without stack map frames, which keeps the writer small.
+    private static final int CLASS_VERSION = 49;
+    private static final String CLASS_NAME = "com/example/dfa_app/DFA/GeneratedMatcher";
+    private static final int MAX_CODE_LENGTH = 65535;
+    // A switch over at most this many consecutive characters is a jump table, otherwise a binary search.
+    private static final int DENSE_SWITCH_RANGE = 128;
+
+    // Constant pool indexes, in the order written by writeConstantPool.
+    private static final int THIS_CLASS = 2;
+    private static final int SUPER_CLASS = 4;
+    private static final int MATCHER_INTERFACE = 6;
+    private static final int INIT_NAME = 7;
+    private static final int VOID_DESCRIPTOR = 8;
+    private static final int OBJECT_INIT = 10;
+    private static final int MATCHES_NAME = 11;
+    private static final int MATCHES_DESCRIPTOR = 12;
+    private static final int LENGTH_METHOD = 18;
+    private static final int CHAR_AT_METHOD = 22;
+    private static final int CODE_ATTRIBUTE = 23;
+    private static final int CONSTANT_POOL_COUNT = 24;
+
+    // Opcodes.
+    private static final int ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ILOAD_2 = 0x1c, ILOAD_3 = 0x1d;
+    private static final int ISTORE_2 = 0x3d, ISTORE_3 = 0x3e, ICONST_0 = 0x03, ICONST_1 = 0x04;
+    private static final int IINC = 0x84, IF_ICMPLT = 0xa1, TABLESWITCH = 0xaa, LOOKUPSWITCH = 0xab;
+    private static final int IRETURN = 0xac, RETURN = 0xb1, INVOKESPECIAL = 0xb7, INVOKEINTERFACE = 0xb9;
+
+    private MatcherCompiler() {
+    }
+
+    /**
+     * Builds a matcher for the language of the automaton (trimmed first; best on a minimal one).
+     */
+    public static Matcher compile(CompiledDFA dfa) {
+        for (String symbol : dfa.getAlphabet()) {
+            if (symbol.length() != 1) {
+                throw new IllegalArgumentException("A matcher needs single-character symbols, found \"" + symbol + "\".");
+            }
+        }
+        CompiledDFA trimmed = Reachability.trim(dfa);
+        byte[] code = generateCode(trimmed);
+        if (code.length > MAX_CODE_LENGTH) {
+            return new TableMatcher(trimmed);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(classFile(code), true);
+            return (Matcher) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not define the generated matcher: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether the matcher is generated code, rather than the table walker used for automata that
+     * are too large for one method.
+     */
+    public static boolean isGenerated(Matcher matcher) {
+        return !(matcher instanceof TableMatcher);
+    }
+
+    // --- Code ---
+    private static byte[] generateCode(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        Code code = new Code();
+        // length = text.length(); i = 0;
+        code.u1(ALOAD_1);
+        code.u1(INVOKEINTERFACE).u2(LENGTH_METHOD).u1(1).u1(0);
+        code.u1(ISTORE_3);
+        code.u1(ICONST_0);
+        code.u1(ISTORE_2);
+
+        // The initial state comes first, so the code falls through into it.
+        int[] order = new int[n];
+        order[0] = dfa.getInitialState();
+        for (int q = 0, i = 1; q < n; q++) {
+            if (q != dfa.getInitialState()) {
+                order[i++] = q;
+            }
+        }
+        int[] label = new int[n];
+        List<int[]> jumps = new ArrayList<>(); // {position of the offset, switch address, target state}
+        List<int[]> rejects = new ArrayList<>(); // {position of the offset, switch address}
+        int[] keys = new int[k];
+        int[] targets = new int[k];
+        for (int q : order) {
+            label[q] = code.length();
+            // if (i >= length) return accepting;
+            code.u1(ILOAD_2).u1(ILOAD_3).u1(IF_ICMPLT).u2(5);
+            code.u1(dfa.isAccepting(q) ? ICONST_1 : ICONST_0).u1(IRETURN);
+            // switch (text.charAt(i++))
+            code.u1(ALOAD_1).u1(ILOAD_2);
+            code.u1(INVOKEINTERFACE).u2(CHAR_AT_METHOD).u1(2).u1(0);
+            code.u1(IINC).u1(2).u1(1);
+
+            int cases = 0;
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    keys[cases] = dfa.getSymbol(a).charAt(0);
+                    targets[cases++] = t;
+                }
+            }
+            sortByKey(keys, targets, cases);
+            int address = code.length();
+            long range = cases == 0 ? 0 : (long) keys[cases - 1] - keys[0] + 1;
+            boolean table = cases > 0 && (range <= DENSE_SWITCH_RANGE || range <= 4L * cases);
+            code.u1(table ? TABLESWITCH : LOOKUPSWITCH);
+            while (code.length() % 4 != 0) {
+                code.u1(0);
+            }
+            rejects.add(new int[]{code.length(), address});
+            code.u4(0);
+            if (table) {
+                int low = keys[0];
+                int high = keys[cases - 1];
+                code.u4(low).u4(high);
+                for (int key = low, c = 0; key <= high; key++) {
+                    if (keys[c] == key) {
+                        jumps.add(new int[]{code.length(), address, targets[c++]});
+                    } else {
+                        rejects.add(new int[]{code.length(), address});
+                    }
+                    code.u4(0);
+                }
+            } else {
+                code.u4(cases);
+                for (int c = 0; c < cases; c++) {
+                    code.u4(keys[c]);
+                    jumps.add(new int[]{code.length(), address, targets[c]});
+                    code.u4(0);
+                }
+            }
+        }
+        int reject = code.length();
+        code.u1(ICONST_0).u1(IRETURN);
+
+        for (int[] jump : jumps) {
+            code.patch4(jump[0], label[jump[2]] - jump[1]);
+        }
+        for (int[] jump : rejects) {
+            code.patch4(jump[0], reject - jump[1]);
+        }
+        return code.toByteArray();
+    }
+
+    private static void sortByKey(int[] keys, int[] targets, int count) {
+        long[] pairs = new long[count];
+        for (int i = 0; i < count; i++) {
+            pairs[i] = (long) keys[i] << 32 | targets[i];
+        }
+        Arrays.sort(pairs);
+        for (int i = 0; i < count; i++) {
+            keys[i] = (int) (pairs[i] >>> 32);
+            targets[i] = (int) pairs[i];
+        }
+    }
+
+    // --- Class file ---
+    private static byte[] classFile(byte[] matchesCode) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(matchesCode.length + 512);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            writeConstantPool(out);
+            out.writeShort(0x0001 | 0x0010 | 0x0020); // public final super
+            out.writeShort(THIS_CLASS);
+            out.writeShort(SUPER_CLASS);
+            out.writeShort(1);
+            out.writeShort(MATCHER_INTERFACE);
+            out.writeShort(0); // fields
+            out.writeShort(2); // methods
+
+            // public <init>() { super(); }
+            byte[] init = {(byte) ALOAD_0, (byte) INVOKESPECIAL, 0, (byte) OBJECT_INIT, (byte) RETURN};
+            writeMethod(out, INIT_NAME, VOID_DESCRIPTOR, 1, 1, init);
+            writeMethod(out, MATCHES_NAME, MATCHES_DESCRIPTOR, 2, 4, matchesCode);
+
+            out.writeShort(0); // attributes
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen in memory
+        }
+    }
+
+    private static void writeConstantPool(DataOutputStream out) throws IOException {
+        out.writeShort(CONSTANT_POOL_COUNT);
+        utf8(out, CLASS_NAME);                                  // 1
+        classRef(out, 1);                                       // 2
+        utf8(out, "java/lang/Object");                          // 3
+        classRef(out, 3);                                       // 4
+        utf8(out, Matcher.class.getName().replace('.', '/'));   // 5
+        classRef(out, 5);                                       // 6
+        utf8(out, "<init>");                                    // 7
+        utf8(out, "()V");                                       // 8
+        nameAndType(out, 7, 8);                                 // 9
+        memberRef(out, 10, 4, 9);                               // 10 Object.<init>
+        utf8(out, "matches");                                   // 11
+        utf8(out, "(Ljava/lang/CharSequence;)Z");               // 12
+        utf8(out, "java/lang/CharSequence");                    // 13
+        classRef(out, 13);                                      // 14
+        utf8(out, "length");                                    // 15
+        utf8(out, "()I");                                       // 16
+        nameAndType(out, 15, 16);                               // 17
+        memberRef(out, 11, 14, 17);                             // 18 CharSequence.length
+        utf8(out, "charAt");                                    // 19
+        utf8(out, "(I)C");                                      // 20
+        nameAndType(out, 19, 20);                               // 21
+        memberRef(out, 11, 14, 21);                             // 22 CharSequence.charAt
+        utf8(out, "Code");                                      // 23
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    private static void classRef(DataOutputStream out, int name) throws IOException {
+        out.writeByte(7);
+        out.writeShort(name);
+    }
+
+    private static void nameAndType(DataOutputStream out, int name, int descriptor) throws IOException {
+        out.writeByte(12);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+    }
+
+    private static void memberRef(DataOutputStream out, int tag, int owner, int nameAndType) throws IOException {
+        out.writeByte(tag);
+        out.writeShort(owner);
+        out.writeShort(nameAndType);
+    }
+
+    private static void writeMethod(DataOutputStream out, int name, int descriptor, int maxStack, int maxLocals,
+                                    byte[] code) throws IOException {
+        out.writeShort(0x0001); // public
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(CODE_ATTRIBUTE);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0); // exception table
+        out.writeShort(0); // attributes
+    }
+
+    /** Growable byte buffer for the method body. */
+    private static final class Code {
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        Code u1(int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) value;
+            return this;
+        }
+
+        Code u2(int value) {
+            return u1(value >>> 8).u1(value);
+        }
+
+        Code u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        void patch4(int position, int value) {
+            bytes[position] = (byte) (value >>> 24);
+            bytes[position + 1] = (byte) (value >>> 16);
+            bytes[position + 2] = (byte) (value >>> 8);
+            bytes[position + 3] = (byte) value;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    // --- Fallback ---
+    /** Walks the transition table; used when the generated method would be too large. */
+    private static final class TableMatcher implements Matcher {
+        private final CompiledDFA dfa;
+        private final int[] symbolOfChar;
+
+        TableMatcher(CompiledDFA dfa) {
+            this.dfa = dfa;
+            int maxChar = 0;
+            for (String symbol : dfa.getAlphabet()) {
+                maxChar = Math.max(maxChar, symbol.charAt(0));
+            }
+            symbolOfChar = new int[maxChar + 1];
+            Arrays.fill(symbolOfChar, -1);
+            for (int a = 0; a < dfa.getSymbolCount(); a++) {
+                symbolOfChar[dfa.getSymbol(a).charAt(0)] = a;
+            }
+        }
+
+        @Override
+        public boolean matches(CharSequence text) {
+            int state = dfa.getInitialState();
+            for (int i = 0, length = text.length(); i < length; i++) {
+                char c = text.charAt(i);
+                int a = c < symbolOfChar.length ? symbolOfChar[c] : -1;
+                if (a < 0) {
+                    return false;
+                }
+                state = dfa.next(state, a);
+                if (state == CompiledDFA.NO_TRANSITION) {
+                    return false;
+                }
+            }
+            return dfa.isAccepting(state);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Size-bounded LRU cache from the {@link CanonicalForm} hash of an input automaton to its minimal
+ * automaton, so minimizing the same automaton again costs one canonical numbering.
+ *
+ * Entries live in memory and, if a directory is given, also on disk as one automaton file per hash.
+ * On disk the least recently used files are those with the oldest modification time; a disk hit
+ * touches its file. The cache can be shared between threads.
+ */
+public class MinimizationCache {
+
+    private final int maxEntries;
+    private final Map<AutomatonHash, CompiledDFA> memory;
+    private final Path directory;
+    private final int maxDiskEntries;
+    private final AtomicInteger diskEntries = new AtomicInteger();
+    private final Object diskEvictionLock = new Object();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * An in-memory cache.
+     */
+    public MinimizationCache(int maxEntries) {
+        this(maxEntries, null, 0);
+    }
+
+    /**
+     * @param directory      Directory for the on-disk entries (created if needed), or null for memory only.
+     * @param maxDiskEntries Maximum number of files kept in the directory.
+     */
+    public MinimizationCache(int maxEntries, Path directory, int maxDiskEntries) {
+        if (maxEntries < 1 || (directory != null && maxDiskEntries < 1)) {
+            throw new IllegalArgumentException("Cache sizes must be at least 1.");
+        }
+        this.maxEntries = maxEntries;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AutomatonHash, CompiledDFA> eldest) {
+                return size() > MinimizationCache.this.maxEntries;
+            }
+        };
+        this.directory = directory;
+        this.maxDiskEntries = maxDiskEntries;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+                try (Stream<Path> files = Files.list(directory)) {
+                    diskEntries.set((int) files.filter(MinimizationCache::isEntry).count());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached minimal automaton for the input hash, or null.
+     */
+    public CompiledDFA get(AutomatonHash inputHash) {
+        CompiledDFA result;
+        synchronized (memory) {
+            result = memory.get(inputHash);
+        }
+        if (result == null && directory != null) {
+            result = readFromDisk(inputHash);
+            if (result != null) {
+                synchronized (memory) {
+                    memory.put(inputHash, result);
+                }
+            }
+        }
+        (result != null ? hits : misses).incrementAndGet();
+        return result;
+    }
+
+    public void put(AutomatonHash inputHash, CompiledDFA minimal) {
+        synchronized (memory) {
+            memory.put(inputHash, minimal);
+        }
+        if (directory != null) {
+            writeToDisk(inputHash, minimal);
+        }
+    }
+
+    // --- Disk ---
+    private static boolean isEntry(Path file) {
+        return file.getFileName().toString().endsWith(AutomatonFile.EXTENSION);
+    }
+
+    private Path fileOf(AutomatonHash hash) {
+        return directory.resolve(hash + AutomatonFile.EXTENSION);
+    }
+
+    private CompiledDFA readFromDisk(AutomatonHash hash) {
+        Path file = fileOf(hash);
+        try {
+            CompiledDFA result = Minimizer.determinize(AutomatonFile.read(file));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return result;
+        } catch (IOException | IllegalArgumentException e) {
+            // Missing, evicted meanwhile or damaged: treat as a miss.
+            return null;
+        }
+    }
+
+    private void writeToDisk(AutomatonHash hash, CompiledDFA minimal) {
+        Path file = fileOf(hash);
+        try {
+            boolean existed = Files.exists(file);
+            // Write to a temporary file first so that readers never see a half written entry.
+            Path temp = Files.createTempFile(directory, hash.toString(), ".tmp");
+            AutomatonFile.write(minimal, temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!existed && diskEntries.incrementAndGet() > maxDiskEntries) {
+                evictFromDisk();
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write cache entry " + file + ": " + e.getMessage());
+        }
+    }
+
+    // Removes the oldest files down to 90% of the limit, so that eviction does not run on every put.
+    private void evictFromDisk() throws IOException {
+        synchronized (diskEvictionLock) {
+            List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(MinimizationCache::isEntry)
+                        .sorted(Comparator.comparing(MinimizationCache::lastModified))
+                        .toList();
+            }
+            int keep = Math.max(1, maxDiskEntries - maxDiskEntries / 10);
+            for (int i = 0; i < files.size() - keep; i++) {
+                Files.deleteIfExists(files.get(i));
+            }
+            diskEntries.set(Math.min(files.size(), keep));
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    // --- Statistics ---
+    public int size() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
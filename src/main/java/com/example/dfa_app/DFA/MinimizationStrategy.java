@@ -0,0 +1,51 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * An algorithm that merges the equivalent states of a DFA.
+ *
+ * Strategies work on trimmed automata (see {@link Reachability#trim}): every state is reachable
+ * and can reach an accepting state, and missing transitions stand for the dead state, which is
+ * never added. The result is a DFA with the fewest states for the same language, in any numbering;
+ * {@link Minimizer} puts it in {@link CanonicalForm}, so every strategy gives exactly the same output.
+ */
+public interface MinimizationStrategy {
+
+    /** The partitioning (Moore) method, the reference; its rounds can be printed by the UI. */
+    MinimizationStrategy MOORE = new MooreMinimization();
+    /** O(m log n) in the number m of existing transitions, without completing the automaton. */
+    MinimizationStrategy VALMARI_LEHTINEN = new ValmariLehtinenMinimization();
+    /** Double reversal; can skip the forward subset construction of an NFA. */
+    MinimizationStrategy BRZOZOWSKI = new BrzozowskiMinimization();
+    /** Picks one of the others from the size and shape of the input (see {@link AutoMinimization}). */
+    MinimizationStrategy AUTO = new AutoMinimization();
+
+    /**
+     * Short name used on the command line, e.g. "moore".
+     */
+    String getName();
+
+    /**
+     * Minimizes a trimmed DFA.
+     */
+    CompiledDFA minimize(CompiledDFA trimmed);
+
+    /**
+     * Minimizes an NFA; by default it is determinized and trimmed first.
+     */
+    default CompiledDFA minimize(NFA nfa) {
+        return minimize(Reachability.trim(Minimizer.determinize(nfa)));
+    }
+
+    /**
+     * @throws IllegalArgumentException if no strategy has this name.
+     */
+    static MinimizationStrategy byName(String name) {
+        for (MinimizationStrategy strategy : new MinimizationStrategy[]{MOORE, VALMARI_LEHTINEN, BRZOZOWSKI, AUTO}) {
+            if (strategy.getName().equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown minimization strategy: " + name
+                + " (expected moore, valmari-lehtinen, brzozowski or auto).");
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * The minimization pipeline of the application without any UI:
+ * determinize (only if needed), trim to the useful states and merge equivalent states with a
+ * {@link MinimizationStrategy} ({@link MinimizationStrategy#AUTO} unless one is given).
+ * Every call works on its own data, so any number of automata can be minimized in parallel.
+ */
+public final class Minimizer {
+
+    private Minimizer() {
+    }
+
+    /**
+     * Returns the minimal DFA of the automaton in {@link CanonicalForm}, with missing transitions
+     * standing for the dead state.
+     */
+    public static CompiledDFA minimize(NFA nfa) {
+        return minimize(nfa, MinimizationStrategy.AUTO);
+    }
+
+    public static CompiledDFA minimize(CompiledDFA dfa) {
+        return minimize(dfa, MinimizationStrategy.AUTO);
+    }
+
+    /**
+     * Like {@link #minimize(NFA)} with the given strategy; the result is the same for all of them.
+     */
+    public static CompiledDFA minimize(NFA nfa, MinimizationStrategy strategy) {
+        return CanonicalForm.of(strategy.minimize(nfa)).getDFA();
+    }
+
+    public static CompiledDFA minimize(CompiledDFA dfa, MinimizationStrategy strategy) {
+        return CanonicalForm.of(strategy.minimize(Reachability.trim(dfa))).getDFA();
+    }
+
+    /**
+     * Like {@link #minimize(NFA)}, but looks the determinized input up in the cache first.
+     */
+    public static CompiledDFA minimize(NFA nfa, MinimizationCache cache) {
+        return minimize(nfa, cache, MinimizationStrategy.AUTO);
+    }
+
+    /**
+     * Like {@link #minimize(NFA, MinimizationCache)} with the given strategy. The cache key is the
+     * determinized input, so with a cache the NFA is always determinized first.
+     */
+    public static CompiledDFA minimize(NFA nfa, MinimizationCache cache, MinimizationStrategy strategy) {
+        if (cache == null) {
+            return minimize(nfa, strategy);
+        }
+        return minimize(determinize(nfa), cache, strategy);
+    }
+
+    /**
+     * Like {@link #minimize(CompiledDFA)}, but returns the cached result if the same automaton (up to
+     * the numbering of its states) was minimized before. A null cache is allowed.
+     */
+    public static CompiledDFA minimize(CompiledDFA dfa, MinimizationCache cache) {
+        return minimize(dfa, cache, MinimizationStrategy.AUTO);
+    }
+
+    public static CompiledDFA minimize(CompiledDFA dfa, MinimizationCache cache, MinimizationStrategy strategy) {
+        if (cache == null) {
+            return minimize(dfa, strategy);
+        }
+        AutomatonHash key = CanonicalForm.of(dfa).getHash();
+        CompiledDFA minimal = cache.get(key);
+        if (minimal == null) {
+            minimal = minimize(dfa, strategy);
+            cache.put(key, minimal);
+        }
+        return minimal;
+    }
+
+    /**
+     * Copies a deterministic NFA straight into a table; otherwise runs the subset construction.
+     */
+    public static CompiledDFA determinize(NFA nfa) {
+        if (!nfa.isDeterministic()) {
+            return new SubsetConstruction(nfa).run();
+        }
+        int n = nfa.getStateCount();
+        int k = nfa.getSymbolCount();
+        int[] delta = new int[n * k];
+        Arrays.fill(delta, CompiledDFA.NO_TRANSITION);
+        for (int e = 0; e < nfa.getEdgeCount(); e++) {
+            delta[nfa.edgeFrom(e) * k + nfa.edgeSymbol(e)] = nfa.edgeTo(e);
+        }
+        boolean[] accepting = new boolean[n];
+        String[] names = new String[n];
+        for (int q = 0; q < n; q++) {
+            accepting[q] = nfa.isAccepting(q);
+            names[q] = nfa.getStateName(q);
+        }
+        return new CompiledDFA(nfa.getAlphabet(), delta, accepting, nfa.getInitialState(), names);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * The partitioning method of {@link PartitionRefinement}: O(rounds * n * k), where the number of
+ * rounds is up to n - 1 (see {@link AutomatonGenerator.Shape#CHAIN}) but usually small.
+ * Missing transitions are compared as block -1.
+ */
+public class MooreMinimization implements MinimizationStrategy {
+
+    @Override
+    public String getName() {
+        return "moore";
+    }
+
+    @Override
+    public CompiledDFA minimize(CompiledDFA trimmed) {
+        PartitionRefinement refinement = new PartitionRefinement(trimmed);
+        refinement.run();
+        return refinement.toQuotient();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A plain nondeterministic automaton with ε-transitions, used as input to the subset construction.
+ * States and symbols are numbered in the order they are added; edges are kept in flat int arrays.
+ */
+public class NFA {
+
+    /** Transition symbol that is treated as an ε-transition. */
+    public static final String EPSILON = "ε";
+    /** Symbol index used for ε-edges. */
+    static final int EPSILON_INDEX = -1;
+
+    private final List<String> alphabet = new ArrayList<>();
+    private final Map<String, Integer> symbolIndex = new HashMap<>();
+    private final List<String> stateNames = new ArrayList<>();
+    private boolean[] accepting = new boolean[16];
+    private int stateCount = 0;
+    private int initialState = 0;
+
+    private int[] edgeFrom = new int[16];
+    private int[] edgeSymbol = new int[16];
+    private int[] edgeTo = new int[16];
+    private int edgeCount = 0;
+
+    // --- Building ---
+    public int addState(String name, boolean isAccepting) {
+        if (stateCount == accepting.length) {
+            accepting = Arrays.copyOf(accepting, stateCount * 2);
+        }
+        accepting[stateCount] = isAccepting;
+        stateNames.add(name);
+        return stateCount++;
+    }
+
+    public void setAccepting(int state, boolean isAccepting) {
+        checkState(state);
+        accepting[state] = isAccepting;
+    }
+
+    public void setInitialState(int state) {
+        checkState(state);
+        this.initialState = state;
+    }
+
+    /**
+     * Adds the symbol to the alphabet (if needed) and returns its index.
+     */
+    public int addSymbol(String symbol) {
+        if (EPSILON.equals(symbol)) {
+            return EPSILON_INDEX;
+        }
+        Integer index = symbolIndex.get(symbol);
+        if (index == null) {
+            index = alphabet.size();
+            alphabet.add(symbol);
+            symbolIndex.put(symbol, index);
+        }
+        return index;
+    }
+
+    /**
+     * Adds an edge. The symbol {@link #EPSILON} creates an ε-transition.
+     */
+    public void addTransition(int from, String symbol, int to) {
+        addEdge(from, addSymbol(symbol), to);
+    }
+
+    public void addEpsilonTransition(int from, int to) {
+        addEdge(from, EPSILON_INDEX, to);
+    }
+
+    void addEdge(int from, int symbol, int to) {
+        checkState(from);
+        checkState(to);
+        if (edgeCount == edgeFrom.length) {
+            int size = edgeCount * 2;
+            edgeFrom = Arrays.copyOf(edgeFrom, size);
+            edgeSymbol = Arrays.copyOf(edgeSymbol, size);
+            edgeTo = Arrays.copyOf(edgeTo, size);
+        }
+        edgeFrom[edgeCount] = from;
+        edgeSymbol[edgeCount] = symbol;
+        edgeTo[edgeCount] = to;
+        edgeCount++;
+    }
+
+    private void checkState(int state) {
+        if (state < 0 || state >= stateCount) {
+            throw new IllegalArgumentException("Unknown NFA state: " + state);
+        }
+    }
+
+    // --- Getters ---
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getSymbolCount() {
+        return alphabet.size();
+    }
+
+    public String getSymbol(int symbol) {
+        return alphabet.get(symbol);
+    }
+
+    public String[] getAlphabet() {
+        return alphabet.toArray(new String[0]);
+    }
+
+    public String getStateName(int state) {
+        String name = stateNames.get(state);
+        return name != null ? name : "n" + state;
+    }
+
+    public int getInitialState() {
+        return initialState;
+    }
+
+    public boolean isAccepting(int state) {
+        return accepting[state];
+    }
+
+    int getEdgeCount() {
+        return edgeCount;
+    }
+
+    int edgeFrom(int edge) {
+        return edgeFrom[edge];
+    }
+
+    int edgeSymbol(int edge) {
+        return edgeSymbol[edge];
+    }
+
+    int edgeTo(int edge) {
+        return edgeTo[edge];
+    }
+
+    /**
+     * An NFA is deterministic if it has no ε-edges and at most one edge per state and symbol.
+     */
+    public boolean isDeterministic() {
+        int k = alphabet.size();
+        boolean[] seen = new boolean[stateCount * k];
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeSymbol[e] == EPSILON_INDEX) {
+                return false;
+            }
+            int cell = edgeFrom[e] * k + edgeSymbol[e];
+            if (seen[cell]) {
+                return false;
+            }
+            seen[cell] = true;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link CompiledDFA} whose transition table and accepting flags live outside the Java heap,
+ * for automata with tens of millions of states. The layout is the same (row = state, column = symbol,
+ * {@link CompiledDFA#NO_TRANSITION} for a missing transition); the accepting flags are a bitset.
+ *
+ * The memory is either direct ({@link #allocate}) or a mapped file ({@link #create}, {@link #open}).
+ * A file starts with a small header followed by the table and the bitset:
+ *
+ * <pre>
+ * int magic, int stateCount, int symbolCount, int initialState, int alphabetBytes,
+ * alphabet (UTF-8, one symbol per line, padded to 4 bytes), int[stateCount * symbolCount], int[bitset]
+ * </pre>
+ *
+ * {@link OffHeapMinimizer} runs reachability and minimization on it with scratch arrays that are
+ * off the heap as well.
+ */
+public class OffHeapDFA {
+
+    private static final int MAGIC = 0x31414644; // "DFA1"
+    private static final int HEADER_INTS = 5;
+
+    private final String[] alphabet;
+    private final int stateCount;
+    private final int initialState;
+    private final OffHeapIntArray delta;
+    private final OffHeapIntArray accepting;
+    private volatile Map<String, Integer> symbolIndex;
+
+    private OffHeapDFA(String[] alphabet, int stateCount, int initialState,
+                       OffHeapIntArray delta, OffHeapIntArray accepting) {
+        this.alphabet = alphabet;
+        this.stateCount = stateCount;
+        this.initialState = initialState;
+        this.delta = delta;
+        this.accepting = accepting;
+    }
+
+    // --- Creation ---
+    /**
+     * An automaton in direct memory with no transitions and no accepting states.
+     */
+    public static OffHeapDFA allocate(String[] alphabet, int stateCount, int initialState) {
+        checkSizes(stateCount, initialState);
+        OffHeapIntArray delta = OffHeapIntArray.allocate((long) stateCount * alphabet.length);
+        delta.fill(CompiledDFA.NO_TRANSITION);
+        OffHeapIntArray accepting = OffHeapIntArray.allocate(OffHeapIntArray.bitWords(stateCount));
+        return new OffHeapDFA(alphabet.clone(), stateCount, initialState, delta, accepting);
+    }
+
+    /**
+     * Creates (or replaces) the file and maps it as the automaton's memory; starts with no
+     * transitions and no accepting states. Call {@link #force()} to make sure it is written.
+     */
+    public static OffHeapDFA create(Path file, String[] alphabet, int stateCount, int initialState) throws IOException {
+        checkSizes(stateCount, initialState);
+        byte[] symbols = String.join("\n", alphabet).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_INTS * Integer.BYTES + padded(symbols.length))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(stateCount).putInt(alphabet.length).putInt(initialState).putInt(symbols.length);
+        header.put(symbols).position(header.capacity()).flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            OffHeapDFA dfa = mapBody(channel, header.capacity(), alphabet.clone(), stateCount, initialState);
+            dfa.delta.fill(CompiledDFA.NO_TRANSITION);
+            return dfa;
+        }
+    }
+
+    /**
+     * Maps an existing file written by {@link #create}; changes go straight to the file.
+     */
+    public static OffHeapDFA open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer fixed = ByteBuffer.allocate(HEADER_INTS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, fixed, 0);
+            fixed.flip();
+            if (fixed.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an automaton file: " + file);
+            }
+            int stateCount = fixed.getInt();
+            int symbolCount = fixed.getInt();
+            int initialState = fixed.getInt();
+            int symbolBytes = fixed.getInt();
+            ByteBuffer symbols = ByteBuffer.allocate(symbolBytes);
+            readFully(channel, symbols, fixed.capacity());
+            String joined = new String(symbols.array(), StandardCharsets.UTF_8);
+            String[] alphabet = symbolCount == 0 ? new String[0] : joined.split("\n", -1);
+            if (alphabet.length != symbolCount) {
+                throw new IllegalArgumentException("Damaged alphabet in " + file);
+            }
+            checkSizes(stateCount, initialState);
+            return mapBody(channel, fixed.capacity() + padded(symbolBytes), alphabet, stateCount, initialState);
+        }
+    }
+
+    /**
+     * Copies a heap automaton into direct memory.
+     */
+    public static OffHeapDFA of(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        OffHeapDFA result = allocate(dfa.getAlphabet(), n, dfa.getInitialState());
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < dfa.getSymbolCount(); a++) {
+                result.setTransition(q, a, dfa.next(q, a));
+            }
+            if (dfa.isAccepting(q)) {
+                result.setAccepting(q, true);
+            }
+        }
+        return result;
+    }
+
+    private static OffHeapDFA mapBody(FileChannel channel, long offset, String[] alphabet,
+                                      int stateCount, int initialState) throws IOException {
+        long cells = (long) stateCount * alphabet.length;
+        OffHeapIntArray delta = OffHeapIntArray.map(channel, offset, cells);
+        OffHeapIntArray accepting = OffHeapIntArray.map(channel, offset + cells * Integer.BYTES,
+                OffHeapIntArray.bitWords(stateCount));
+        return new OffHeapDFA(alphabet, stateCount, initialState, delta, accepting);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalArgumentException("Truncated automaton file.");
+            }
+        }
+    }
+
+    private static int padded(int bytes) {
+        return (bytes + 3) & ~3;
+    }
+
+    private static void checkSizes(int stateCount, int initialState) {
+        if (stateCount < 1 || initialState < 0 || initialState >= stateCount) {
+            throw new IllegalArgumentException("Invalid state count or initial state.");
+        }
+    }
+
+    // --- Getters and setters ---
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getSymbolCount() {
+        return alphabet.length;
+    }
+
+    public String getSymbol(int symbol) {
+        return alphabet[symbol];
+    }
+
+    public String[] getAlphabet() {
+        return alphabet.clone();
+    }
+
+    public int getInitialState() {
+        return initialState;
+    }
+
+    public int next(int state, int symbol) {
+        return delta.get((long) state * alphabet.length + symbol);
+    }
+
+    public void setTransition(int state, int symbol, int target) {
+        delta.set((long) state * alphabet.length + symbol, target);
+    }
+
+    public boolean isAccepting(int state) {
+        return accepting.getBit(state);
+    }
+
+    public void setAccepting(int state, boolean isAccepting) {
+        accepting.setBit(state, isAccepting);
+    }
+
+    public boolean isMapped() {
+        return delta.isMapped();
+    }
+
+    /**
+     * Writes the changes of a file-backed automaton to disk.
+     */
+    public void force() {
+        delta.force();
+        accepting.force();
+    }
+
+    /**
+     * Returns the index of the given symbol, or -1 if it is not part of the alphabet.
+     */
+    public int indexOfSymbol(String symbol) {
+        Map<String, Integer> index = symbolIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (int i = 0; i < alphabet.length; i++) {
+                index.put(alphabet[i], i);
+            }
+            symbolIndex = index;
+        }
+        Integer i = index.get(symbol);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Runs the word (one symbol per element) from the initial state.
+     */
+    public boolean accepts(String... word) {
+        int state = initialState;
+        for (String symbol : word) {
+            int a = indexOfSymbol(symbol);
+            if (a < 0) {
+                return false;
+            }
+            state = next(state, a);
+            if (state == CompiledDFA.NO_TRANSITION) {
+                return false;
+            }
+        }
+        return isAccepting(state);
+    }
+
+    /**
+     * Copies the automaton back onto the heap.
+     *
+     * @throws IllegalStateException if the table does not fit in one Java array.
+     */
+    public CompiledDFA toCompiledDFA() {
+        long cells = (long) stateCount * alphabet.length;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The automaton is too large for the heap form.");
+        }
+        int[] table = new int[(int) cells];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = delta.get(i);
+        }
+        boolean[] flags = new boolean[stateCount];
+        for (int q = 0; q < stateCount; q++) {
+            flags[q] = isAccepting(q);
+        }
+        return new CompiledDFA(alphabet.clone(), table, flags, initialState, null);
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapDFA[states=" + stateCount + ", symbols=" + alphabet.length + ", initial=" + initialState
+                + (isMapped() ? ", mapped" : ", direct") + "]";
+    }
+}
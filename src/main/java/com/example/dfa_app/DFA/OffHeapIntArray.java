@@ -0,0 +1,128 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A long-indexed int array outside the Java heap, in chunks of direct or file-mapped buffers.
+ *
+ * A single buffer is limited to 2 GiB, so the array is split into chunks of 2^26 ints (256 MiB).
+ * The garbage collector only sees the small chunk objects, never the contents. Values are stored
+ * little-endian, so a mapped file has the same layout on every machine.
+ *
+ * Java 21 has the java.lang.foreign API only as a preview, so this uses the NIO buffers instead.
+ */
+public final class OffHeapIntArray {
+
+    static final int CHUNK_SHIFT = 26;
+    static final int CHUNK_INTS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_INTS - 1;
+
+    private final IntBuffer[] chunks;
+    private final MappedByteBuffer[] mapped;
+    private final long length;
+
+    private OffHeapIntArray(IntBuffer[] chunks, MappedByteBuffer[] mapped, long length) {
+        this.chunks = chunks;
+        this.mapped = mapped;
+        this.length = length;
+    }
+
+    /**
+     * Allocates zeroed direct memory for the given number of ints.
+     */
+    public static OffHeapIntArray allocate(long length) {
+        IntBuffer[] chunks = new IntBuffer[chunkCount(length)];
+        for (int c = 0; c < chunks.length; c++) {
+            int ints = chunkLength(length, c);
+            chunks[c] = ByteBuffer.allocateDirect(ints * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        }
+        return new OffHeapIntArray(chunks, null, length);
+    }
+
+    /**
+     * Maps {@code length} ints of the file, starting at {@code byteOffset}, read-write. The file grows
+     * as needed; the mapping stays valid after the channel is closed.
+     */
+    public static OffHeapIntArray map(FileChannel channel, long byteOffset, long length) throws IOException {
+        IntBuffer[] chunks = new IntBuffer[chunkCount(length)];
+        MappedByteBuffer[] mapped = new MappedByteBuffer[chunks.length];
+        long position = byteOffset;
+        for (int c = 0; c < chunks.length; c++) {
+            long bytes = (long) chunkLength(length, c) * Integer.BYTES;
+            mapped[c] = channel.map(FileChannel.MapMode.READ_WRITE, position, bytes);
+            chunks[c] = mapped[c].order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            position += bytes;
+        }
+        return new OffHeapIntArray(chunks, mapped, length);
+    }
+
+    private static int chunkCount(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        return (int) ((length + CHUNK_INTS - 1) >>> CHUNK_SHIFT);
+    }
+
+    private static int chunkLength(long length, int chunk) {
+        return (int) Math.min(CHUNK_INTS, length - ((long) chunk << CHUNK_SHIFT));
+    }
+
+    // --- Access ---
+    public long length() {
+        return length;
+    }
+
+    public int get(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+    }
+
+    public void set(long index, int value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+    }
+
+    // --- Use as a bitset ---
+    /**
+     * Number of ints needed to hold the given number of bits.
+     */
+    public static long bitWords(long bits) {
+        return (bits + 31) >>> 5;
+    }
+
+    public boolean getBit(long bit) {
+        return (get(bit >>> 5) & (1 << bit)) != 0;
+    }
+
+    public void setBit(long bit, boolean value) {
+        long word = bit >>> 5;
+        int bits = get(word);
+        set(word, value ? bits | (1 << bit) : bits & ~(1 << bit));
+    }
+
+    public void fill(int value) {
+        for (IntBuffer chunk : chunks) {
+            for (int i = 0, size = chunk.capacity(); i < size; i++) {
+                chunk.put(i, value);
+            }
+        }
+    }
+
+    /**
+     * Writes changes of a mapped array back to its file; does nothing for direct memory.
+     */
+    public void force() {
+        if (mapped != null) {
+            for (MappedByteBuffer buffer : mapped) {
+                buffer.force();
+            }
+        }
+    }
+
+    public boolean isMapped() {
+        return mapped != null;
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Reachability, trimming and minimization for {@link OffHeapDFA}, the off-heap counterparts of
+ * {@link Reachability} and {@link PartitionRefinement}. All arrays proportional to the automaton
+ * (queues, bitsets, reverse edges, blocks, the signature table) are off-heap too, so the heap stays
+ * small regardless of the number of states.
+ *
+ * The partitioning method here keeps only the current partition, without the refinement tree:
+ * each round groups the states by (block, block of every successor) and stops when the number
+ * of blocks stays the same.
+ */
+public final class OffHeapMinimizer {
+
+    private OffHeapMinimizer() {
+    }
+
+    // --- Reachability ---
+    /**
+     * Bitset of the states reachable from the initial state.
+     */
+    public static OffHeapIntArray reachable(OffHeapDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        OffHeapIntArray seen = OffHeapIntArray.allocate(OffHeapIntArray.bitWords(n));
+        OffHeapIntArray queue = OffHeapIntArray.allocate(n);
+        long tail = 0;
+        seen.setBit(dfa.getInitialState(), true);
+        queue.set(tail++, dfa.getInitialState());
+        for (long head = 0; head < tail; head++) {
+            int q = queue.get(head);
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION && !seen.getBit(t)) {
+                    seen.setBit(t, true);
+                    queue.set(tail++, t);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Bitset of the states from which an accepting state can be reached.
+     */
+    public static OffHeapIntArray coReachable(OffHeapDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+
+        // Reverse edges in CSR form.
+        OffHeapIntArray revStart = OffHeapIntArray.allocate((long) n + 1);
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    revStart.set(t + 1L, revStart.get(t + 1L) + 1);
+                }
+            }
+        }
+        for (long q = 0; q < n; q++) {
+            revStart.set(q + 1, revStart.get(q + 1) + revStart.get(q));
+        }
+        OffHeapIntArray fill = OffHeapIntArray.allocate(n);
+        for (long q = 0; q < n; q++) {
+            fill.set(q, revStart.get(q));
+        }
+        OffHeapIntArray revSource = OffHeapIntArray.allocate(Math.max(1, revStart.get(n)));
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    int slot = fill.get(t);
+                    revSource.set(slot, q);
+                    fill.set(t, slot + 1);
+                }
+            }
+        }
+
+        OffHeapIntArray seen = OffHeapIntArray.allocate(OffHeapIntArray.bitWords(n));
+        OffHeapIntArray queue = fill; // no longer needed, reused as the BFS queue
+        long tail = 0;
+        for (int q = 0; q < n; q++) {
+            if (dfa.isAccepting(q)) {
+                seen.setBit(q, true);
+                queue.set(tail++, q);
+            }
+        }
+        for (long head = 0; head < tail; head++) {
+            int q = queue.get(head);
+            for (int i = revStart.get(q), end = revStart.get(q + 1L); i < end; i++) {
+                int p = revSource.get(i);
+                if (!seen.getBit(p)) {
+                    seen.setBit(p, true);
+                    queue.set(tail++, p);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Restricts the automaton to its useful states, like {@link Reachability#trim(CompiledDFA)}.
+     * Returns the input itself when nothing would be removed.
+     */
+    public static OffHeapDFA trim(OffHeapDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        OffHeapIntArray keep = reachable(dfa);
+        OffHeapIntArray co = coReachable(dfa);
+        for (long w = 0; w < keep.length(); w++) {
+            keep.set(w, keep.get(w) & co.get(w));
+        }
+        int initial = dfa.getInitialState();
+        if (!keep.getBit(initial)) {
+            return OffHeapDFA.allocate(dfa.getAlphabet(), 1, 0);
+        }
+
+        OffHeapIntArray newIndex = OffHeapIntArray.allocate(n);
+        int count = 0;
+        for (int q = 0; q < n; q++) {
+            newIndex.set(q, keep.getBit(q) ? count++ : CompiledDFA.NO_TRANSITION);
+        }
+        if (count == n) {
+            return dfa;
+        }
+        OffHeapDFA result = OffHeapDFA.allocate(dfa.getAlphabet(), count, newIndex.get(initial));
+        for (int q = 0; q < n; q++) {
+            int c = newIndex.get(q);
+            if (c == CompiledDFA.NO_TRANSITION) {
+                continue;
+            }
+            result.setAccepting(c, dfa.isAccepting(q));
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                result.setTransition(c, a, t == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : newIndex.get(t));
+            }
+        }
+        return result;
+    }
+
+    // --- Minimization ---
+    /**
+     * Trims the automaton and merges equivalent states; the result is in direct memory.
+     */
+    public static OffHeapDFA minimize(OffHeapDFA input) {
+        try {
+            return minimize(input, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen without a file
+        }
+    }
+
+    /**
+     * Like {@link #minimize(OffHeapDFA)}, but writes the result to a mapped file (if not null).
+     */
+    public static OffHeapDFA minimize(OffHeapDFA input, Path output) throws IOException {
+        OffHeapDFA dfa = trim(input);
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+
+        OffHeapIntArray current = OffHeapIntArray.allocate(n);
+        boolean anyAccepting = false, anyRejecting = false;
+        for (int q = 0; q < n; q++) {
+            boolean accepting = dfa.isAccepting(q);
+            current.set(q, accepting ? 1 : 0);
+            anyAccepting |= accepting;
+            anyRejecting |= !accepting;
+        }
+        int blocks = (anyAccepting ? 1 : 0) + (anyRejecting ? 1 : 0);
+
+        long capacity = Long.highestOneBit(Math.max(2L, 2L * n) - 1) << 1;
+        OffHeapIntArray table = OffHeapIntArray.allocate(capacity);
+        OffHeapIntArray classOf = OffHeapIntArray.allocate(n);
+        OffHeapIntArray classRep = OffHeapIntArray.allocate(n);
+        int classes;
+        while (true) {
+            table.fill(0);
+            classes = 0;
+            long mask = capacity - 1;
+            for (int q = 0; q < n; q++) {
+                long slot = signatureHash(dfa, current, q) & mask;
+                while (true) {
+                    int entry = table.get(slot);
+                    if (entry == 0) {
+                        classRep.set(classes, q);
+                        classOf.set(q, classes);
+                        table.set(slot, ++classes);
+                        break;
+                    }
+                    if (sameSignature(dfa, current, q, classRep.get(entry - 1))) {
+                        classOf.set(q, entry - 1);
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+            // Classes refine blocks, so the same count means the same partition.
+            OffHeapIntArray swap = current;
+            current = classOf;
+            classOf = swap;
+            if (classes == blocks) {
+                break;
+            }
+            blocks = classes;
+        }
+
+        int initial = current.get(dfa.getInitialState());
+        OffHeapDFA result = output == null
+                ? OffHeapDFA.allocate(dfa.getAlphabet(), classes, initial)
+                : OffHeapDFA.create(output, dfa.getAlphabet(), classes, initial);
+        for (int c = 0; c < classes; c++) {
+            int q = classRep.get(c);
+            result.setAccepting(c, dfa.isAccepting(q));
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                result.setTransition(c, a, t == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : current.get(t));
+            }
+        }
+        result.force();
+        return result;
+    }
+
+    private static long signatureHash(OffHeapDFA dfa, OffHeapIntArray current, int q) {
+        long h = current.get(q) * 0x9E3779B97F4A7C15L;
+        for (int a = 0, k = dfa.getSymbolCount(); a < k; a++) {
+            int t = dfa.next(q, a);
+            int block = t == CompiledDFA.NO_TRANSITION ? -1 : current.get(t);
+            h = (h ^ block) * 0xC2B2AE3D27D4EB4FL;
+            h ^= h >>> 29;
+        }
+        return h;
+    }
+
+    private static boolean sameSignature(OffHeapDFA dfa, OffHeapIntArray current, int p, int q) {
+        if (current.get(p) != current.get(q)) {
+            return false;
+        }
+        for (int a = 0, k = dfa.getSymbolCount(); a < k; a++) {
+            int tp = dfa.next(p, a);
+            int tq = dfa.next(q, a);
+            int blockP = tp == CompiledDFA.NO_TRANSITION ? -1 : current.get(tp);
+            int blockQ = tq == CompiledDFA.NO_TRANSITION ? -1 : current.get(tq);
+            if (blockP != blockQ) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * The partitioning (Moore) method on a {@link CompiledDFA}.
+ *
+ * Round 0 splits the states into non-accepting and accepting ones. Every further round splits each
+ * block by the signature (block of the state, block of δ(state, a) for every symbol a), where a
+ * missing transition counts as block -1. It stops when a round splits nothing.
+ * Shortest separating words are found by {@link Witnesses#separatingWord}.
+ */
+public class PartitionRefinement {
+
+    /** Receives the partition after each round (used for printing the steps). */
+    public interface RoundListener {
+        /**
+         * @param round      0 for the initial partition.
+         * @param blocks     Dense block index (0..blockCount-1) per state; only valid during the call.
+         * @param blockCount Number of blocks.
+         */
+        void onRound(int round, int[] blocks, int blockCount);
+    }
+
+    private final CompiledDFA dfa;
+    private final int n;
+    private final int k;
+
+    // Every block that is created gets a new id; an unsplit block keeps its id.
+    private int blockIds = 0;
+
+    private int[] current;
+    private int[] dense;
+    private int denseCount;
+    private int rounds;
+
+    public PartitionRefinement(CompiledDFA dfa) {
+        this.dfa = dfa;
+        this.n = dfa.getStateCount();
+        this.k = dfa.getSymbolCount();
+    }
+
+    public void run() {
+        run(null);
+    }
+
+    public void run(RoundListener listener) {
+        run(listener, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Stops after at most maxRounds refinement rounds.
+     *
+     * @return true if the partition is final, false if the budget ran out first (the results are
+     *         then those of an intermediate partition).
+     */
+    public boolean run(RoundListener listener, int maxRounds) {
+        current = new int[n];
+        int nonAccepting = -1;
+        int accepting = -1;
+        for (int q = 0; q < n; q++) {
+            if (dfa.isAccepting(q)) {
+                if (accepting < 0) accepting = blockIds++;
+                current[q] = accepting;
+            } else {
+                if (nonAccepting < 0) nonAccepting = blockIds++;
+                current[q] = nonAccepting;
+            }
+        }
+        rounds = 0;
+        updateDense();
+        if (listener != null) {
+            listener.onRound(0, dense, denseCount);
+        }
+
+        TransitionTable delta = dfa.getTransitions();
+        int[] classOf = new int[n];
+        int[] classRep = new int[n];
+        int[] classCountOfBlock = new int[0];
+        int[] firstClassOfBlock = new int[0];
+        int[] newIdOfClass = new int[n];
+        boolean changed = true;
+        while (changed) {
+            if (rounds == maxRounds) {
+                return false;
+            }
+            rounds++;
+            // Group states by signature with an open addressing table of representatives.
+            int capacity = Integer.highestOneBit(Math.max(2, n * 2) - 1) << 1;
+            int[] table = new int[capacity];
+            int mask = capacity - 1;
+            int classes = 0;
+            for (int q = 0; q < n; q++) {
+                int slot = signatureHash(delta, q) & mask;
+                while (true) {
+                    int entry = table[slot];
+                    if (entry == 0) {
+                        classRep[classes] = q;
+                        classOf[q] = classes;
+                        table[slot] = ++classes;
+                        break;
+                    }
+                    if (sameSignature(delta, q, classRep[entry - 1])) {
+                        classOf[q] = entry - 1;
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+
+            // A block splits if its states fall into more than one class.
+            if (classCountOfBlock.length < blockIds) {
+                classCountOfBlock = new int[Math.max(blockIds, 2 * classCountOfBlock.length)];
+                firstClassOfBlock = new int[classCountOfBlock.length];
+            }
+            Arrays.fill(classCountOfBlock, 0, blockIds, 0);
+            Arrays.fill(firstClassOfBlock, 0, blockIds, -1);
+            for (int c = 0; c < classes; c++) {
+                int block = current[classRep[c]];
+                classCountOfBlock[block]++;
+            }
+            changed = false;
+            for (int c = 0; c < classes; c++) {
+                int block = current[classRep[c]];
+                if (classCountOfBlock[block] == 1) {
+                    newIdOfClass[c] = block;
+                } else {
+                    newIdOfClass[c] = blockIds++;
+                    changed = true;
+                }
+            }
+            for (int q = 0; q < n; q++) {
+                current[q] = newIdOfClass[classOf[q]];
+            }
+            updateDense();
+            if (listener != null) {
+                listener.onRound(rounds, dense, denseCount);
+            }
+        }
+        return true;
+    }
+
+    private int signatureHash(TransitionTable delta, int q) {
+        int h = current[q] * 0x9E3779B1;
+        for (int a = 0; a < k; a++) {
+            int t = delta.next(q, a);
+            int block = t == CompiledDFA.NO_TRANSITION ? -1 : current[t];
+            h = (h ^ block) * 0x85EBCA6B;
+            h ^= h >>> 15;
+        }
+        return h;
+    }
+
+    private boolean sameSignature(TransitionTable delta, int p, int q) {
+        if (current[p] != current[q]) {
+            return false;
+        }
+        for (int a = 0; a < k; a++) {
+            int tp = delta.next(p, a);
+            int tq = delta.next(q, a);
+            int blockP = tp == CompiledDFA.NO_TRANSITION ? -1 : current[tp];
+            int blockQ = tq == CompiledDFA.NO_TRANSITION ? -1 : current[tq];
+            if (blockP != blockQ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Renumbers the current block ids to 0..denseCount-1 in order of first appearance.
+    private void updateDense() {
+        if (dense == null) {
+            dense = new int[n];
+        }
+        int[] denseOfBlock = new int[blockIds];
+        Arrays.fill(denseOfBlock, -1);
+        denseCount = 0;
+        for (int q = 0; q < n; q++) {
+            int block = current[q];
+            if (denseOfBlock[block] < 0) {
+                denseOfBlock[block] = denseCount++;
+            }
+            dense[q] = denseOfBlock[block];
+        }
+    }
+
+    // --- Results ---
+    public int getBlockCount() {
+        return denseCount;
+    }
+
+    /**
+     * Block (0..getBlockCount()-1) of a state in the final partition.
+     */
+    public int blockOf(int state) {
+        return dense[state];
+    }
+
+    /**
+     * Number of refinement rounds after the initial partition (the last one changed nothing).
+     */
+    public int getRoundCount() {
+        return rounds;
+    }
+
+    public CompiledDFA getDFA() {
+        return dfa;
+    }
+
+    /**
+     * Builds the quotient automaton: one state per final block (named P0, P1, ... like the UI does),
+     * with the transitions of any member. A missing transition stays missing.
+     */
+    public CompiledDFA toQuotient() {
+        int blocks = denseCount;
+        int[] delta = new int[blocks * k];
+        boolean[] accepting = new boolean[blocks];
+        boolean[] filled = new boolean[blocks];
+        for (int q = 0; q < n; q++) {
+            int b = dense[q];
+            if (filled[b]) {
+                continue;
+            }
+            filled[b] = true;
+            accepting[b] = dfa.isAccepting(q);
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                delta[b * k + a] = t == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : dense[t];
+            }
+        }
+        String[] names = new String[blocks];
+        for (int b = 0; b < blocks; b++) {
+            names[b] = "P" + b;
+        }
+        return new CompiledDFA(dfa.getAlphabet(), delta, accepting, dense[dfa.getInitialState()], names);
+    }
+}
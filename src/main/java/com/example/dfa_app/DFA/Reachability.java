@@ -0,0 +1,153 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Forward and backward reachability on a {@link CompiledDFA}, and trimming to the useful states.
+ *
+ * A trimmed automaton keeps only states that are reachable from the initial state and can reach an
+ * accepting state. Every other state behaves like a sink, so it is dropped and the transitions into
+ * it become missing transitions: the sink stays implicit and the DFA is never completed explicitly.
+ */
+public final class Reachability {
+
+    private Reachability() {
+    }
+
+    /**
+     * States reachable from the initial state (forward BFS).
+     */
+    public static boolean[] reachable(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        TransitionTable delta = dfa.getTransitions();
+        boolean[] seen = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        seen[dfa.getInitialState()] = true;
+        queue[tail++] = dfa.getInitialState();
+        while (head < tail) {
+            int q = queue[head++];
+            for (int a = 0; a < k; a++) {
+                int t = delta.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION && !seen[t]) {
+                    seen[t] = true;
+                    queue[tail++] = t;
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * States from which an accepting state can be reached (BFS over reversed edges).
+     */
+    public static boolean[] coReachable(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        TransitionTable delta = dfa.getTransitions();
+
+        // Reverse edges in CSR form.
+        int[] revStart = new int[n + 1];
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                int t = delta.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    revStart[t + 1]++;
+                }
+            }
+        }
+        for (int q = 0; q < n; q++) {
+            revStart[q + 1] += revStart[q];
+        }
+        int[] revSource = new int[revStart[n]];
+        int[] fill = Arrays.copyOf(revStart, n);
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                int t = delta.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION) {
+                    revSource[fill[t]++] = q;
+                }
+            }
+        }
+
+        boolean[] seen = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        for (int q = 0; q < n; q++) {
+            if (dfa.isAccepting(q)) {
+                seen[q] = true;
+                queue[tail++] = q;
+            }
+        }
+        while (head < tail) {
+            int q = queue[head++];
+            for (int i = revStart[q]; i < revStart[q + 1]; i++) {
+                int p = revSource[i];
+                if (!seen[p]) {
+                    seen[p] = true;
+                    queue[tail++] = p;
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Reachable and co-reachable states.
+     */
+    public static boolean[] useful(CompiledDFA dfa) {
+        boolean[] result = reachable(dfa);
+        boolean[] co = coReachable(dfa);
+        for (int q = 0; q < result.length; q++) {
+            result[q] &= co[q];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the automaton restricted to its useful states, renumbered in their original order.
+     * The initial state is always kept; if it is not useful the result is a single rejecting state.
+     * Returns the input itself when nothing would be removed.
+     */
+    public static CompiledDFA trim(CompiledDFA dfa) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        boolean[] keep = useful(dfa);
+        int initial = dfa.getInitialState();
+        if (!keep[initial]) {
+            String[] names = dfa.hasStateNames() ? new String[]{dfa.getStateName(initial)} : null;
+            int[] none = new int[k];
+            Arrays.fill(none, CompiledDFA.NO_TRANSITION);
+            return new CompiledDFA(dfa.getAlphabet(), none, new boolean[1], 0, names);
+        }
+
+        int[] newIndex = new int[n];
+        int count = 0;
+        for (int q = 0; q < n; q++) {
+            newIndex[q] = keep[q] ? count++ : CompiledDFA.NO_TRANSITION;
+        }
+        if (count == n) {
+            return dfa;
+        }
+
+        int[] delta = new int[count * k];
+        boolean[] accepting = new boolean[count];
+        String[] names = dfa.hasStateNames() ? new String[count] : null;
+        for (int q = 0; q < n; q++) {
+            if (!keep[q]) {
+                continue;
+            }
+            int c = newIndex[q];
+            accepting[c] = dfa.isAccepting(q);
+            if (names != null) {
+                names[c] = dfa.getStateName(q);
+            }
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                delta[c * k + a] = t == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : newIndex[t];
+            }
+        }
+        return new CompiledDFA(dfa.getAlphabet(), delta, accepting, newIndex[initial], names);
+    }
+}
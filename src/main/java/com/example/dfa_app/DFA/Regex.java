@@ -0,0 +1,119 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * A node of a regular expression.
+ * Nodes are created only through {@link RegexCompiler}, which hash-conses them: two structurally
+ * equal (normalized) expressions are always the same object, so identity comparison is enough
+ * and every node can memoize its derivatives.
+ */
+public final class Regex {
+
+    public enum Kind { EMPTY, EPSILON, SYMBOL, ANY, CONCAT, UNION, STAR }
+
+    final Kind kind;
+    final int symbol;
+    final Regex[] children;
+    final boolean nullable;
+    private final int hash;
+    int id = -1;
+
+    // Memoized derivatives, indexed by symbol; filled lazily by the compiler.
+    Regex[] derivatives;
+
+    Regex(Kind kind, int symbol, Regex[] children) {
+        this.kind = kind;
+        this.symbol = symbol;
+        this.children = children;
+        this.nullable = computeNullable();
+        this.hash = 31 * (31 * kind.hashCode() + symbol) + childIdsHash();
+    }
+
+    private boolean computeNullable() {
+        switch (kind) {
+            case EPSILON:
+            case STAR:
+                return true;
+            case CONCAT:
+                return children[0].nullable && children[1].nullable;
+            case UNION:
+                for (Regex child : children) {
+                    if (child.nullable) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private int childIdsHash() {
+        int h = 1;
+        for (Regex child : children) {
+            h = 31 * h + child.id;
+        }
+        return h;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return true if the expression matches the empty word.
+     */
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    // Children are interned, so structural equality reduces to identity of the children.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Regex)) return false;
+        Regex other = (Regex) o;
+        if (kind != other.kind || symbol != other.symbol || children.length != other.children.length) {
+            return false;
+        }
+        for (int i = 0; i < children.length; i++) {
+            if (children[i] != other.children[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case EMPTY:
+                return "∅";
+            case EPSILON:
+                return "ε";
+            case SYMBOL:
+                return "#" + symbol;
+            case ANY:
+                return ".";
+            case STAR:
+                return "(" + children[0] + ")*";
+            case CONCAT:
+                return children[0] + "" + children[1];
+            default:
+                StringBuilder sb = new StringBuilder("(");
+                for (int i = 0; i < children.length; i++) {
+                    if (i > 0) {
+                        sb.append('|');
+                    }
+                    sb.append(children[i]);
+                }
+                return sb.append(')').toString();
+        }
+    }
+
+    static final Regex[] NO_CHILDREN = new Regex[0];
+}
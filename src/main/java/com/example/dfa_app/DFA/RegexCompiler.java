@@ -0,0 +1,261 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a regular expression into a DFA using Brzozowski derivatives.
+ *
+ * Every expression is built through the factory methods below, which normalize it (associativity,
+ * commutativity and idempotence of union, identities for ε and ∅, r** = r*) and hash-cons it.
+ * Equivalent derivatives therefore end up as the same node and become one DFA state.
+ * Derivatives are memoized on the nodes, so each (node, symbol) pair is derived only once.
+ *
+ * Supported syntax: literals, {@code |}, {@code *}, {@code +}, {@code ?}, parentheses,
+ * {@code [abc]} / {@code [a-z]} classes, {@code .} (any symbol of the alphabet), {@code ε} and
+ * {@code \} to escape the next character. The alphabet is the set of characters in the pattern.
+ *
+ * One compiler instance is meant for one pattern.
+ */
+public class RegexCompiler {
+
+    /** Upper bound on the number of DFA states, to stop runaway compilations. */
+    public static final int DEFAULT_MAX_STATES = 1_000_000;
+
+    private final Map<Regex, Regex> interned = new HashMap<>();
+    private int nextId = 0;
+    private final BitSet usedChars = new BitSet();
+    private char[] alphabetChars;
+
+    private final Regex empty = intern(new Regex(Regex.Kind.EMPTY, 0, Regex.NO_CHILDREN));
+    private final Regex epsilon = intern(new Regex(Regex.Kind.EPSILON, 0, Regex.NO_CHILDREN));
+
+    /**
+     * Parses and compiles a pattern in one step.
+     */
+    public static CompiledDFA compile(String pattern) {
+        RegexCompiler compiler = new RegexCompiler();
+        return compiler.toDFA(compiler.parse(pattern), DEFAULT_MAX_STATES);
+    }
+
+    // --- Factory (normalizing, hash-consing) ---
+    private Regex intern(Regex node) {
+        Regex existing = interned.get(node);
+        if (existing != null) {
+            return existing;
+        }
+        node.id = nextId++;
+        interned.put(node, node);
+        return node;
+    }
+
+    public Regex empty() {
+        return empty;
+    }
+
+    public Regex epsilon() {
+        return epsilon;
+    }
+
+    public Regex symbol(char c) {
+        usedChars.set(c);
+        return intern(new Regex(Regex.Kind.SYMBOL, c, Regex.NO_CHILDREN));
+    }
+
+    public Regex any() {
+        return intern(new Regex(Regex.Kind.ANY, 0, Regex.NO_CHILDREN));
+    }
+
+    public Regex concat(Regex left, Regex right) {
+        if (left == empty || right == empty) {
+            return empty;
+        }
+        if (left == epsilon) {
+            return right;
+        }
+        if (right == epsilon) {
+            return left;
+        }
+        if (left.kind == Regex.Kind.CONCAT) {
+            // Keep concatenations right-associated: (xy)z = x(yz).
+            return concat(left.children[0], concat(left.children[1], right));
+        }
+        return intern(new Regex(Regex.Kind.CONCAT, 0, new Regex[]{left, right}));
+    }
+
+    public Regex union(Regex left, Regex right) {
+        if (left == right) {
+            return left;
+        }
+        List<Regex> parts = new ArrayList<>();
+        addUnionParts(parts, left);
+        addUnionParts(parts, right);
+        return union(parts);
+    }
+
+    /**
+     * Union of any number of expressions.
+     */
+    public Regex union(List<Regex> members) {
+        List<Regex> parts = new ArrayList<>(members.size());
+        for (Regex member : members) {
+            addUnionParts(parts, member);
+        }
+        parts.sort((x, y) -> Integer.compare(x.id, y.id));
+        List<Regex> unique = new ArrayList<>(parts.size());
+        Regex previous = null;
+        for (Regex part : parts) {
+            if (part != previous && part != empty) {
+                unique.add(part);
+            }
+            previous = part;
+        }
+        if (unique.isEmpty()) {
+            return empty;
+        }
+        if (unique.size() == 1) {
+            return unique.get(0);
+        }
+        return intern(new Regex(Regex.Kind.UNION, 0, unique.toArray(Regex.NO_CHILDREN)));
+    }
+
+    private static void addUnionParts(List<Regex> parts, Regex r) {
+        if (r.kind == Regex.Kind.UNION) {
+            parts.addAll(Arrays.asList(r.children));
+        } else {
+            parts.add(r);
+        }
+    }
+
+    public Regex star(Regex r) {
+        if (r == empty || r == epsilon) {
+            return epsilon;
+        }
+        if (r.kind == Regex.Kind.STAR) {
+            return r;
+        }
+        return intern(new Regex(Regex.Kind.STAR, 0, new Regex[]{r}));
+    }
+
+    // --- Derivatives ---
+    /**
+     * Returns the (memoized) derivative of r with respect to alphabet symbol {@code a}.
+     */
+    public Regex derivative(Regex r, int a) {
+        if (r.derivatives == null) {
+            r.derivatives = new Regex[alphabetChars.length];
+        }
+        Regex d = r.derivatives[a];
+        if (d == null) {
+            d = computeDerivative(r, a);
+            r.derivatives[a] = d;
+        }
+        return d;
+    }
+
+    private Regex computeDerivative(Regex r, int a) {
+        switch (r.kind) {
+            case SYMBOL:
+                return r.symbol == alphabetChars[a] ? epsilon : empty;
+            case ANY:
+                return epsilon;
+            case CONCAT: {
+                Regex head = concat(derivative(r.children[0], a), r.children[1]);
+                return r.children[0].nullable ? union(head, derivative(r.children[1], a)) : head;
+            }
+            case UNION: {
+                List<Regex> parts = new ArrayList<>(r.children.length);
+                for (Regex child : r.children) {
+                    addUnionParts(parts, derivative(child, a));
+                }
+                return union(parts);
+            }
+            case STAR:
+                return concat(derivative(r.children[0], a), r);
+            default:
+                return empty;
+        }
+    }
+
+    // --- Compilation ---
+    /**
+     * Explores all derivatives of {@code root} breadth first. Every distinct derivative is one state;
+     * the ∅ derivative is left out, so the result is a partial DFA with an implicit sink.
+     */
+    public CompiledDFA toDFA(Regex root, int maxStates) {
+        alphabetChars = new char[usedChars.cardinality()];
+        int i = 0;
+        for (int c = usedChars.nextSetBit(0); c >= 0; c = usedChars.nextSetBit(c + 1)) {
+            alphabetChars[i++] = (char) c;
+        }
+        int k = alphabetChars.length;
+
+        int[] stateOfNode = new int[Math.max(16, nextId)];
+        Arrays.fill(stateOfNode, -1);
+        List<Regex> states = new ArrayList<>();
+        int[] delta = new int[Math.max(16, k * 16)];
+
+        states.add(root);
+        stateOfNode = ensureIndex(stateOfNode, root.id);
+        stateOfNode[root.id] = 0;
+
+        for (int current = 0; current < states.size(); current++) {
+            Regex r = states.get(current);
+            if ((current + 1) * k > delta.length) {
+                delta = Arrays.copyOf(delta, Math.max(delta.length * 2, (current + 1) * k));
+            }
+            for (int a = 0; a < k; a++) {
+                Regex d = derivative(r, a);
+                int target = CompiledDFA.NO_TRANSITION;
+                if (d != empty) {
+                    stateOfNode = ensureIndex(stateOfNode, d.id);
+                    target = stateOfNode[d.id];
+                    if (target < 0) {
+                        if (states.size() >= maxStates) {
+                            throw new IllegalStateException("Regular expression needs more than " + maxStates + " states.");
+                        }
+                        target = states.size();
+                        stateOfNode[d.id] = target;
+                        states.add(d);
+                    }
+                }
+                delta[current * k + a] = target;
+            }
+        }
+
+        boolean[] accepting = new boolean[states.size()];
+        for (int q = 0; q < accepting.length; q++) {
+            accepting[q] = states.get(q).nullable;
+        }
+        String[] alphabet = new String[k];
+        for (int a = 0; a < k; a++) {
+            alphabet[a] = String.valueOf(alphabetChars[a]);
+        }
+        return new CompiledDFA(alphabet, Arrays.copyOf(delta, states.size() * k), accepting, 0, null);
+    }
+
+    private static int[] ensureIndex(int[] array, int index) {
+        if (index < array.length) {
+            return array;
+        }
+        int old = array.length;
+        int[] grown = Arrays.copyOf(array, Math.max(old * 2, index + 1));
+        Arrays.fill(grown, old, grown.length, -1);
+        return grown;
+    }
+
+    // --- Parsing ---
+    /**
+     * Parses a pattern into a normalized expression.
+     *
+     * @throws IllegalArgumentException if the pattern is malformed.
+     */
+    public Regex parse(String pattern) {
+        RegexParser parser = new RegexParser(this, pattern);
+        return parser.parse();
+    }
+}
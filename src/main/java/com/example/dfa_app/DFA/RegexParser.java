@@ -0,0 +1,150 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive descent parser for the pattern syntax of {@link RegexCompiler}.
+ *
+ * <pre>
+ * union  := concat ('|' concat)*
+ * concat := repeat*
+ * repeat := atom ('*' | '+' | '?')*
+ * atom   := '(' union ')' | '[' class ']' | '.' | 'ε' | '\' char | char
+ * </pre>
+ */
+class RegexParser {
+
+    private final RegexCompiler factory;
+    private final String pattern;
+    private int pos = 0;
+
+    RegexParser(RegexCompiler factory, String pattern) {
+        this.factory = factory;
+        this.pattern = pattern;
+    }
+
+    Regex parse() {
+        Regex result = parseUnion();
+        if (pos < pattern.length()) {
+            throw error("Unexpected '" + pattern.charAt(pos) + "'");
+        }
+        return result;
+    }
+
+    private Regex parseUnion() {
+        Regex result = parseConcat();
+        while (pos < pattern.length() && pattern.charAt(pos) == '|') {
+            pos++;
+            result = factory.union(result, parseConcat());
+        }
+        return result;
+    }
+
+    private Regex parseConcat() {
+        // Collect the factors first and join them from the right, which keeps concat() cheap.
+        List<Regex> factors = new ArrayList<>();
+        while (pos < pattern.length() && pattern.charAt(pos) != '|' && pattern.charAt(pos) != ')') {
+            factors.add(parseRepeat());
+        }
+        Regex result = factory.epsilon();
+        for (int i = factors.size() - 1; i >= 0; i--) {
+            result = factory.concat(factors.get(i), result);
+        }
+        return result;
+    }
+
+    private Regex parseRepeat() {
+        Regex atom = parseAtom();
+        while (pos < pattern.length()) {
+            char c = pattern.charAt(pos);
+            if (c == '*') {
+                atom = factory.star(atom);
+            } else if (c == '+') {
+                atom = factory.concat(atom, factory.star(atom));
+            } else if (c == '?') {
+                atom = factory.union(atom, factory.epsilon());
+            } else {
+                break;
+            }
+            pos++;
+        }
+        return atom;
+    }
+
+    private Regex parseAtom() {
+        char c = pattern.charAt(pos++);
+        switch (c) {
+            case '(': {
+                Regex inner = parseUnion();
+                expect(')');
+                return inner;
+            }
+            case '[':
+                return parseClass();
+            case '.':
+                return factory.any();
+            case 'ε':
+                return factory.epsilon();
+            case '\\':
+                if (pos >= pattern.length()) {
+                    throw error("Dangling escape");
+                }
+                return factory.symbol(pattern.charAt(pos++));
+            case '*':
+            case '+':
+            case '?':
+                throw error("Nothing to repeat before '" + c + "'");
+            default:
+                return factory.symbol(c);
+        }
+    }
+
+    private Regex parseClass() {
+        if (pos < pattern.length() && pattern.charAt(pos) == '^') {
+            throw error("Negated classes are not supported");
+        }
+        List<Regex> members = new ArrayList<>();
+        while (pos < pattern.length() && pattern.charAt(pos) != ']') {
+            char from = classChar();
+            char to = from;
+            if (pos + 1 < pattern.length() && pattern.charAt(pos) == '-' && pattern.charAt(pos + 1) != ']') {
+                pos++;
+                to = classChar();
+                if (to < from) {
+                    throw error("Invalid range " + from + "-" + to);
+                }
+            }
+            for (char ch = from; ch <= to; ch++) {
+                members.add(factory.symbol(ch));
+                if (ch == Character.MAX_VALUE) {
+                    break;
+                }
+            }
+        }
+        expect(']');
+        return factory.union(members);
+    }
+
+    private char classChar() {
+        char c = pattern.charAt(pos++);
+        if (c == '\\') {
+            if (pos >= pattern.length()) {
+                throw error("Dangling escape");
+            }
+            c = pattern.charAt(pos++);
+        }
+        return c;
+    }
+
+    private void expect(char c) {
+        if (pos >= pattern.length() || pattern.charAt(pos) != c) {
+            throw error("Expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos + " in pattern: " + pattern);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.dfa_app.DFA;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a {@link SimulationTrace} on the drawn automaton by highlighting the current {@link State}
+ * and the {@link Transition} that led to it.
+ *
+ * The clock decides which step is due; a frame then shows only that step, skipping the ones in
+ * between. A frame therefore touches at most two nodes to clear and two to light, whether the
+ * player runs at 2 steps per second or fast-forwards through millions, and seeking is a single
+ * array lookup. All methods must be called on the FX thread.
+ */
+public class SimulationPlayer {
+
+    public static final double DEFAULT_SPEED = 2;
+    public static final double MAX_SPEED = 1e9;
+
+    private final AnimationTimer timer;
+    private SimulationTrace trace;
+    private List<State> states = new ArrayList<>();
+
+    // Fractional step, so slow speeds advance over several frames.
+    private double position;
+    private double speed = DEFAULT_SPEED;
+    private boolean playing;
+    private long lastFrame = -1;
+
+    private int shownStep = -1;
+    private State litState;
+    private Transition litTransition;
+
+    public SimulationPlayer() {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+    }
+
+    /**
+     * Shows step 0 of a new trace; {@code order} maps the state indexes of its automaton to the
+     * nodes, as filled in by {@link AutomatonDocument#compile(List)}.
+     */
+    public void load(SimulationTrace trace, List<State> order) {
+        clear();
+        this.trace = trace;
+        this.states = new ArrayList<>(order);
+        this.position = 0;
+        show(0);
+    }
+
+    // --- Playback ---
+    public void play() {
+        if (trace == null) {
+            return;
+        }
+        if (getStep() >= trace.getStepCount()) {
+            position = 0;
+        }
+        playing = true;
+        lastFrame = -1;
+        timer.start();
+    }
+
+    public void pause() {
+        playing = false;
+        timer.stop();
+    }
+
+    public void togglePlaying() {
+        if (playing) {
+            pause();
+        } else {
+            play();
+        }
+    }
+
+    /**
+     * Jumps to the given step (clamped to the trace).
+     */
+    public void seek(long step) {
+        if (trace == null) {
+            return;
+        }
+        position = Math.max(0, Math.min(step, trace.getStepCount()));
+        show((int) position);
+    }
+
+    public void stepBy(int steps) {
+        pause();
+        seek(getStep() + (long) steps);
+    }
+
+    public void seekEnd() {
+        seek(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param stepsPerSecond Playback speed, from 0.1 to {@link #MAX_SPEED}.
+     */
+    public void setSpeed(double stepsPerSecond) {
+        speed = Math.max(0.1, Math.min(stepsPerSecond, MAX_SPEED));
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Removes the highlight and forgets the trace.
+     */
+    public void clear() {
+        pause();
+        highlight(null, null);
+        trace = null;
+        states = new ArrayList<>();
+        shownStep = -1;
+    }
+
+    // --- Frames ---
+    private void onFrame(long now) {
+        if (lastFrame >= 0) {
+            position += speed * (now - lastFrame) / 1e9;
+        }
+        lastFrame = now;
+        if (position >= trace.getStepCount()) {
+            position = trace.getStepCount();
+            pause();
+        }
+        show((int) position);
+    }
+
+    private void show(int step) {
+        if (step == shownStep) {
+            return;
+        }
+        shownStep = step;
+        State state = nodeOf(trace.stateAt(step));
+        Transition transition = null;
+        if (step > 0) {
+            State from = nodeOf(trace.stateAt(step - 1));
+            if (from != null) {
+                transition = from.getTransition(trace.getDFA().getSymbol(trace.symbolAt(step)));
+            }
+        }
+        highlight(state, transition);
+    }
+
+    private State nodeOf(int state) {
+        return state < states.size() ? states.get(state) : null;
+    }
+
+    private void highlight(State state, Transition transition) {
+        if (litState != state) {
+            if (litState != null) {
+                litState.setHighlighted(false);
+            }
+            if (state != null) {
+                state.setHighlighted(true);
+            }
+            litState = state;
+        }
+        if (litTransition != transition) {
+            if (litTransition != null) {
+                litTransition.setHighlighted(false);
+            }
+            if (transition != null) {
+                transition.setHighlighted(true);
+            }
+            litTransition = transition;
+        }
+    }
+
+    // --- Status ---
+    public boolean isLoaded() {
+        return trace != null;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public int getStep() {
+        return shownStep < 0 ? 0 : shownStep;
+    }
+
+    /**
+     * One line for the log, e.g. "Simulation: step 120/1000000 in q2, 2000 steps/s, playing".
+     */
+    public String getStatus() {
+        if (trace == null) {
+            return "Simulation: none (Ctrl+W)";
+        }
+        int step = getStep();
+        return "Simulation: step " + step + "/" + trace.getStepCount()
+                + " in " + trace.getDFA().getStateName(trace.stateAt(step))
+                + ", " + String.format("%.1f", speed) + " steps/s, " + (playing ? "playing" : "paused")
+                + (step == trace.getStepCount() ? " - " + trace : "");
+    }
+}
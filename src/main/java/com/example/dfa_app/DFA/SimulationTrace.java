@@ -0,0 +1,138 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The run of a {@link CompiledDFA} on one word, kept as plain int arrays so a word of millions of
+ * symbols costs a few bytes per step and any step can be looked up in O(1): the player seeks by
+ * index instead of replaying the word.
+ *
+ * Step i is the state after i symbols; step 0 is the initial state. The run stops early at a
+ * symbol outside the alphabet or a missing transition, and is then rejected.
+ */
+public final class SimulationTrace {
+
+    private final CompiledDFA dfa;
+    private final int[] states;
+    private final int[] symbols;
+    private final int wordLength;
+
+    private SimulationTrace(CompiledDFA dfa, int[] states, int[] symbols, int wordLength) {
+        this.dfa = dfa;
+        this.states = states;
+        this.symbols = symbols;
+        this.wordLength = wordLength;
+    }
+
+    // --- Running ---
+    /**
+     * Splits the input into symbols and runs it. If every symbol of the alphabet is a single
+     * character, each character of the input is a symbol; otherwise symbols are separated by
+     * whitespace. Meant to be called off the FX thread.
+     */
+    public static SimulationTrace run(CompiledDFA dfa, CharSequence input) {
+        return run(dfa, tokenize(dfa, input));
+    }
+
+    /**
+     * Runs a word given as symbol indexes (-1 for a symbol outside the alphabet).
+     */
+    public static SimulationTrace run(CompiledDFA dfa, int[] word) {
+        int[] states = new int[word.length + 1];
+        int state = dfa.getInitialState();
+        states[0] = state;
+        int steps = 0;
+        while (steps < word.length) {
+            int a = word[steps];
+            if (a < 0 || (state = dfa.next(state, a)) == CompiledDFA.NO_TRANSITION) {
+                break;
+            }
+            states[++steps] = state;
+        }
+        int[] trace = steps == word.length ? states : Arrays.copyOf(states, steps + 1);
+        return new SimulationTrace(dfa, trace, word, word.length);
+    }
+
+    static int[] tokenize(CompiledDFA dfa, CharSequence input) {
+        boolean singleChars = true;
+        for (String symbol : dfa.getAlphabet()) {
+            singleChars &= symbol.length() == 1;
+        }
+        if (singleChars) {
+            // Direct lookup for the characters of the alphabet.
+            int[] symbolOfChar = new int[Character.MAX_VALUE + 1];
+            Arrays.fill(symbolOfChar, -1);
+            for (int a = 0; a < dfa.getSymbolCount(); a++) {
+                symbolOfChar[dfa.getSymbol(a).charAt(0)] = a;
+            }
+            int[] word = new int[input.length()];
+            for (int i = 0; i < word.length; i++) {
+                word[i] = symbolOfChar[input.charAt(i)];
+            }
+            return word;
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : input.toString().trim().split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        int[] word = new int[tokens.size()];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = dfa.indexOfSymbol(tokens.get(i));
+        }
+        return word;
+    }
+
+    // --- Queries ---
+    public CompiledDFA getDFA() {
+        return dfa;
+    }
+
+    /**
+     * Number of symbols the run consumed; the last step index.
+     */
+    public int getStepCount() {
+        return states.length - 1;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    /**
+     * State after the given number of symbols.
+     */
+    public int stateAt(int step) {
+        return states[step];
+    }
+
+    /**
+     * Symbol read by the step into {@code step} (1 to {@link #getStepCount()}).
+     */
+    public int symbolAt(int step) {
+        return symbols[step - 1];
+    }
+
+    /**
+     * True if the run stopped before the end of the word.
+     */
+    public boolean isStuck() {
+        return getStepCount() < wordLength;
+    }
+
+    public boolean isAccepted() {
+        return !isStuck() && dfa.isAccepting(states[states.length - 1]);
+    }
+
+    @Override
+    public String toString() {
+        int last = states[states.length - 1];
+        String end = isStuck()
+                ? "stuck in " + dfa.getStateName(last) + " before symbol " + (getStepCount() + 1)
+                : "ends in " + dfa.getStateName(last);
+        return wordLength + " symbols, " + end + (isAccepted() ? ": accepted" : ": rejected");
+    }
+}
@@ -1,26 +1,24 @@
 package com.example.dfa_app.DFA;
 
 import com.example.dfa_app.SelectionListener;
-import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.ScaleTransition;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.control.Alert;
 import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * State represents a node in a DFA.
@@ -31,18 +29,26 @@ public class State extends Group implements simularity {
 
     // --- Static Fields ---
     private static State selectedState = null;
-    private static long idCounter = 0;
-    private static final Set<String> stateNames = new HashSet<>();
+    private static final AtomicLong idCounter = new AtomicLong();
 
     // --- Instance Fields ---
     private final long id;
     private String name;
     private boolean accepting;
     private final List<Transition> transitions = new ArrayList<>();
+    // Index of the outgoing transitions by symbol, for constant time lookups and checks.
+    private final Map<String, List<Transition>> transitionsBySymbol = new HashMap<>();
+    // Outgoing transitions grouped by target, each group drawn as one arrow.
+    private final Map<State, TransitionBundle> bundlesByTarget = new HashMap<>();
+    // Bundles of other states that end here, so that deleting this state can remove them.
+    private final Set<TransitionBundle> incomingBundles = new LinkedHashSet<>();
+    private volatile AutomatonDocument document;
     private final Circle mainCircle;
+    private final Color fill;
     private Circle acceptingIndicator;
     private final EditableLabel editableLabel;
 private final boolean selected = false;
+    private boolean detailed = true;
     // Drag and event related fields.
     private double dragDeltaX;
     private double dragDeltaY;
@@ -52,12 +58,13 @@ private final boolean selected = false;
 
     // --- Constructors ---
     public State(double centerX, double centerY, double radius, Color color) {
-        this.id = idCounter++;
+        this.id = idCounter.getAndIncrement();
         setLayoutX(centerX);
         setLayoutY(centerY);
 
         mainCircle = new Circle(0, 0, radius);
         mainCircle.setFill(color);
+        this.fill = color;
         mainCircle.setStroke(Color.BLACK);
         mainCircle.setUserData(this);
 
@@ -73,6 +80,12 @@ private final boolean selected = false;
         this.accepting = false;
         // Start with an empty name.
         this.name = "";
+        // A state named before it was shown (e.g. built off the FX thread) centers its label now.
+        sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null && !name.isEmpty()) {
+                Platform.runLater(this::centerLabel);
+            }
+        });
     }
 
     public State(double centerX, double centerY, double radius, Color color, String name) {
@@ -80,6 +93,15 @@ private final boolean selected = false;
         setName(name);
     }
 
+    /**
+     * Creates a named state that belongs to the given document; the name must be unique there.
+     */
+    public State(double centerX, double centerY, double radius, Color color, String name, AutomatonDocument document) {
+        this(centerX, centerY, radius, color);
+        setName(name);
+        document.addState(this);
+    }
+
     // --- Selection Listener ---
     public void setSelectionListener(SelectionListener listener) {
         this.selectionListener = listener;
@@ -91,30 +113,25 @@ private final boolean selected = false;
     }
 
     /**
-     * Sets a new name if valid. If the proposed name is invalid (empty or not unique),
-     * an alert is shown and editing is restarted.
+     * Sets a new name. Callers that take the name from the user show the error themselves.
+     *
+     * @throws IllegalArgumentException if the name is empty or already used in the state's document.
      */
     public void setName(String newName) {
         if (isNullOrEmpty(newName)) {
-            showAlert("Invalid State Name", "State name cannot be empty. Please choose a unique name.");
-            Platform.runLater(editableLabel::startEditing);
-            return;
+            throw new IllegalArgumentException("State name cannot be empty.");
         }
         if (newName.equals(this.name)) {
             return;
         }
-        if (stateNames.contains(newName)) {
-            showAlert("Duplicate State Name", "A state with the name '" + newName + "' already exists. Please choose a unique name.");
-            Platform.runLater(editableLabel::startEditing);
-            return;
-        }
-        // Remove old name and update.
-        if (!isNullOrEmpty(this.name)) {
-            stateNames.remove(this.name);
+        if (!claimName(newName)) {
+            throw new IllegalArgumentException("A state with the name '" + newName + "' already exists.");
         }
         this.name = newName;
-        stateNames.add(newName);
         setLabelText(newName);
+        if (document != null) {
+            document.onStateRenamed(this);
+        }
     }
 
     // --- Accepting State Methods ---
@@ -123,19 +140,135 @@ private final boolean selected = false;
     }
 
     public void setAccepting(boolean accepting) {
+        if (this.accepting == accepting) {
+            return;
+        }
         this.accepting = accepting;
         updateAcceptingIndicator();
+        if (document != null) {
+            document.onAcceptingChanged(this);
+        }
     }
 
     // --- Transition Management ---
+    /**
+     * Registers an outgoing transition. Several transitions may share a symbol (NFA editing);
+     * they are resolved by {@link DFA#determinize()}. The check is O(1) through the symbol index.
+     *
+     * @return DUPLICATE (and nothing is added) if the same symbol and target already exist,
+     *         NONDETERMINISTIC if the symbol now has several targets or is ε, ADDED otherwise.
+     */
+    public TransitionCheck addTransition(Transition transition) {
+        String symbol = transition.getSymbol();
+        List<Transition> sameSymbol = transitionsBySymbol.computeIfAbsent(symbol, s -> new ArrayList<>(1));
+        for (Transition t : sameSymbol) {
+            if (t == transition || Objects.equals(t.getNextState(), transition.getNextState())) {
+                return TransitionCheck.DUPLICATE;
+            }
+        }
+        sameSymbol.add(transition);
+        transitions.add(transition);
+        State target = transition.getNextState();
+        if (target != null) {
+            TransitionBundle bundle = bundlesByTarget.get(target);
+            if (bundle == null) {
+                bundle = new TransitionBundle(this, target);
+                bundlesByTarget.put(target, bundle);
+                if (target != this) {
+                    target.incomingBundles.add(bundle);
+                }
+            }
+            bundle.add(transition);
+        }
+        if (document != null) {
+            document.onTransitionAdded(this, transition, sameSymbol.size());
+        }
+        return sameSymbol.size() > 1 || NFA.EPSILON.equals(symbol)
+                ? TransitionCheck.NONDETERMINISTIC : TransitionCheck.ADDED;
+    }
+
     public void removeTransition(Transition transition) {
-        if (transition != null) {
-            transitions.remove(transition);
+        if (transition != null && transitions.remove(transition)) {
+            List<Transition> sameSymbol = transitionsBySymbol.get(transition.getSymbol());
+            sameSymbol.remove(transition);
+            if (sameSymbol.isEmpty()) {
+                transitionsBySymbol.remove(transition.getSymbol());
+            }
+            TransitionBundle bundle = bundlesByTarget.get(transition.getNextState());
+            if (bundle != null) {
+                bundle.remove(transition);
+                if (bundle.isEmpty()) {
+                    bundlesByTarget.remove(transition.getNextState());
+                    transition.getNextState().incomingBundles.remove(bundle);
+                }
+            }
+            if (document != null) {
+                document.onTransitionRemoved(this, transition, sameSymbol.size());
+            }
+        }
+    }
+
+    /**
+     * Moves a registered transition to another symbol; it stays in its bundle.
+     *
+     * @throws IllegalArgumentException if the state already has a transition on that symbol to the same target.
+     */
+    void renameTransition(Transition transition, String newSymbol) {
+        String oldSymbol = transition.getSymbol();
+        for (Transition t : getTransitions(newSymbol)) {
+            if (Objects.equals(t.getNextState(), transition.getNextState())) {
+                throw new IllegalArgumentException("State '" + name + "' already has a transition '" + newSymbol
+                        + "' to '" + transition.getNextState().getName() + "'.");
+            }
+        }
+        // Reported as a removal and an addition, each with the symbol it had at that moment.
+        List<Transition> oldList = transitionsBySymbol.get(oldSymbol);
+        oldList.remove(transition);
+        if (oldList.isEmpty()) {
+            transitionsBySymbol.remove(oldSymbol);
+        }
+        if (document != null) {
+            document.onTransitionRemoved(this, transition, oldList.size());
+        }
+        transition.assignSymbol(newSymbol);
+        List<Transition> newList = transitionsBySymbol.computeIfAbsent(newSymbol, s -> new ArrayList<>(1));
+        newList.add(transition);
+        if (document != null) {
+            document.onTransitionAdded(this, transition, newList.size());
+        }
+        TransitionBundle bundle = transition.getBundle();
+        if (bundle != null) {
+            bundle.refreshLabel();
+        }
+    }
+
+    /**
+     * True if the transition was added to this state and not removed since.
+     */
+    boolean hasTransition(Transition transition) {
+        List<Transition> sameSymbol = transitionsBySymbol.get(transition.getSymbol());
+        return sameSymbol != null && sameSymbol.contains(transition);
+    }
+
+    // Removes the transitions of other states into this one, arrows included.
+    void removeIncomingTransitions() {
+        for (TransitionBundle bundle : new ArrayList<>(incomingBundles)) {
+            for (Transition t : new ArrayList<>(bundle.getTransitions())) {
+                bundle.getFromState().removeTransition(t);
+                // Only the last member still has the arrow of the bundle; it goes with it.
+                if (t.getParent() instanceof Pane) {
+                    ((Pane) t.getParent()).getChildren().remove(t);
+                }
+            }
         }
     }
 
     public void removeTransition(String symbol, State nextState) {
-        transitions.removeIf(t -> t.getSymbol().equals(symbol) && Objects.equals(t.getNextState(), nextState));
+        for (Transition t : getTransitions(symbol)) {
+            if (Objects.equals(t.getNextState(), nextState)) {
+                removeTransition(t);
+            }
+        }
     }
 
     public List<Transition> getTransitions() {
@@ -143,30 +276,53 @@ private final boolean selected = false;
     }
 
     public List<Transition> getTransitions(String symbol) {
-        return transitions.stream()
-                .filter(t -> t.getSymbol().equals(symbol))
-                .collect(Collectors.toList());
+        List<Transition> sameSymbol = transitionsBySymbol.get(symbol);
+        return sameSymbol == null ? new ArrayList<>() : new ArrayList<>(sameSymbol);
+    }
+
+    /**
+     * The transitions to the given state, drawn as one arrow; null if there are none.
+     */
+    public TransitionBundle getBundle(State target) {
+        return bundlesByTarget.get(target);
     }
 
     public Transition getTransition(String symbol) {
-        return transitions.stream()
-                .filter(t -> t.getSymbol().equals(symbol))
-                .findFirst().orElse(null);
+        List<Transition> sameSymbol = transitionsBySymbol.get(symbol);
+        return sameSymbol == null ? null : sameSymbol.get(0);
+    }
+
+    // --- Name Registry ---
+    // Names are unique per document; a state outside any document has no uniqueness constraint.
+    private boolean isNameTaken(String candidate) {
+        return document != null && document.getNameRegistry().isTaken(candidate);
+    }
+
+    private boolean claimName(String newName) {
+        String oldName = isNullOrEmpty(this.name) ? null : this.name;
+        return document == null || document.getNameRegistry().rename(oldName, newName);
+    }
+
+    // --- Document ---
+    public AutomatonDocument getDocument() {
+        return document;
+    }
+
+    void setDocument(AutomatonDocument document) {
+        this.document = document;
     }
 
     // --- Movement Methods ---
     public void moveState(double newX, double newY) {
         setLayoutX(newX);
         setLayoutY(newY);
+        if (document != null) {
+            document.onStateMoved(this);
+        }
     }
 
     public void animateMoveState(double newX, double newY, double durationMillis) {
-        Timeline timeline = new Timeline();
-        KeyValue kvX = new KeyValue(layoutXProperty(), newX, Interpolator.EASE_BOTH);
-        KeyValue kvY = new KeyValue(layoutYProperty(), newY, Interpolator.EASE_BOTH);
-        KeyFrame kf = new KeyFrame(Duration.millis(durationMillis), kvX, kvY);
-        timeline.getKeyFrames().add(kf);
-        timeline.play();
+        AnimationScheduler.moveTo(this, newX, newY, Duration.millis(durationMillis));
     }
 
     // --- Selection Methods ---
@@ -175,11 +331,9 @@ private final boolean selected = false;
             selectedState.deselect();
         }
         selectedState = this;
+        setDetailed(true);
         mainCircle.setStroke(Color.BLUE);
-        ScaleTransition scaleUp = new ScaleTransition(Duration.millis(200), this);
-        scaleUp.setToX(1.1);
-        scaleUp.setToY(1.1);
-        scaleUp.play();
+        AnimationScheduler.scaleTo(this, 1.1, Duration.millis(200));
 
         editableLabel.startEditing();
         if (selectionListener != null) {
@@ -202,10 +356,12 @@ private final boolean selected = false;
             if (e.getButton() == MouseButton.PRIMARY) {
                 double newX = e.getSceneX() - dragDeltaX;
                 double newY = e.getSceneY() - dragDeltaY;
+                AnimationScheduler.setDragging(true);
                 moveState(newX, newY);
                 e.consume();
             }
         });
+        this.setOnMouseReleased(e -> AnimationScheduler.setDragging(false));
     }
 
     /**
@@ -246,7 +402,7 @@ private final boolean selected = false;
             return true;
         }
         // If the candidate is different from the current name, it must not already exist.
-        if (!candidate.equals(this.name) && stateNames.contains(candidate)) {
+        if (!candidate.equals(this.name) && isNameTaken(candidate)) {
             return true;
         }
         return false;
@@ -258,7 +414,7 @@ private final boolean selected = false;
     private void showInvalidNameAlert(String candidate) {
         if (isNullOrEmpty(candidate)) {
             showAlert("Invalid State Name", "State name cannot be empty. Please enter a valid name.");
-        } else if (!candidate.equals(this.name) && stateNames.contains(candidate)) {
+        } else if (!candidate.equals(this.name) && isNameTaken(candidate)) {
             showAlert("Duplicate State Name", "A state with the name '" + candidate + "' already exists. Please choose a unique name.");
         }
     }
@@ -267,13 +423,12 @@ private final boolean selected = false;
      * Updates the internal name and corresponding UI elements.
      */
     private void updateName(String newName) {
-        if (!newName.equals(this.name)) {
-            if (!isNullOrEmpty(this.name)) {
-                stateNames.remove(this.name);
-            }
+        if (!newName.equals(this.name) && claimName(newName)) {
             this.name = newName;
-            stateNames.add(newName);
             setLabelText(newName);
+            if (document != null) {
+                document.onStateRenamed(this);
+            }
         }
     }
 
@@ -290,10 +445,7 @@ private final boolean selected = false;
      */
     private void commitDeselection() {
         mainCircle.setStroke(Color.BLACK);
-        ScaleTransition scaleDown = new ScaleTransition(Duration.millis(200), this);
-        scaleDown.setToX(1.0);
-        scaleDown.setToY(1.0);
-        scaleDown.play();
+        AnimationScheduler.scaleTo(this, 1.0, Duration.millis(200));
 
         if (selectedState == this) {
             selectedState = null;
@@ -303,29 +455,77 @@ private final boolean selected = false;
         }
         this.setOnMousePressed(null);
         this.setOnMouseDragged(null);
+        this.setOnMouseReleased(null);
+        // A drag cut short here never sees its release.
+        AnimationScheduler.setDragging(false);
+    }
+
+    // --- Simulation Highlight ---
+    public void setHighlighted(boolean highlighted) {
+        mainCircle.setFill(highlighted ? Color.GOLD : fill);
+    }
+
+    // --- Level of Detail ---
+    /**
+     * A state without detail is drawn as a plain dot: no outline, no name and no accepting ring.
+     * A name being edited stays visible.
+     */
+    public void setDetailed(boolean detailed) {
+        if (this.detailed == detailed) {
+            return;
+        }
+        this.detailed = detailed;
+        mainCircle.setStrokeWidth(detailed ? 1 : 0);
+        editableLabel.setVisible(detailed || editableLabel.isEditing());
+        if (acceptingIndicator != null) {
+            acceptingIndicator.setVisible(detailed);
+        }
+    }
+
+    public boolean isDetailed() {
+        return detailed;
     }
 
     // --- Deletion ---
+    /**
+     * Removes the state with its outgoing and incoming transitions, from the document and the pane.
+     */
     public void deleteState() {
-        if (!isNullOrEmpty(name)) {
-            stateNames.remove(name);
+        if (document != null) {
+            document.deleteState(this);
+        } else {
+            removeIncomingTransitions();
+        }
+        for (Map.Entry<State, TransitionBundle> entry : bundlesByTarget.entrySet()) {
+            entry.getKey().incomingBundles.remove(entry.getValue());
+            Transition carrier = entry.getValue().getCarrier();
+            if (carrier != null && carrier.getParent() instanceof Pane) {
+                ((Pane) carrier.getParent()).getChildren().remove(carrier);
+            }
         }
         transitions.clear();
+        transitionsBySymbol.clear();
+        bundlesByTarget.clear();
         if (getParent() instanceof Group) {
             ((Group)getParent()).getChildren().remove(this);
         }
     }
 
     // --- Label Management ---
+    // The label is centered once it can be measured: on the FX thread, after it was added to a scene.
     private void setLabelText(String text) {
         editableLabel.setText(text);
-        Platform.runLater(() -> {
-            editableLabel.applyCss();
-            editableLabel.layout();
-            double labelWidth = editableLabel.getLabelWidth();
-            double labelHeight = editableLabel.getLabelHeight();
-            editableLabel.setLabelPosition(-labelWidth / 2, -labelHeight / 2);
-        });
+        if (getScene() != null) {
+            Platform.runLater(this::centerLabel);
+        }
+    }
+
+    private void centerLabel() {
+        editableLabel.applyCss();
+        editableLabel.layout();
+        double labelWidth = editableLabel.getLabelWidth();
+        double labelHeight = editableLabel.getLabelHeight();
+        editableLabel.setLabelPosition(-labelWidth / 2, -labelHeight / 2);
     }
 
     // --- Accepting Indicator ---
@@ -336,6 +536,7 @@ private final boolean selected = false;
                 acceptingIndicator.setFill(Color.TRANSPARENT);
                 acceptingIndicator.setStroke(Color.GREEN);
                 acceptingIndicator.getStrokeDashArray().addAll(4.0, 4.0);
+                acceptingIndicator.setVisible(detailed);
                 // Place the indicator behind the main circle.
                 getChildren().add(0, acceptingIndicator);
             }
@@ -381,8 +582,17 @@ private final boolean selected = false;
         return mainCircle;
     }
 
+    /**
+     * Adds a completed transition without any user interaction.
+     * Adding the same symbol/target pair twice has no effect.
+     */
     public void addTransitionDirect(String symbol, State nextState) {
-        // Implementation for adding a direct transition can be added here.
+        for (Transition t : getTransitions(symbol)) {
+            if (Objects.equals(t.getNextState(), nextState)) {
+                return;
+            }
+        }
+        addTransition(new Transition(this, symbol, nextState));
     }
 
     // In some cases you might need this alternative getter.
@@ -0,0 +1,51 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The state names in use within one {@link AutomatonDocument}.
+ * Claiming a name is atomic, so several threads may name states of the same document concurrently,
+ * and separate documents never see each other's names.
+ */
+public class StateNameRegistry {
+
+    private final Set<String> names = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reserves a name.
+     * @return false if the name is already taken.
+     */
+    public boolean claim(String name) {
+        return names.add(name);
+    }
+
+    public void release(String name) {
+        names.remove(name);
+    }
+
+    public boolean isTaken(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Moves a reservation from {@code oldName} (may be null) to {@code newName}.
+     * @return false, with nothing changed, if the new name is taken.
+     */
+    public boolean rename(String oldName, String newName) {
+        if (newName.equals(oldName)) {
+            return true;
+        }
+        if (!names.add(newName)) {
+            return false;
+        }
+        if (oldName != null) {
+            names.remove(oldName);
+        }
+        return true;
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Determinizes an {@link NFA} with the subset construction.
+ *
+ * Each subset of NFA states is a packed long[] bitset. All subsets live back to back in one
+ * long[] pool and are interned through an open addressing hash table, so a subset is stored
+ * once no matter how often it is reached. ε-closures are computed once per NFA state up front
+ * (the closure table) and are simply OR-ed into the target subset while following a symbol.
+ * The empty subset is never created; it becomes a missing transition in the result.
+ */
+public class SubsetConstruction {
+
+    private final NFA nfa;
+    private final int n;
+    private final int k;
+    private final int words;
+
+    // ε-closure table in CSR form: closure of state s is closureStates[closureStart[s] .. closureStart[s+1]).
+    private int[] closureStart;
+    private int[] closureStates;
+
+    // Symbol moves in CSR form: targets of (s, a) are moveTargets[moveStart[s*k+a] .. moveStart[s*k+a+1]).
+    private int[] moveStart;
+    private int[] moveTargets;
+
+    private long[] acceptMask;
+
+    // Interned subsets.
+    private long[] pool;
+    private int[] subsetHash;
+    private int subsetCount;
+    private int[] table;
+    private int tableMask;
+
+    private int[] delta;
+
+    public SubsetConstruction(NFA nfa) {
+        this.nfa = nfa;
+        this.n = nfa.getStateCount();
+        this.k = nfa.getSymbolCount();
+        this.words = Math.max(1, (n + 63) >>> 6);
+    }
+
+    /**
+     * Runs the construction. Subset i of the result is DFA state i; state 0 is the ε-closure of
+     * the NFA's initial state.
+     */
+    public CompiledDFA run() {
+        return run(new int[]{nfa.getInitialState()});
+    }
+
+    /**
+     * Runs the construction from a set of initial states (used on reversed automata, whose initial
+     * states are the former accepting ones). State 0 is the union of their ε-closures; an empty
+     * set gives a single rejecting state.
+     */
+    CompiledDFA run(int[] initialStates) {
+        if (n == 0) {
+            throw new IllegalStateException("The NFA has no states.");
+        }
+        buildClosureTable();
+        buildMoveTable();
+        buildAcceptMask();
+
+        pool = new long[words * 64];
+        subsetHash = new int[64];
+        table = new int[256];
+        tableMask = table.length - 1;
+        subsetCount = 0;
+        delta = new int[k * 64];
+
+        long[] scratch = new long[words];
+        for (int s : initialStates) {
+            addClosure(scratch, s);
+        }
+        intern(scratch);
+
+        for (int current = 0; current < subsetCount; current++) {
+            int base = current * words;
+            for (int a = 0; a < k; a++) {
+                Arrays.fill(scratch, 0L);
+                boolean empty = true;
+                for (int w = 0; w < words; w++) {
+                    long bits = pool[base + w];
+                    while (bits != 0) {
+                        int s = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        int cell = s * k + a;
+                        for (int i = moveStart[cell]; i < moveStart[cell + 1]; i++) {
+                            int t = moveTargets[i];
+                            // A state already in the set brought its whole closure along with it.
+                            if ((scratch[t >>> 6] & (1L << t)) == 0) {
+                                addClosure(scratch, t);
+                                empty = false;
+                            }
+                        }
+                    }
+                }
+                // intern() may grow the delta array, so read the field only afterwards.
+                int target = empty ? CompiledDFA.NO_TRANSITION : intern(scratch);
+                delta[current * k + a] = target;
+            }
+        }
+
+        boolean[] accepting = new boolean[subsetCount];
+        for (int i = 0; i < subsetCount; i++) {
+            int base = i * words;
+            for (int w = 0; w < words; w++) {
+                if ((pool[base + w] & acceptMask[w]) != 0) {
+                    accepting[i] = true;
+                    break;
+                }
+            }
+        }
+        return new CompiledDFA(nfa.getAlphabet(), Arrays.copyOf(delta, subsetCount * k), accepting, 0, null);
+    }
+
+    /**
+     * Returns the NFA states that make up DFA state {@code subset}, in ascending order.
+     */
+    public int[] getSubsetMembers(int subset) {
+        int base = subset * words;
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(pool[base + w]);
+        }
+        int[] members = new int[count];
+        int i = 0;
+        for (int w = 0; w < words; w++) {
+            long bits = pool[base + w];
+            while (bits != 0) {
+                members[i++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Returns a display name such as "{q0,q2}" for a DFA state.
+     */
+    public String describeSubset(int subset) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int s : getSubsetMembers(subset)) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(nfa.getStateName(s));
+        }
+        return sb.append('}').toString();
+    }
+
+    public int getSubsetCount() {
+        return subsetCount;
+    }
+
+    // --- Precomputed tables ---
+    private void buildClosureTable() {
+        int edges = nfa.getEdgeCount();
+        int[] epsStart = new int[n + 1];
+        for (int e = 0; e < edges; e++) {
+            if (nfa.edgeSymbol(e) == NFA.EPSILON_INDEX) {
+                epsStart[nfa.edgeFrom(e) + 1]++;
+            }
+        }
+        for (int s = 0; s < n; s++) {
+            epsStart[s + 1] += epsStart[s];
+        }
+        int[] epsTargets = new int[epsStart[n]];
+        int[] fill = Arrays.copyOf(epsStart, n);
+        for (int e = 0; e < edges; e++) {
+            if (nfa.edgeSymbol(e) == NFA.EPSILON_INDEX) {
+                epsTargets[fill[nfa.edgeFrom(e)]++] = nfa.edgeTo(e);
+            }
+        }
+
+        closureStart = new int[n + 1];
+        closureStates = new int[n];
+        int size = 0;
+        int[] stamp = new int[n];
+        int[] stack = new int[n];
+        for (int s = 0; s < n; s++) {
+            closureStart[s] = size;
+            int marker = s + 1;
+            int top = 0;
+            stack[top++] = s;
+            stamp[s] = marker;
+            while (top > 0) {
+                int u = stack[--top];
+                if (size == closureStates.length) {
+                    closureStates = Arrays.copyOf(closureStates, size * 2);
+                }
+                closureStates[size++] = u;
+                for (int i = epsStart[u]; i < epsStart[u + 1]; i++) {
+                    int v = epsTargets[i];
+                    if (stamp[v] != marker) {
+                        stamp[v] = marker;
+                        stack[top++] = v;
+                    }
+                }
+            }
+        }
+        closureStart[n] = size;
+    }
+
+    private void buildMoveTable() {
+        int edges = nfa.getEdgeCount();
+        moveStart = new int[n * k + 1];
+        for (int e = 0; e < edges; e++) {
+            int a = nfa.edgeSymbol(e);
+            if (a != NFA.EPSILON_INDEX) {
+                moveStart[nfa.edgeFrom(e) * k + a + 1]++;
+            }
+        }
+        for (int c = 0; c < n * k; c++) {
+            moveStart[c + 1] += moveStart[c];
+        }
+        moveTargets = new int[moveStart[n * k]];
+        int[] fill = Arrays.copyOf(moveStart, n * k);
+        for (int e = 0; e < edges; e++) {
+            int a = nfa.edgeSymbol(e);
+            if (a != NFA.EPSILON_INDEX) {
+                moveTargets[fill[nfa.edgeFrom(e) * k + a]++] = nfa.edgeTo(e);
+            }
+        }
+    }
+
+    private void buildAcceptMask() {
+        acceptMask = new long[words];
+        for (int s = 0; s < n; s++) {
+            if (nfa.isAccepting(s)) {
+                acceptMask[s >>> 6] |= 1L << s;
+            }
+        }
+    }
+
+    private void addClosure(long[] set, int state) {
+        for (int i = closureStart[state]; i < closureStart[state + 1]; i++) {
+            int u = closureStates[i];
+            set[u >>> 6] |= 1L << u;
+        }
+    }
+
+    // --- Interning ---
+    /**
+     * Returns the index of the subset, adding it (and its delta row) if it is new.
+     */
+    private int intern(long[] set) {
+        int hash = hash(set);
+        int slot = hash & tableMask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0) {
+                break;
+            }
+            int candidate = entry - 1;
+            if (subsetHash[candidate] == hash && sameSubset(candidate, set)) {
+                return candidate;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+
+        int index = subsetCount;
+        if ((index + 1) * words > pool.length) {
+            pool = Arrays.copyOf(pool, pool.length * 2);
+        }
+        if (index == subsetHash.length) {
+            subsetHash = Arrays.copyOf(subsetHash, index * 2);
+        }
+        if ((index + 1) * k > delta.length) {
+            delta = Arrays.copyOf(delta, Math.max(delta.length * 2, (index + 1) * k));
+        }
+        System.arraycopy(set, 0, pool, index * words, words);
+        subsetHash[index] = hash;
+        table[slot] = index + 1;
+        subsetCount++;
+        if (subsetCount * 2 > table.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    private boolean sameSubset(int subset, long[] set) {
+        int base = subset * words;
+        for (int w = 0; w < words; w++) {
+            if (pool[base + w] != set[w]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        tableMask = table.length - 1;
+        for (int i = 0; i < subsetCount; i++) {
+            int slot = subsetHash[i] & tableMask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & tableMask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int hash(long[] set) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (long word : set) {
+            h = (h ^ word) * 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 31;
+        }
+        return (int) (h ^ (h >>> 32));
+    }
+}
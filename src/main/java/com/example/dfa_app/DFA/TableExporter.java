@@ -0,0 +1,59 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Plain transition table, tab separated: a header with the symbols, then one row per state with
+ * "-&gt;" for the initial state and "*" for accepting ones, the name, and the target for every
+ * symbol ("-" if there is none).
+ *
+ * <pre>
+ * 	state	0	1
+ * -&gt;	A	B	F
+ * 	B	G	C
+ * *	C	A	C
+ * </pre>
+ */
+public class TableExporter implements AutomatonExporter {
+
+    private static final String MISSING = "-";
+
+    @Override
+    public String getFormatName() {
+        return "table";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".tsv";
+    }
+
+    @Override
+    public <S> void write(AutomatonView<S> automaton, Writer out) throws IOException {
+        int k = automaton.getSymbolCount();
+        S initial = automaton.getInitialState();
+        out.write("\tstate");
+        for (int a = 0; a < k; a++) {
+            out.write('\t');
+            out.write(automaton.getSymbol(a));
+        }
+        out.write('\n');
+        for (S q : automaton.getStates()) {
+            if (q.equals(initial)) {
+                out.write("->");
+            }
+            if (automaton.isAccepting(q)) {
+                out.write('*');
+            }
+            out.write('\t');
+            out.write(automaton.getName(q));
+            for (int a = 0; a < k; a++) {
+                S t = automaton.next(q, a);
+                out.write('\t');
+                out.write(t == null ? MISSING : automaton.getName(t));
+            }
+            out.write('\n');
+        }
+    }
+}
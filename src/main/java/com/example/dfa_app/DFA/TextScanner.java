@@ -0,0 +1,219 @@
+package com.example.dfa_app.DFA;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Finds every substring of a text that a {@link CompiledDFA} accepts, leftmost-longest like a lexer:
+ * from the current position it runs the automaton as far as it can, reports the longest accepted
+ * prefix and continues right after it; if nothing is accepted it moves on by one character.
+ * Empty matches are not reported.
+ *
+ * Every symbol of the alphabet must be a single character. Text from a {@link Reader} is read as
+ * chars; a {@link ByteBuffer} or file is read byte by byte, each byte standing for the character
+ * with the same code (0-255), so ASCII logs work either way. Offsets are in chars or bytes.
+ *
+ * The automaton is flattened into plain arrays once, and transitions into states that cannot reach
+ * an accepting state are cut, so a failing attempt stops as soon as no match is possible. An attempt
+ * also stops after {@link #getMaxMatchLength()} characters, which bounds both the backtracking and the
+ * buffer a {@link Reader} needs. A scanner is immutable and can be shared between threads.
+ */
+public final class TextScanner {
+
+    /** Receives each match as [start, end); called in order of the text. */
+    public interface MatchListener {
+        void onMatch(long start, long end);
+    }
+
+    public static final int DEFAULT_MAX_MATCH_LENGTH = 64 * 1024;
+    // Part of a file mapped at once; each mapping also covers maxMatchLength bytes of the next part.
+    private static final long FILE_CHUNK = 1L << 30;
+
+    private final int k;
+    private final int initialState;
+    private final int[] delta;
+    private final boolean[] accepting;
+    private final int[] symbolOfChar;
+    private final int maxMatchLength;
+
+    public TextScanner(CompiledDFA dfa) {
+        this(dfa, DEFAULT_MAX_MATCH_LENGTH);
+    }
+
+    public TextScanner(CompiledDFA dfa, int maxMatchLength) {
+        if (maxMatchLength < 1) {
+            throw new IllegalArgumentException("The maximum match length must be at least 1.");
+        }
+        this.maxMatchLength = maxMatchLength;
+        this.k = dfa.getSymbolCount();
+        this.initialState = dfa.getInitialState();
+
+        int maxChar = 0;
+        for (String symbol : dfa.getAlphabet()) {
+            if (symbol.length() != 1) {
+                throw new IllegalArgumentException("The scanner needs single-character symbols, found \"" + symbol + "\".");
+            }
+            maxChar = Math.max(maxChar, symbol.charAt(0));
+        }
+        symbolOfChar = new int[Math.max(256, maxChar + 1)];
+        Arrays.fill(symbolOfChar, -1);
+        for (int a = 0; a < k; a++) {
+            symbolOfChar[dfa.getSymbol(a).charAt(0)] = a;
+        }
+
+        int n = dfa.getStateCount();
+        boolean[] live = Reachability.coReachable(dfa);
+        accepting = new boolean[n];
+        delta = new int[n * k];
+        for (int q = 0; q < n; q++) {
+            accepting[q] = dfa.isAccepting(q);
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                delta[q * k + a] = t != CompiledDFA.NO_TRANSITION && live[t] ? t : CompiledDFA.NO_TRANSITION;
+            }
+        }
+    }
+
+    public int getMaxMatchLength() {
+        return maxMatchLength;
+    }
+
+    // --- Reader ---
+    /**
+     * Scans the reader to its end (it is not closed). Returns the number of matches.
+     */
+    public long scan(Reader in, MatchListener listener) throws IOException {
+        // Holds the text from the start of the current attempt; bufStart is the offset of buf[0].
+        char[] buf = new char[Math.max(8192, maxMatchLength)];
+        long bufStart = 0;
+        int len = 0;
+        boolean eof = false;
+        long matches = 0;
+        long pos = 0;
+        while (true) {
+            int state = initialState;
+            long lastEnd = -1;
+            long i = pos;
+            while (i - pos < maxMatchLength) {
+                int at = (int) (i - bufStart);
+                if (at == len) {
+                    if (eof) {
+                        break;
+                    }
+                    // Drop what lies before the attempt, then refill behind it.
+                    int keep = (int) (pos - bufStart);
+                    if (keep > 0) {
+                        System.arraycopy(buf, keep, buf, 0, len - keep);
+                        len -= keep;
+                        bufStart = pos;
+                        at -= keep;
+                    }
+                    int read = in.read(buf, len, buf.length - len);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    len += read;
+                }
+                int c = buf[at];
+                int a = c < symbolOfChar.length ? symbolOfChar[c] : -1;
+                if (a < 0) {
+                    break;
+                }
+                state = delta[state * k + a];
+                if (state < 0) {
+                    break;
+                }
+                i++;
+                if (accepting[state]) {
+                    lastEnd = i;
+                }
+            }
+            if (lastEnd > pos) {
+                listener.onMatch(pos, lastEnd);
+                matches++;
+                pos = lastEnd;
+            } else {
+                pos++;
+            }
+            if (eof && pos >= bufStart + len) {
+                return matches;
+            }
+        }
+    }
+
+    // --- Bytes ---
+    /**
+     * Scans the remaining bytes of the buffer without changing its position. Offsets are relative
+     * to the position. Returns the number of matches.
+     */
+    public long scan(ByteBuffer buffer, MatchListener listener) {
+        int from = buffer.position();
+        int limit = buffer.limit();
+        long[] matches = new long[1];
+        scanBytes(buffer, from, limit, limit, -from, listener, matches);
+        return matches[0];
+    }
+
+    /**
+     * Scans a whole file through memory mapping, a part of at most 1 GiB at a time.
+     * Returns the number of matches.
+     */
+    public long scan(Path file, MatchListener listener) throws IOException {
+        long[] matches = new long[1];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long pos = 0;
+            while (pos < size) {
+                // Attempts start before startLimit; the extra maxMatchLength bytes let them finish.
+                long startLimit = Math.min(size, pos + FILE_CHUNK);
+                long mapEnd = Math.min(size, startLimit + maxMatchLength);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, pos, mapEnd - pos);
+                int next = scanBytes(region, 0, (int) (startLimit - pos), (int) (mapEnd - pos), pos, listener, matches);
+                pos += next;
+            }
+        }
+        return matches[0];
+    }
+
+    /**
+     * Runs attempts starting in [from, startLimit) that may read up to limit, reporting offset + index.
+     * Returns the index where the next attempt would start (at or after startLimit).
+     */
+    private int scanBytes(ByteBuffer bytes, int from, int startLimit, int limit, long offset,
+                          MatchListener listener, long[] matches) {
+        int pos = from;
+        while (pos < startLimit) {
+            int state = initialState;
+            int lastEnd = -1;
+            int end = (int) Math.min(limit, (long) pos + maxMatchLength);
+            for (int i = pos; i < end; ) {
+                int a = symbolOfChar[bytes.get(i) & 0xFF];
+                if (a < 0) {
+                    break;
+                }
+                state = delta[state * k + a];
+                if (state < 0) {
+                    break;
+                }
+                i++;
+                if (accepting[state]) {
+                    lastEnd = i;
+                }
+            }
+            if (lastEnd > pos) {
+                listener.onMatch(offset + pos, offset + lastEnd);
+                matches[0]++;
+                pos = lastEnd;
+            } else {
+                pos++;
+            }
+        }
+        return pos;
+    }
+}
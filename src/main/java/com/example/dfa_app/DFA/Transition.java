@@ -1,7 +1,6 @@
 package com.example.dfa_app.DFA;
 
 import com.example.dfa_app.SelectionListener;
-import javafx.animation.FadeTransition;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Point2D;
@@ -13,18 +12,25 @@ import javafx.scene.layout.Pane;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Represents a connection (transition) between two states.
  * This class maintains a CurvedArrow (for the visual representation) and an EditableLabel (for naming).
  * It contains no direct event handlers for selection/deselection—the control point's drag events are registered
  * when the Transition is selected and removed when it is deselected.
+ * Once added to its state, a transition joins the {@link TransitionBundle} of its state pair; only the
+ * bundle's carrier keeps an arrow and a label, the other members share them.
  */
 public class Transition extends Group implements simularity {
 
     private final State fromState;
     private State toState;
-    private final CurvedArrow curvedArrow;
-    private final EditableLabel editableLabel;
+    // Null once the drawing was given up to the carrier of the bundle.
+    private CurvedArrow curvedArrow;
+    private EditableLabel editableLabel;
+    private TransitionBundle bundle;
     private boolean complete = false;
 
     // Used while drawing interactively.
@@ -35,8 +41,14 @@ public class Transition extends Group implements simularity {
     private static final double CONTROL_OFFSET = 40.0;
     private String symbol;
     private SelectionListener selectionListener;
+    private final InvalidationListener fromListener = obs -> updateTransition();
 
     public Transition(State fromState) {
+        this(fromState, true);
+    }
+
+    // An interactive transition starts with the symbol editor open.
+    private Transition(State fromState, boolean interactive) {
         if (fromState == null) {
             throw new IllegalArgumentException("fromState cannot be null.");
         }
@@ -58,15 +70,112 @@ public class Transition extends Group implements simularity {
         }
 
         // Listen for fromState layout changes.
-        InvalidationListener layoutListener = obs -> updateTransition();
-        fromState.layoutXProperty().addListener(layoutListener);
-        fromState.layoutYProperty().addListener(layoutListener);
+        fromState.layoutXProperty().addListener(fromListener);
+        fromState.layoutYProperty().addListener(fromListener);
 
         updateTransition();
+        if (interactive) {
+            editableLabel.startEditing();
+        }
     }
 
+    /**
+     * Creates an already completed transition (used when the model is rebuilt by the DFA
+     * algorithms). No naming step is involved.
+     */
+    public Transition(State fromState, String symbol, State toState) {
+        this(fromState, false);
+        if (toState == null) {
+            throw new IllegalArgumentException("Target state cannot be null.");
+        }
+        this.toState = toState;
+        setSymbol(symbol);
+        editableLabel.setText(symbol);
+        editableLabel.finalizeLabel();
+        this.complete = true;
+        curvedArrow.setComplete(true);
+
+        InvalidationListener toListener = obs -> updateTransition();
+        toState.layoutXProperty().addListener(toListener);
+        toState.layoutYProperty().addListener(toListener);
+
+        updateTransition();
+    }
+
+    /**
+     * The arrow that draws this transition, shared by all members of its bundle.
+     */
     public CurvedArrow getCurvedArrow() {
-        return curvedArrow;
+        return bundle != null ? bundle.getCarrier().curvedArrow : curvedArrow;
+    }
+
+    // --- Bundling ---
+    public TransitionBundle getBundle() {
+        return bundle;
+    }
+
+    void setBundle(TransitionBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    /**
+     * True if this transition has its own arrow and label in the pane (it is a bundle carrier).
+     */
+    public boolean isDrawn() {
+        return curvedArrow != null;
+    }
+
+    // Joining a bundle as a non-carrier: the arrow and label are dropped and the group leaves the pane.
+    void releaseDrawing() {
+        if (curvedArrow == null) {
+            return;
+        }
+        editableLabel.finalizeLabel();
+        getChildren().clear();
+        curvedArrow = null;
+        editableLabel = null;
+        if (getParent() instanceof Pane) {
+            ((Pane) getParent()).getChildren().remove(this);
+        }
+    }
+
+    // Becoming the carrier after the previous one left: its drawing and place in the pane are taken over.
+    void takeDrawing(Transition previous) {
+        curvedArrow = previous.curvedArrow;
+        editableLabel = previous.editableLabel;
+        previous.curvedArrow = null;
+        previous.editableLabel = null;
+        previous.getChildren().clear();
+        getChildren().setAll(curvedArrow, editableLabel);
+        if (previous.getParent() instanceof Pane) {
+            Pane pane = (Pane) previous.getParent();
+            pane.getChildren().set(pane.getChildren().indexOf(previous), this);
+        }
+    }
+
+    // --- Level of Detail ---
+    /**
+     * Without detail the arrow is a plain line and the label is hidden (unless it is being edited).
+     * Only the carrier of a bundle is drawn, so this has no effect on the other members.
+     */
+    public void setDetailed(boolean detailed) {
+        if (curvedArrow == null || curvedArrow.isDetailed() == detailed) {
+            return;
+        }
+        curvedArrow.setDetailed(detailed);
+        editableLabel.setVisible(detailed || editableLabel.isEditing());
+        if (detailed && complete) {
+            // The label was not moved while it was hidden.
+            placeLabel();
+        }
+    }
+
+    // Shows the label of the bundle on the carrier.
+    void showLabel(String text) {
+        editableLabel.setText(text);
+        if (complete) {
+            placeLabel();
+        }
     }
 
     // Allows updating a temporary endpoint while drawing.
@@ -78,6 +187,9 @@ public class Transition extends Group implements simularity {
 
     // Updates the geometry of the arrow based on state positions and control point calculations.
     private void updateTransition() {
+        if (curvedArrow == null) {
+            return;
+        }
         double fromX = fromState.getLayoutX();
         double fromY = fromState.getLayoutY();
         double startX, startY, endX, endY, controlX, controlY, dx, dy, distance;
@@ -143,67 +255,127 @@ public class Transition extends Group implements simularity {
         curvedArrow.setControl(controlX, controlY);
 
         if (complete) {
-            Platform.runLater(() -> {
-                editableLabel.applyCss();
-                editableLabel.layout();
-                double labelWidth = editableLabel.getLabelWidth();
-                double labelHeight = editableLabel.getLabelHeight();
-                double[] tip = curvedArrow.getArrowTip();
-                double labelX = tip[0] - labelWidth / 2.0;
-                double labelY = tip[1] - labelHeight / 2.0;
-                editableLabel.setLabelPosition(labelX, labelY);
-                editableLabel.setEditorPosition(labelX, labelY);
-            });
+            placeLabel();
         }
     }
 
-    // Completes the transition by attaching the target state.
+    // Centers the label on the arrow tip once its size is known.
+    private void placeLabel() {
+        Platform.runLater(() -> {
+            if (editableLabel == null || !editableLabel.isVisible()) {
+                return;
+            }
+            editableLabel.applyCss();
+            editableLabel.layout();
+            double labelWidth = editableLabel.getLabelWidth();
+            double labelHeight = editableLabel.getLabelHeight();
+            double[] tip = curvedArrow.getArrowTip();
+            double labelX = tip[0] - labelWidth / 2.0;
+            double labelY = tip[1] - labelHeight / 2.0;
+            editableLabel.setLabelPosition(labelX, labelY);
+            editableLabel.setEditorPosition(labelX, labelY);
+        });
+    }
+
+    /**
+     * Completes the transition by attaching the target state. Without a valid symbol the transition
+     * stays incomplete and the symbol editor stays open; pressing Enter in it tries again.
+     */
     public void completeTransition(State targetState) {
         if (targetState == null) {
             throw new IllegalArgumentException("Target state cannot be null.");
         }
         this.toState = targetState;
-        attemptFinalizeName();
+        if (!attemptFinalizeName()) {
+            // The editor is shared; the handler is only valid while it edits this label.
+            editableLabel.getEditor().setOnAction(e -> {
+                if (editableLabel != null && editableLabel.isEditing()) {
+                    completeTransition(targetState);
+                }
+            });
+            return;
+        }
+        editableLabel.getEditor().setOnAction(null);
+        TransitionCheck check = fromState.addTransition(this);
+        if (check == TransitionCheck.DUPLICATE) {
+            showAlert(Alert.AlertType.ERROR, "Duplicate Transition", "State '" + fromState.getName()
+                    + "' already has a transition '" + symbol + "' to '" + targetState.getName() + "'.");
+            discard();
+            return;
+        }
+        if (check == TransitionCheck.NONDETERMINISTIC) {
+            showAlert(Alert.AlertType.WARNING, "Nondeterministic Transition", "State '" + fromState.getName()
+                    + "' now has several transitions on '" + symbol + "'.");
+        }
         this.complete = true;
-        curvedArrow.setComplete(true);
-
+        // Also kept by a bundled transition, for when it takes over the drawing of its bundle.
         InvalidationListener toListener = obs -> updateTransition();
         toState.layoutXProperty().addListener(toListener);
         toState.layoutYProperty().addListener(toListener);
+        if (!isDrawn()) {
+            // Joined an existing arrow; the carrier already shows the new symbol.
+            return;
+        }
+        curvedArrow.setComplete(true);
 
-        editableLabel.setVisible(true);
-        FadeTransition ft = new FadeTransition(Duration.millis(300), editableLabel);
-        ft.setFromValue(0.0);
-        ft.setToValue(1.0);
-        ft.play();
+        editableLabel.setVisible(curvedArrow.isDetailed());
+        AnimationScheduler.fadeIn(editableLabel, Duration.millis(300));
 
         updateTransition();
     }
 
-    // Validates and finalizes the transition name.
-    public void attemptFinalizeName() {
+    /**
+     * Validates and finalizes the transition name.
+     * @return true if the symbol is valid and was set; otherwise an alert is shown and editing restarts.
+     */
+    public boolean attemptFinalizeName() {
         String proposedName = editableLabel.getText();
         if (proposedName != null && !proposedName.trim().isEmpty()) {
             editableLabel.finalizeLabel();
             setSymbol(proposedName);
-            System.out.println("Successful Transition Created: " + proposedName);
             curvedArrow.deselect();
-        } else {
-            showAlert("Invalid Transition Name", "Transition name cannot be empty. Please enter a valid name.");
-            editableLabel.startEditing();
+            return true;
         }
+        showAlert(Alert.AlertType.ERROR, "Invalid Transition Name",
+                "Transition name cannot be empty. Please enter a valid name.");
+        editableLabel.startEditing();
+        return false;
     }
 
+    // A transition that was never added: it leaves the pane and stops following its source state.
+    private void discard() {
+        fromState.layoutXProperty().removeListener(fromListener);
+        fromState.layoutYProperty().removeListener(fromListener);
+        if (getParent() instanceof Pane) {
+            ((Pane) getParent()).getChildren().remove(this);
+        }
+    }
+
+    /**
+     * Sets the symbol; a transition that was already added to its state is moved to the new symbol
+     * there (see {@link State#renameTransition}).
+     */
     public void setSymbol(String proposedName) {
-        this.symbol = proposedName;
+        if (Objects.equals(symbol, proposedName)) {
+            return;
+        }
+        if (symbol != null && fromState.hasTransition(this)) {
+            fromState.renameTransition(this, proposedName);
+        } else {
+            this.symbol = proposedName;
+        }
+    }
+
+    void assignSymbol(String symbol) {
+        this.symbol = symbol;
     }
 
     public String getSymbol() {
         return symbol;
     }
 
-    private void showAlert(String title, String message) {
-        Alert alert = new Alert(Alert.AlertType.ERROR);
+    private void showAlert(Alert.AlertType type, String title, String message) {
+        Alert alert = new Alert(type);
         alert.setTitle(title);
         alert.setHeaderText(null);
         alert.setContentText(message);
@@ -214,6 +386,10 @@ public class Transition extends Group implements simularity {
         return toState;
     }
 
+    public State getFromState() {
+        return fromState;
+    }
+
     /**
      * When a Transition is selected, we want to both update visual style and allow the user
      * to drag the control point to adjust the curve. Therefore, we attach drag event handlers to
@@ -221,7 +397,7 @@ public class Transition extends Group implements simularity {
      */
     @Override
     public void select() {
-        curvedArrow.select();
+        getCurvedArrow().select();
         registerControlPointDrag();
     }
 
@@ -230,12 +406,16 @@ public class Transition extends Group implements simularity {
      */
     @Override
     public void deselect() {
-        curvedArrow.deselect();
+        getCurvedArrow().deselect();
         deregisterControlPointDrag();
     }
 
     public boolean isSelected() {
-        return curvedArrow.isSelected();
+        return getCurvedArrow().isSelected();
+    }
+
+    public void setHighlighted(boolean highlighted) {
+        getCurvedArrow().setHighlighted(highlighted);
     }
 
     public void setSelectionListener(SelectionListener listener) {
@@ -267,12 +447,20 @@ public class Transition extends Group implements simularity {
                 double newSceneY = e.getSceneY() - dragDelta[1];
                 // Convert scene coordinates into the arrow's local coordinate system.
                 Point2D localPoint = arrow.sceneToLocal(newSceneX, newSceneY);
+                AnimationScheduler.setDragging(true);
                 arrow.setControl(localPoint.getX(), localPoint.getY());
+                if (fromState.getDocument() != null) {
+                    // The whole bundle moved, not only the transition that was selected.
+                    for (Transition t : bundle != null ? bundle.getTransitions() : List.of(this)) {
+                        fromState.getDocument().onControlPointMoved(fromState, t);
+                    }
+                }
                 e.consume();
             }
         });
 
         cp.setOnMouseReleased((MouseEvent e) -> {
+            AnimationScheduler.setDragging(false);
             e.consume();
         });
     }
@@ -286,5 +474,6 @@ public class Transition extends Group implements simularity {
         cp.setOnMousePressed(null);
         cp.setOnMouseDragged(null);
         cp.setOnMouseReleased(null);
+        AnimationScheduler.setDragging(false);
     }
 }
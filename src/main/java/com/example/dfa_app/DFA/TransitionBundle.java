@@ -0,0 +1,151 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * All transitions from one state to another, drawn as a single arrow labelled with every symbol,
+ * e.g. "a,b" or "[a-z],x1".
+ *
+ * The model still has one {@link Transition} per symbol; only the first one (the carrier) keeps its
+ * arrow and label in the pane, the others give theirs up when they join. A state pair with 26
+ * symbols is then one arrow to lay out instead of 26 overlapping ones. Bundles are kept by
+ * {@link State#addTransition(Transition)} and {@link State#removeTransition(Transition)}.
+ */
+public class TransitionBundle {
+
+    // Runs of at least this many consecutive characters are shown as a range.
+    private static final int MIN_RANGE = 4;
+    // Single characters first, so longer symbols do not split their runs.
+    private static final Comparator<String> SYMBOL_ORDER =
+            Comparator.comparing((String symbol) -> symbol.length() != 1).thenComparing(Comparator.naturalOrder());
+
+    private final State fromState;
+    private final State toState;
+    private final List<Transition> members = new ArrayList<>(1);
+
+    TransitionBundle(State fromState, State toState) {
+        this.fromState = fromState;
+        this.toState = toState;
+    }
+
+    // --- Members ---
+    void add(Transition transition) {
+        if (members.contains(transition)) {
+            return;
+        }
+        members.add(transition);
+        transition.setBundle(this);
+        if (members.size() > 1) {
+            transition.releaseDrawing();
+        }
+        refreshLabel();
+    }
+
+    /**
+     * Removes the transition; if it was the carrier, the next member takes over its arrow and label.
+     */
+    void remove(Transition transition) {
+        int index = members.indexOf(transition);
+        if (index < 0) {
+            return;
+        }
+        members.remove(index);
+        transition.setBundle(null);
+        if (members.isEmpty()) {
+            return;
+        }
+        if (index == 0) {
+            members.get(0).takeDrawing(transition);
+        }
+        refreshLabel();
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * The member that draws the bundle.
+     */
+    public Transition getCarrier() {
+        return members.isEmpty() ? null : members.get(0);
+    }
+
+    public List<Transition> getTransitions() {
+        return Collections.unmodifiableList(members);
+    }
+
+    public State getFromState() {
+        return fromState;
+    }
+
+    public State getToState() {
+        return toState;
+    }
+
+    // --- Label ---
+    public String getLabel() {
+        List<String> symbols = new ArrayList<>(members.size());
+        for (Transition t : members) {
+            symbols.add(t.getSymbol());
+        }
+        return label(symbols);
+    }
+
+    void refreshLabel() {
+        getCarrier().showLabel(getLabel());
+    }
+
+    /**
+     * Sorted, comma separated symbols, with runs of single characters such as a, b, ..., z written
+     * as "[a-z]".
+     */
+    public static String label(Collection<String> symbols) {
+        StringBuilder label = new StringBuilder();
+        List<Character> run = new ArrayList<>();
+        for (String symbol : sorted(symbols)) {
+            if (symbol.length() == 1) {
+                char c = symbol.charAt(0);
+                if (!run.isEmpty() && c != run.get(run.size() - 1) + 1) {
+                    appendRun(label, run);
+                }
+                run.add(c);
+                continue;
+            }
+            appendRun(label, run);
+            append(label, symbol);
+        }
+        appendRun(label, run);
+        return label.toString();
+    }
+
+    private static Set<String> sorted(Collection<String> symbols) {
+        Set<String> sorted = new TreeSet<>(SYMBOL_ORDER);
+        sorted.addAll(symbols);
+        return sorted;
+    }
+
+    private static void appendRun(StringBuilder label, List<Character> run) {
+        if (run.size() >= MIN_RANGE) {
+            append(label, "[" + run.get(0) + "-" + run.get(run.size() - 1) + "]");
+        } else {
+            for (char c : run) {
+                append(label, String.valueOf(c));
+            }
+        }
+        run.clear();
+    }
+
+    private static void append(StringBuilder label, String part) {
+        if (label.length() > 0) {
+            label.append(',');
+        }
+        label.append(part);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * Result of registering a transition with its source state.
+ */
+public enum TransitionCheck {
+    /** First transition of this state on the symbol. */
+    ADDED,
+    /** Added, but the state now has several transitions on the symbol (or it is an ε-transition). */
+    NONDETERMINISTIC,
+    /** Rejected: the state already has a transition with the same symbol and target. */
+    DUPLICATE
+}
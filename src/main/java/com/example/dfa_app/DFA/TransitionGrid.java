@@ -0,0 +1,316 @@
+package com.example.dfa_app.DFA;
+
+import com.example.dfa_app.SelectionListener;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.control.cell.TextFieldTableCell;
+import javafx.scene.layout.Pane;
+import javafx.util.converter.DefaultStringConverter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Fills the transition table of the editor from an {@link AutomatonDocument}: one row per state,
+ * one column per symbol, and in each cell the targets of that state on that symbol.
+ *
+ * Only what is on screen is built. The rows are the State objects themselves, a cell computes its
+ * text when it is shown, and with a fixed cell size the table also skips the columns scrolled out
+ * of view, so 100k states by 200 symbols scroll like a small table. Edits of the document are
+ * collected and shown once per pulse.
+ *
+ * Edits in the table write through to the states: a name cell renames its state, a symbol cell
+ * takes the comma separated names of the targets (empty for none), and the last column "+" takes
+ * "symbol: targets" to start a new symbol. Unknown target names create states with the factory.
+ */
+public class TransitionGrid implements AutomatonDocument.EditListener {
+
+    public static final double CELL_HEIGHT = 24;
+    private static final String NEW_SYMBOL = "+";
+
+    private final TableView<State> table;
+    private final TableColumn<State, ?> symbolsColumn;
+    private final AutomatonDocument document;
+    private final Function<String, State> stateFactory;
+    private final SelectionListener selectionListener;
+
+    private final ObservableList<State> rows = FXCollections.observableArrayList();
+    // Columns are kept per symbol, so widths survive the alphabet changing around them.
+    private final Map<String, TableColumn<State, String>> columns = new HashMap<>();
+    private final TableColumn<State, String> newSymbolColumn;
+    private List<String> symbols = new ArrayList<>();
+    private final Map<String, State> statesByName = new HashMap<>();
+
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private volatile boolean rowsStale = true;
+
+    /**
+     * @param stateFactory Creates (and adds to the document) a state with the given name, for target
+     *                     names that do not exist yet.
+     */
+    public TransitionGrid(TableView<State> table, TableColumn<State, String> stateColumn,
+                          TableColumn<State, ?> symbolsColumn, AutomatonDocument document,
+                          Function<String, State> stateFactory, SelectionListener selectionListener) {
+        this.table = table;
+        this.symbolsColumn = symbolsColumn;
+        this.document = document;
+        this.stateFactory = stateFactory;
+        this.selectionListener = selectionListener;
+
+        table.setItems(rows);
+        table.setEditable(true);
+        table.setFixedCellSize(CELL_HEIGHT);
+
+        stateColumn.setEditable(true);
+        stateColumn.setCellValueFactory(c -> new ReadOnlyStringWrapper(c.getValue().getName()));
+        stateColumn.setCellFactory(column -> new TextFieldTableCell<>(new DefaultStringConverter()) {
+            @Override
+            public void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                TableRow<State> row = getTableRow();
+                if (!empty && !isEditing() && row != null && row.getItem() != null) {
+                    setText(marker(row.getItem()) + item);
+                }
+            }
+        });
+        stateColumn.setOnEditCommit(e -> rename(e.getRowValue(), e.getNewValue()));
+
+        newSymbolColumn = new TableColumn<>(NEW_SYMBOL);
+        newSymbolColumn.setEditable(true);
+        newSymbolColumn.setSortable(false);
+        newSymbolColumn.setCellValueFactory(c -> new ReadOnlyStringWrapper(""));
+        newSymbolColumn.setCellFactory(TextFieldTableCell.forTableColumn());
+        newSymbolColumn.setOnEditCommit(e -> addSymbol(e.getRowValue(), e.getNewValue()));
+
+        MenuItem newState = new MenuItem("New state");
+        newState.setOnAction(e -> stateFactory.apply(freeName()));
+        MenuItem initial = new MenuItem("Initial state");
+        initial.setOnAction(e -> {
+            State state = table.getSelectionModel().getSelectedItem();
+            if (state != null) {
+                document.setInitialState(state);
+            }
+        });
+        MenuItem accepting = new MenuItem("Accepting");
+        accepting.setOnAction(e -> {
+            State state = table.getSelectionModel().getSelectedItem();
+            if (state != null) {
+                state.setAccepting(!state.isAccepting());
+            }
+        });
+        table.setContextMenu(new ContextMenu(newState, initial, accepting));
+
+        refresh();
+    }
+
+    private static String marker(State state) {
+        String marker = state.isAccepting() ? "*" : "";
+        AutomatonDocument document = state.getDocument();
+        if (document != null && state.equals(document.getInitialState())) {
+            marker = "→" + marker;
+        }
+        return marker.isEmpty() ? "" : marker + " ";
+    }
+
+    // --- Listener (editing thread) ---
+    @Override
+    public void stateAdded(State state) {
+        rowsStale = true;
+        scheduleRefresh();
+    }
+
+    @Override
+    public void stateRemoved(State state) {
+        rowsStale = true;
+        scheduleRefresh();
+    }
+
+    @Override
+    public void stateRenamed(State state) {
+        scheduleRefresh();
+    }
+
+    @Override
+    public void acceptingChanged(State state) {
+        scheduleRefresh();
+    }
+
+    @Override
+    public void initialStateChanged(State state) {
+        scheduleRefresh();
+    }
+
+    @Override
+    public void transitionAdded(State from, Transition transition) {
+        scheduleRefresh();
+    }
+
+    @Override
+    public void transitionRemoved(State from, Transition transition) {
+        scheduleRefresh();
+    }
+
+    // Many edits (e.g. a whole automaton being rebuilt) end in a single refresh.
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            Platform.runLater(this::refresh);
+        }
+    }
+
+    // --- Refresh (FX thread) ---
+    private void refresh() {
+        refreshPending.set(false);
+        if (rowsStale) {
+            rowsStale = false;
+            rows.setAll(document.getStates());
+            statesByName.clear();
+        }
+        List<String> alphabet = document.getAlphabet();
+        Collections.sort(alphabet);
+        if (document.getEpsilonTransitionCount() > 0) {
+            alphabet.add(NFA.EPSILON);
+        }
+        if (!alphabet.equals(symbols)) {
+            symbols = alphabet;
+            List<TableColumn<State, ?>> visible = new ArrayList<>(alphabet.size() + 1);
+            for (String symbol : alphabet) {
+                visible.add(columns.computeIfAbsent(symbol, this::createColumn));
+            }
+            columns.keySet().retainAll(alphabet);
+            visible.add(newSymbolColumn);
+            symbolsColumn.getColumns().setAll(visible);
+        }
+        // Only the cells on screen compute their text again.
+        table.refresh();
+    }
+
+    private TableColumn<State, String> createColumn(String symbol) {
+        TableColumn<State, String> column = new TableColumn<>(symbol);
+        column.setEditable(true);
+        column.setSortable(false);
+        column.setCellValueFactory(c -> new ReadOnlyStringWrapper(targets(c.getValue(), symbol)));
+        column.setCellFactory(TextFieldTableCell.forTableColumn());
+        column.setOnEditCommit(e -> setTargets(e.getRowValue(), symbol, e.getNewValue()));
+        return column;
+    }
+
+    private static String targets(State state, String symbol) {
+        List<Transition> transitions = state.getTransitions(symbol);
+        if (transitions.isEmpty()) {
+            return "";
+        }
+        if (transitions.size() == 1) {
+            return transitions.get(0).getNextState().getName();
+        }
+        StringBuilder text = new StringBuilder();
+        for (Transition t : transitions) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(t.getNextState().getName());
+        }
+        return text.toString();
+    }
+
+    // --- Write-through ---
+    private void rename(State state, String name) {
+        if (name != null && !name.trim().isEmpty()) {
+            try {
+                state.setName(name.trim());
+            } catch (IllegalArgumentException e) {
+                Alert alert = new Alert(Alert.AlertType.ERROR);
+                alert.setTitle("Duplicate State Name");
+                alert.setHeaderText(null);
+                alert.setContentText(e.getMessage());
+                alert.showAndWait();
+            }
+        }
+        table.refresh();
+    }
+
+    private void addSymbol(State state, String text) {
+        int colon = text == null ? -1 : text.indexOf(':');
+        String symbol = colon < 0 ? "" : text.substring(0, colon).trim();
+        if (symbol.isEmpty() || symbol.equals(NEW_SYMBOL)) {
+            System.out.println("Enter a new transition as 'symbol: target, ...'.");
+            table.refresh();
+            return;
+        }
+        setTargets(state, symbol, text.substring(colon + 1));
+    }
+
+    /**
+     * Makes the given names the only targets of the state on the symbol.
+     */
+    private void setTargets(State from, String symbol, String text) {
+        Set<State> wanted = new LinkedHashSet<>();
+        for (String name : (text == null ? "" : text).split(",")) {
+            name = name.trim();
+            if (!name.isEmpty()) {
+                State target = findOrCreate(name);
+                if (target != null) {
+                    wanted.add(target);
+                }
+            }
+        }
+        for (Transition t : from.getTransitions(symbol)) {
+            if (!wanted.remove(t.getNextState())) {
+                from.removeTransition(t);
+                if (t.getParent() instanceof Pane) {
+                    ((Pane) t.getParent()).getChildren().remove(t);
+                }
+            }
+        }
+        for (State target : wanted) {
+            Transition transition = new Transition(from, symbol, target);
+            transition.setSelectionListener(selectionListener);
+            from.addTransition(transition);
+        }
+        table.refresh();
+    }
+
+    private State findOrCreate(String name) {
+        State state = statesByName.get(name);
+        if (state == null || !name.equals(state.getName()) || state.getDocument() != document) {
+            statesByName.clear();
+            for (State s : document.getStates()) {
+                statesByName.put(s.getName(), s);
+            }
+            state = statesByName.get(name);
+        }
+        if (state == null) {
+            state = stateFactory.apply(name);
+            if (state != null) {
+                statesByName.put(name, state);
+            }
+        }
+        return state;
+    }
+
+    private String freeName() {
+        Set<String> taken = new LinkedHashSet<>();
+        for (State s : document.getStates()) {
+            taken.add(s.getName());
+        }
+        int i = document.getStateCount();
+        while (taken.contains("q" + i)) {
+            i++;
+        }
+        return "q" + i;
+    }
+}
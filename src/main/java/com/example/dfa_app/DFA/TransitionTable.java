@@ -0,0 +1,48 @@
+package com.example.dfa_app.DFA;
+
+/**
+ * The transition function of a {@link CompiledDFA}: state × symbol → state, or
+ * {@link CompiledDFA#NO_TRANSITION}. Every implementation answers {@link #next} in O(1).
+ *
+ * {@link #of} measures how sparse a table is and picks the representation:
+ * {@link DenseTransitionTable} for mostly filled tables, {@link CombTransitionTable} when most states
+ * only use a few symbols (or send most symbols to the same state).
+ */
+public interface TransitionTable {
+
+    /**
+     * The compressed form is only used if it takes at most this fraction of the dense size,
+     * since a dense lookup is a little faster.
+     */
+    double MAX_COMPRESSED_RATIO = 0.5;
+
+    int getStateCount();
+
+    int getSymbolCount();
+
+    int next(int state, int symbol);
+
+    /**
+     * Approximate size of the arrays in bytes.
+     */
+    long getMemoryBytes();
+
+    /**
+     * The table in dense form (row = state, column = symbol). Callers must not modify it.
+     */
+    int[] toDense();
+
+    /**
+     * Picks the smaller representation for a dense table of stateCount * symbolCount entries.
+     */
+    static TransitionTable of(int[] delta, int stateCount, int symbolCount) {
+        DenseTransitionTable dense = new DenseTransitionTable(delta, stateCount, symbolCount);
+        long limit = (long) (dense.getMemoryBytes() * MAX_COMPRESSED_RATIO);
+        // Cheap estimate first, so dense automata never pay for building the comb.
+        if (symbolCount == 0 || CombTransitionTable.estimateBytes(delta, stateCount, symbolCount) > limit) {
+            return dense;
+        }
+        CombTransitionTable comb = new CombTransitionTable(delta, stateCount, symbolCount);
+        return comb.getMemoryBytes() <= limit ? comb : dense;
+    }
+}
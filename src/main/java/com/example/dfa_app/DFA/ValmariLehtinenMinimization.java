@@ -0,0 +1,223 @@
+package com.example.dfa_app.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Valmari and Lehtinen's minimization of DFAs with partial transition functions, in O(m log n)
+ * for m existing transitions: the dead state is never added, so sparse automata cost what they hold.
+ *
+ * Two refinable partitions are refined against each other: the blocks (of states) and the cords
+ * (of transitions, starting with one cord per symbol). Each cord splits the blocks by the sources of
+ * its transitions; each new block splits the cords by the transitions entering it. As in Hopcroft's
+ * algorithm a split keeps the larger half under the old id, so every element is moved O(log n) times.
+ */
+public class ValmariLehtinenMinimization implements MinimizationStrategy {
+
+    @Override
+    public String getName() {
+        return "valmari-lehtinen";
+    }
+
+    @Override
+    public CompiledDFA minimize(CompiledDFA trimmed) {
+        return new Run(trimmed).minimize();
+    }
+
+    /** The data of one minimization. */
+    private static final class Run {
+
+        private final CompiledDFA dfa;
+        private final int n;
+        private final int k;
+
+        // Transitions sorted by symbol; those on symbol a are symbolStart[a] .. symbolStart[a + 1].
+        private int m;
+        private int[] tail;
+        private int[] head;
+        private int[] symbolStart;
+
+        // Incoming transitions of state q: inTransitions[inStart[q] .. inStart[q + 1]).
+        private int[] inStart;
+        private int[] inTransitions;
+
+        // Shared by both partitions: only one of them has marked elements at any time.
+        private int[] marked;
+        private int[] touched;
+        private int touchedCount;
+
+        Run(CompiledDFA dfa) {
+            this.dfa = dfa;
+            this.n = dfa.getStateCount();
+            this.k = dfa.getSymbolCount();
+        }
+
+        CompiledDFA minimize() {
+            collectTransitions();
+            marked = new int[Math.max(n, m) + 1];
+            touched = new int[Math.max(n, m) + 1];
+
+            Partition blocks = new Partition(n);
+            for (int q = 0; q < n; q++) {
+                if (dfa.isAccepting(q)) {
+                    blocks.mark(q);
+                }
+            }
+            blocks.split();
+
+            // One cord per symbol in use.
+            Partition cords = new Partition(m);
+            cords.setCount = 0;
+            for (int a = 0; a < k; a++) {
+                if (symbolStart[a] == symbolStart[a + 1]) {
+                    continue;
+                }
+                for (int i = symbolStart[a]; i < symbolStart[a + 1]; i++) {
+                    cords.setOf[i] = cords.setCount;
+                }
+                cords.first[cords.setCount] = symbolStart[a];
+                cords.past[cords.setCount++] = symbolStart[a + 1];
+            }
+
+            int b = 1;
+            for (int c = 0; c < cords.setCount; c++) {
+                for (int i = cords.first[c]; i < cords.past[c]; i++) {
+                    blocks.mark(tail[cords.elements[i]]);
+                }
+                blocks.split();
+                for (; b < blocks.setCount; b++) {
+                    for (int i = blocks.first[b]; i < blocks.past[b]; i++) {
+                        int q = blocks.elements[i];
+                        for (int j = inStart[q]; j < inStart[q + 1]; j++) {
+                            cords.mark(inTransitions[j]);
+                        }
+                    }
+                    cords.split();
+                }
+            }
+            return quotient(blocks);
+        }
+
+        // Lists the existing transitions grouped by symbol (a counting sort), and the incoming ones per state.
+        private void collectTransitions() {
+            symbolStart = new int[k + 1];
+            inStart = new int[n + 1];
+            for (int q = 0; q < n; q++) {
+                for (int a = 0; a < k; a++) {
+                    int t = dfa.next(q, a);
+                    if (t != CompiledDFA.NO_TRANSITION) {
+                        symbolStart[a + 1]++;
+                        inStart[t + 1]++;
+                    }
+                }
+            }
+            for (int a = 0; a < k; a++) {
+                symbolStart[a + 1] += symbolStart[a];
+            }
+            for (int q = 0; q < n; q++) {
+                inStart[q + 1] += inStart[q];
+            }
+            m = symbolStart[k];
+            tail = new int[m];
+            head = new int[m];
+            int[] fill = Arrays.copyOf(symbolStart, k);
+            for (int q = 0; q < n; q++) {
+                for (int a = 0; a < k; a++) {
+                    int t = dfa.next(q, a);
+                    if (t != CompiledDFA.NO_TRANSITION) {
+                        int i = fill[a]++;
+                        tail[i] = q;
+                        head[i] = t;
+                    }
+                }
+            }
+            inTransitions = new int[m];
+            fill = Arrays.copyOf(inStart, n);
+            for (int i = 0; i < m; i++) {
+                inTransitions[fill[head[i]]++] = i;
+            }
+        }
+
+        private CompiledDFA quotient(Partition blocks) {
+            int count = blocks.setCount;
+            int[] delta = new int[count * k];
+            boolean[] accepting = new boolean[count];
+            String[] names = new String[count];
+            for (int b = 0; b < count; b++) {
+                int representative = blocks.elements[blocks.first[b]];
+                accepting[b] = dfa.isAccepting(representative);
+                names[b] = "P" + b;
+                for (int a = 0; a < k; a++) {
+                    int t = dfa.next(representative, a);
+                    delta[b * k + a] = t == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : blocks.setOf[t];
+                }
+            }
+            return new CompiledDFA(dfa.getAlphabet(), delta, accepting, blocks.setOf[dfa.getInitialState()], names);
+        }
+
+        /**
+         * Elements 0..size-1 in sets; set s is elements[first[s] .. past[s]), its marked elements at the front.
+         */
+        private final class Partition {
+            int setCount;
+            final int[] elements;
+            final int[] location;
+            final int[] setOf;
+            final int[] first;
+            final int[] past;
+
+            Partition(int size) {
+                elements = new int[size];
+                location = new int[size];
+                setOf = new int[size];
+                first = new int[Math.max(1, size)];
+                past = new int[Math.max(1, size)];
+                for (int e = 0; e < size; e++) {
+                    elements[e] = e;
+                    location[e] = e;
+                }
+                setCount = size > 0 ? 1 : 0;
+                past[0] = size;
+            }
+
+            void mark(int e) {
+                int s = setOf[e];
+                int i = location[e];
+                int j = first[s] + marked[s];
+                elements[i] = elements[j];
+                location[elements[i]] = i;
+                elements[j] = e;
+                location[e] = j;
+                if (marked[s]++ == 0) {
+                    touched[touchedCount++] = s;
+                }
+            }
+
+            // Splits every touched set into its marked and unmarked part; the smaller part gets a new id.
+            void split() {
+                while (touchedCount > 0) {
+                    int s = touched[--touchedCount];
+                    int j = first[s] + marked[s];
+                    if (j == past[s]) {
+                        marked[s] = 0;
+                        continue;
+                    }
+                    int z = setCount++;
+                    if (marked[s] <= past[s] - j) {
+                        first[z] = first[s];
+                        past[z] = j;
+                        first[s] = j;
+                    } else {
+                        past[z] = past[s];
+                        first[z] = j;
+                        past[s] = j;
+                    }
+                    for (int i = first[z]; i < past[z]; i++) {
+                        setOf[elements[i]] = z;
+                    }
+                    marked[s] = 0;
+                    marked[z] = 0;
+                }
+            }
+        }
+    }
+}
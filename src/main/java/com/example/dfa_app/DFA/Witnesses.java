@@ -0,0 +1,153 @@
+package com.example.dfa_app.DFA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shortest-word queries on a {@link CompiledDFA}, independent of the UI.
+ *
+ * A single BFS from the start state fills two int arrays (parent state and the symbol used to get
+ * there), from which the shortest word to any state and the shortest accepted word are read back.
+ * These queries take time linear in the size of the automaton. Separating words come from a BFS
+ * over pairs of states, which may visit up to n² pairs.
+ */
+public class Witnesses {
+
+    private static final int UNREACHED = -1;
+    private static final int ROOT = -2;
+
+    private final CompiledDFA dfa;
+    private final int start;
+    private final int[] parent;
+    private final int[] parentSymbol;
+    private final int firstAccepting;
+
+    /**
+     * Runs the BFS from the initial state.
+     */
+    public Witnesses(CompiledDFA dfa) {
+        this(dfa, dfa.getInitialState());
+    }
+
+    /**
+     * Runs the BFS from the given state.
+     */
+    public Witnesses(CompiledDFA dfa, int start) {
+        this.dfa = dfa;
+        this.start = start;
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        parent = new int[n];
+        parentSymbol = new int[n];
+        Arrays.fill(parent, UNREACHED);
+
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        parent[start] = ROOT;
+        queue[tail++] = start;
+        int accepting = dfa.isAccepting(start) ? start : -1;
+        while (head < tail) {
+            int q = queue[head++];
+            for (int a = 0; a < k; a++) {
+                int t = dfa.next(q, a);
+                if (t != CompiledDFA.NO_TRANSITION && parent[t] == UNREACHED) {
+                    parent[t] = q;
+                    parentSymbol[t] = a;
+                    queue[tail++] = t;
+                    if (accepting < 0 && dfa.isAccepting(t)) {
+                        accepting = t;
+                    }
+                }
+            }
+        }
+        firstAccepting = accepting;
+    }
+
+    public boolean isReachable(int state) {
+        return parent[state] != UNREACHED;
+    }
+
+    /**
+     * Shortest word leading from the start state to {@code state}, or null if it is unreachable.
+     */
+    public String[] shortestWordTo(int state) {
+        if (parent[state] == UNREACHED) {
+            return null;
+        }
+        int length = 0;
+        for (int q = state; parent[q] != ROOT; q = parent[q]) {
+            length++;
+        }
+        String[] word = new String[length];
+        for (int q = state; parent[q] != ROOT; q = parent[q]) {
+            word[--length] = dfa.getSymbol(parentSymbol[q]);
+        }
+        return word;
+    }
+
+    /**
+     * Shortest word accepted from the start state, or null if the language is empty.
+     */
+    public String[] shortestAcceptedWord() {
+        return firstAccepting < 0 ? null : shortestWordTo(firstAccepting);
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Shortest word that leads exactly one of p and q to acceptance, or null if the two states are
+     * equivalent. A missing transition leads to the implicit dead state, which accepts nothing.
+     *
+     * The BFS runs over pairs of states (either may be the dead state), starting from (p, q), and
+     * stops at the first pair that disagrees on acceptance. Pairs whose two states are the same are
+     * not followed, since nothing separates them.
+     */
+    public static String[] separatingWord(CompiledDFA dfa, int p, int q) {
+        int k = dfa.getSymbolCount();
+        // Visited pairs in BFS order, as {first, second, index of the pair it was reached from, symbol}.
+        List<int[]> pairs = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        pairs.add(new int[]{p, q, -1, -1});
+        seen.add(pairKey(p, q));
+        for (int head = 0; head < pairs.size(); head++) {
+            int[] pair = pairs.get(head);
+            if (accepts(dfa, pair[0]) != accepts(dfa, pair[1])) {
+                return wordTo(dfa, pairs, head);
+            }
+            if (pair[0] == pair[1]) {
+                continue;
+            }
+            for (int a = 0; a < k; a++) {
+                int tp = pair[0] == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : dfa.next(pair[0], a);
+                int tq = pair[1] == CompiledDFA.NO_TRANSITION ? CompiledDFA.NO_TRANSITION : dfa.next(pair[1], a);
+                if (tp != tq && seen.add(pairKey(tp, tq))) {
+                    pairs.add(new int[]{tp, tq, head, a});
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean accepts(CompiledDFA dfa, int state) {
+        return state != CompiledDFA.NO_TRANSITION && dfa.isAccepting(state);
+    }
+
+    private static long pairKey(int p, int q) {
+        return (long) p << 32 | (q & 0xFFFFFFFFL);
+    }
+
+    private static String[] wordTo(CompiledDFA dfa, List<int[]> pairs, int index) {
+        List<String> word = new ArrayList<>();
+        for (int[] pair = pairs.get(index); pair[2] >= 0; pair = pairs.get(pair[2])) {
+            word.add(dfa.getSymbol(pair[3]));
+        }
+        Collections.reverse(word);
+        return word.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.dfa_app.DFA;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Draws accepted words of a fixed length uniformly at random.
+ *
+ * The count table of {@link LanguageAnalysis} is computed once per length; each draw then picks one
+ * random number below the total and walks the automaton, choosing at every step the symbol whose
+ * block of words contains that number. Every accepted word of the length is equally likely.
+ */
+public class WordSampler {
+
+    private final LanguageAnalysis analysis;
+    private final CompiledDFA dfa;
+    private final int length;
+    private final BigInteger[][] table;
+    private final Random random;
+
+    public WordSampler(LanguageAnalysis analysis, int length, Random random) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative.");
+        }
+        this.analysis = analysis;
+        this.dfa = analysis.getDFA();
+        this.length = length;
+        this.random = random;
+        this.table = analysis.compactInitial() < 0 ? null : analysis.countTable(length);
+    }
+
+    /**
+     * @return the number of accepted words of this sampler's length.
+     */
+    public BigInteger getWordCount() {
+        return table == null ? BigInteger.ZERO : table[length][analysis.compactInitial()];
+    }
+
+    /**
+     * Returns a uniformly chosen accepted word (one symbol per element).
+     *
+     * @throws IllegalStateException if no word of this length is accepted.
+     */
+    public String[] sample() {
+        BigInteger total = getWordCount();
+        if (total.signum() == 0) {
+            throw new IllegalStateException("No accepted word of length " + length + ".");
+        }
+        BigInteger pick = randomBelow(total);
+        String[] word = new String[length];
+        int state = analysis.compactInitial();
+        for (int position = 0; position < length; position++) {
+            BigInteger[] remaining = table[length - position - 1];
+            for (int a = 0; a < dfa.getSymbolCount(); a++) {
+                int t = analysis.compactNext(state, a);
+                if (t < 0) {
+                    continue;
+                }
+                BigInteger block = remaining[t];
+                if (pick.compareTo(block) < 0) {
+                    word[position] = dfa.getSymbol(a);
+                    state = t;
+                    break;
+                }
+                pick = pick.subtract(block);
+            }
+        }
+        return word;
+    }
+
+    private BigInteger randomBelow(BigInteger bound) {
+        BigInteger candidate;
+        do {
+            candidate = new BigInteger(bound.bitLength(), random);
+        } while (candidate.compareTo(bound) >= 0);
+        return candidate;
+    }
+}
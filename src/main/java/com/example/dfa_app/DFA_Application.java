@@ -11,6 +11,8 @@ import java.net.URL;
 
 public class DFA_Application extends Application {
 
+    private Application_Controler controller;
+
     @Override
     public void start(Stage stage) {
 
@@ -20,7 +22,9 @@ public class DFA_Application extends Application {
             if (fxmlResource == null) {
                 throw new IOException("FXML resource 'Main_DFA.fxml' not found.");
             }
-            Parent root = FXMLLoader.load(fxmlResource);
+            FXMLLoader loader = new FXMLLoader(fxmlResource);
+            Parent root = loader.load();
+            controller = loader.getController();
             Scene scene = new Scene(root, 1280, 720);
             stage.setTitle("DFA Minimizer");
             stage.setScene(scene);
@@ -32,6 +36,13 @@ public class DFA_Application extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
     private void showErrorDialog(String title, String header, String content) {
         Platform.runLater(() -> {
             javafx.scene.control.Alert alert =
@@ -0,0 +1,211 @@
+package com.example.dfa_app;
+
+import com.example.dfa_app.DFA.AutomatonFile;
+import com.example.dfa_app.DFA.CompiledDFA;
+import com.example.dfa_app.DFA.MinimizationCache;
+import com.example.dfa_app.DFA.MinimizationStrategy;
+import com.example.dfa_app.DFA.Minimizer;
+import com.example.dfa_app.DFA.NFA;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Command-line mode: minimizes many automaton files in parallel without starting JavaFX.
+ *
+ * <pre>
+ * java -cp DFA_app.jar com.example.dfa_app.DFA_Batch &lt;directory | glob&gt; &lt;output directory&gt;
+ *         [--threads N] [--cache DIRECTORY] [--strategy moore | valmari-lehtinen | brzozowski | auto]
+ * </pre>
+ *
+ * A directory is searched recursively for {@value AutomatonFile#EXTENSION} files; a glob such as
+ * "automata/**.dfa" is matched against the files below its first wildcard-free directory.
+ * Each minimized automaton is written under the output directory with the same relative path,
+ * and report.tsv lists the sizes and time per file. Repeated inputs are answered from a shared
+ * {@link MinimizationCache}, which with --cache is also kept on disk between runs.
+ * --strategy picks the minimization algorithm (see {@link MinimizationStrategy}); the output does
+ * not depend on it, only the time does.
+ */
+public class DFA_Batch {
+
+    private static final String REPORT_FILE = "report.tsv";
+    private static final String USAGE = "Usage: DFA_Batch <directory | glob> <output directory> [--threads N] [--cache DIRECTORY] [--strategy NAME]";
+    private static final int CACHE_ENTRIES = 4096;
+    private static final int DISK_CACHE_ENTRIES = 100_000;
+
+    /** Outcome of one file; written by one worker and read after the pool has terminated. */
+    private static final class Result {
+        final Path file;
+        String status = "ok";
+        int statesIn;
+        int statesOut;
+        int symbols;
+        long micros;
+
+        Result(Path file) {
+            this.file = file;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2 || args.length % 2 != 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path cacheDir = null;
+        MinimizationStrategy strategy = MinimizationStrategy.AUTO;
+        for (int i = 2; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--cache" -> cacheDir = Paths.get(args[i + 1]);
+                case "--strategy" -> strategy = MinimizationStrategy.byName(args[i + 1]);
+                default -> {
+                    System.err.println(USAGE);
+                    System.exit(2);
+                }
+            }
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be at least 1.");
+        }
+        MinimizationCache cache = cacheDir == null
+                ? new MinimizationCache(CACHE_ENTRIES)
+                : new MinimizationCache(CACHE_ENTRIES, cacheDir, DISK_CACHE_ENTRIES);
+
+        Path outputDir = Paths.get(args[1]);
+        Path baseDir = baseDirectory(args[0]);
+        List<Path> files = findFiles(args[0], baseDir);
+        Files.createDirectories(outputDir);
+        System.out.println("Minimizing " + files.size() + " files with " + threads + " threads ("
+                + strategy.getName() + ").");
+
+        long start = System.nanoTime();
+        Result[] results = runAll(files, baseDir, outputDir, threads, cache, strategy);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        int failed = writeReport(results, baseDir, outputDir.resolve(REPORT_FILE));
+        System.out.println("Done in " + millis + " ms, " + failed + " failed, " + cache.getHits()
+                + " cache hits. Report: " + outputDir.resolve(REPORT_FILE));
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    // --- Input ---
+    private static boolean isGlob(String pattern) {
+        return firstWildcard(pattern) < pattern.length();
+    }
+
+    private static Path baseDirectory(String input) {
+        if (!isGlob(input)) {
+            return Paths.get(input);
+        }
+        String prefix = input.substring(0, firstWildcard(input));
+        int slash = Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf(File.separatorChar));
+        if (slash < 0) {
+            return Paths.get(".");
+        }
+        return Paths.get(slash == 0 ? prefix.substring(0, 1) : prefix.substring(0, slash));
+    }
+
+    private static int firstWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return i;
+            }
+        }
+        return pattern.length();
+    }
+
+    private static List<Path> findFiles(String input, Path baseDir) throws IOException {
+        PathMatcher matcher;
+        if (isGlob(input)) {
+            matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+        } else if (Files.isDirectory(baseDir)) {
+            matcher = path -> path.getFileName().toString().endsWith(AutomatonFile.EXTENSION);
+        } else {
+            throw new IllegalArgumentException("Not a directory: " + baseDir);
+        }
+        // Walking "." yields "./name", while the glob is written as "name".
+        try (Stream<Path> walk = Files.walk(baseDir)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(p -> matcher.matches(p.normalize()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // --- Workers ---
+    /**
+     * Runs every file on a fixed pool. The queue is bounded and a full queue makes the submitting
+     * thread run the task itself, so tens of thousands of files never pile up as pending tasks.
+     */
+    private static Result[] runAll(List<Path> files, Path baseDir, Path outputDir, int threads,
+                                   MinimizationCache cache, MinimizationStrategy strategy) throws InterruptedException {
+        Result[] results = new Result[files.size()];
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+        for (int i = 0; i < files.size(); i++) {
+            Result result = new Result(files.get(i));
+            results[i] = result;
+            pool.execute(() -> process(result, baseDir, outputDir, cache, strategy));
+        }
+        pool.shutdown();
+        while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+            System.out.println("Still running: " + (files.size() - pool.getCompletedTaskCount()) + " files left.");
+        }
+        return results;
+    }
+
+    private static void process(Result result, Path baseDir, Path outputDir, MinimizationCache cache,
+                                MinimizationStrategy strategy) {
+        long start = System.nanoTime();
+        try {
+            NFA nfa = AutomatonFile.read(result.file);
+            result.statesIn = nfa.getStateCount();
+            result.symbols = nfa.getSymbolCount();
+            CompiledDFA minimal = Minimizer.minimize(nfa, cache, strategy);
+            result.statesOut = minimal.getStateCount();
+
+            Path target = outputDir.resolve(baseDir.relativize(result.file).toString());
+            Path parent = target.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            AutomatonFile.write(minimal, target);
+        } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            result.status = "error: " + String.valueOf(e.getMessage()).replace('\t', ' ').replace('\n', ' ');
+        }
+        result.micros = (System.nanoTime() - start) / 1_000;
+    }
+
+    // --- Report ---
+    private static int writeReport(Result[] results, Path baseDir, Path reportFile) throws IOException {
+        int failed = 0;
+        try (Writer out = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            out.write("file\tstates_in\tstates_out\tsymbols\tmicros\tstatus\n");
+            for (Result r : results) {
+                if (!r.status.equals("ok")) {
+                    failed++;
+                }
+                out.write(baseDir.relativize(r.file) + "\t" + r.statesIn + "\t" + r.statesOut + "\t"
+                        + r.symbols + "\t" + r.micros + "\t" + r.status + "\n");
+            }
+        }
+        return failed;
+    }
+}
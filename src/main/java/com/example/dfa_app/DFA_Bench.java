@@ -0,0 +1,108 @@
+package com.example.dfa_app;
+
+import com.example.dfa_app.DFA.AutomatonFile;
+import com.example.dfa_app.DFA.BatchAcceptor;
+import com.example.dfa_app.DFA.CompiledDFA;
+import com.example.dfa_app.DFA.Matcher;
+import com.example.dfa_app.DFA.MatcherCompiler;
+import com.example.dfa_app.DFA.Minimizer;
+
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Command-line benchmark of batch acceptance on the minimized automaton of a file.
+ *
+ * <pre>
+ * java -cp DFA_app.jar com.example.dfa_app.DFA_Bench
+ *         &lt;automaton file&gt; [--words N] [--length L] [--seed S]
+ * </pre>
+ *
+ * Generates N random words of 0..L symbols (default 1,000,000 words of up to 16 symbols) and times
+ * {@link CompiledDFA#accepts}, {@link BatchAcceptor#acceptAll} and a {@link MatcherCompiler} matcher
+ * on them. The results are compared; a mismatch is an error.
+ */
+public class DFA_Bench {
+
+    private static final String USAGE = "Usage: DFA_Bench <automaton file> [--words N] [--length L] [--seed S]";
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length % 2 != 1) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        int wordCount = 1_000_000;
+        int maxLength = 16;
+        long seed = 1;
+        for (int i = 1; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--words" -> wordCount = Integer.parseInt(args[i + 1]);
+                case "--length" -> maxLength = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                default -> {
+                    System.err.println(USAGE);
+                    System.exit(2);
+                }
+            }
+        }
+
+        CompiledDFA dfa = Minimizer.minimize(AutomatonFile.read(Paths.get(args[0])));
+        BatchAcceptor acceptor = new BatchAcceptor(dfa);
+        Matcher matcher = MatcherCompiler.compile(dfa);
+        System.out.println(dfa.getStateCount() + " states, " + dfa.getSymbolCount() + " symbols.");
+        if (dfa.getSymbolCount() == 0) {
+            throw new IllegalArgumentException("The automaton has no symbols to build words from.");
+        }
+
+        // Random words over the alphabet, packed into one array.
+        Random random = new Random(seed);
+        String[][] words = new String[wordCount][];
+        int[] bounds = new int[wordCount + 1];
+        for (int w = 0; w < wordCount; w++) {
+            words[w] = new String[random.nextInt(maxLength + 1)];
+            for (int i = 0; i < words[w].length; i++) {
+                words[w][i] = dfa.getSymbol(random.nextInt(dfa.getSymbolCount()));
+            }
+            bounds[w + 1] = bounds[w] + words[w].length;
+        }
+        byte[] data = new byte[bounds[wordCount]];
+        String[] texts = new String[wordCount];
+        for (int w = 0; w < wordCount; w++) {
+            for (int i = 0; i < words[w].length; i++) {
+                data[bounds[w] + i] = (byte) words[w][i].charAt(0);
+            }
+            texts[w] = String.join("", words[w]);
+        }
+
+        boolean[] expected = new boolean[wordCount];
+        boolean[] scalar = new boolean[wordCount];
+        boolean[] generated = new boolean[wordCount];
+        for (int round = 1; round <= ROUNDS; round++) {
+            long t0 = System.nanoTime();
+            for (int w = 0; w < wordCount; w++) {
+                expected[w] = dfa.accepts(words[w]);
+            }
+            long t1 = System.nanoTime();
+            acceptor.acceptAll(data, bounds, scalar);
+            long t2 = System.nanoTime();
+            for (int w = 0; w < wordCount; w++) {
+                generated[w] = matcher.matches(texts[w]);
+            }
+            long t3 = System.nanoTime();
+            System.out.println("Round " + round + ": accepts " + rate(wordCount, t1 - t0) + ", batch "
+                    + rate(wordCount, t2 - t1) + ", "
+                    + (MatcherCompiler.isGenerated(matcher) ? "generated" : "table") + " matcher "
+                    + rate(wordCount, t3 - t2) + " (million words/s).");
+        }
+        for (int w = 0; w < wordCount; w++) {
+            if (expected[w] != scalar[w] || expected[w] != generated[w]) {
+                throw new IllegalStateException("Results differ for word " + w + ": " + String.join(" ", words[w]));
+            }
+        }
+    }
+
+    private static String rate(int words, long nanos) {
+        return String.format("%.1f", words * 1000.0 / Math.max(1, nanos));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.dfa_app;
+
+import com.example.dfa_app.DFA.AutomatonFile;
+import com.example.dfa_app.DFA.AutomatonGenerator;
+import com.example.dfa_app.DFA.CompiledDFA;
+import com.example.dfa_app.DFA.OffHeapDFA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Command-line mode: writes a synthetic automaton for scale and stress tests.
+ *
+ * <pre>
+ * java -cp DFA_app.jar com.example.dfa_app.DFA_Generate &lt;random | chain | equivalent&gt; &lt;states&gt;
+ *         &lt;symbols&gt; &lt;output file&gt; [--seed S] [--density D] [--accepting R] [--copies C]
+ * </pre>
+ *
+ * An output ending in {@value AutomatonFile#EXTENSION} is built on the heap and written as an
+ * automaton file; any other name gets the binary {@link OffHeapDFA} format, built in the file
+ * itself, which is the way to go for 10^7 states. See {@link AutomatonGenerator} for the shapes.
+ */
+public class DFA_Generate {
+
+    private static final String USAGE = "Usage: DFA_Generate <random | chain | equivalent> <states> <symbols> <output file>"
+            + " [--seed S] [--density D] [--accepting R] [--copies C]";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4 || args.length % 2 != 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        AutomatonGenerator.Shape shape = AutomatonGenerator.Shape.valueOf(args[0].toUpperCase(Locale.ROOT));
+        int states = Integer.parseInt(args[1]);
+        int symbols = Integer.parseInt(args[2]);
+        Path output = Paths.get(args[3]);
+        long seed = 1;
+        double density = 1.0;
+        double accepting = 0.5;
+        int copies = 4;
+        for (int i = 4; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--density" -> density = Double.parseDouble(args[i + 1]);
+                case "--accepting" -> accepting = Double.parseDouble(args[i + 1]);
+                case "--copies" -> copies = Integer.parseInt(args[i + 1]);
+                default -> {
+                    System.err.println(USAGE);
+                    System.exit(2);
+                }
+            }
+        }
+        AutomatonGenerator generator = new AutomatonGenerator(seed)
+                .setDensity(density)
+                .setAcceptingRatio(accepting)
+                .setCopies(copies);
+
+        long start = System.nanoTime();
+        long transitions;
+        if (output.toString().endsWith(AutomatonFile.EXTENSION)) {
+            CompiledDFA dfa = generator.generate(shape, states, symbols);
+            AutomatonFile.write(dfa, output);
+            transitions = dfa.getTransitionCount();
+        } else {
+            OffHeapDFA dfa = generator.generate(shape, states, symbols, output);
+            transitions = 0;
+            for (int q = 0; q < states; q++) {
+                for (int a = 0; a < symbols; a++) {
+                    if (dfa.next(q, a) != CompiledDFA.NO_TRANSITION) {
+                        transitions++;
+                    }
+                }
+            }
+        }
+        System.out.printf("%s: %d states, %d symbols, %d transitions, seed %d, %.1f s%n",
+                output, states, symbols, transitions, seed, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.dfa_app;
+
+import com.example.dfa_app.DFA.AutomatonFile;
+import com.example.dfa_app.DFA.CompiledDFA;
+import com.example.dfa_app.DFA.Minimizer;
+import com.example.dfa_app.DFA.TextScanner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command-line mode: uses an automaton as a tokenizer over a text file.
+ *
+ * <pre>
+ * java -cp DFA_app.jar com.example.dfa_app.DFA_Scan &lt;automaton file&gt; &lt;text file&gt; [--count]
+ * </pre>
+ *
+ * The automaton is minimized and every leftmost-longest match in the file is printed as
+ * "start TAB end" (byte offsets, end exclusive). With --count only the number of matches and the
+ * throughput are printed.
+ */
+public class DFA_Scan {
+
+    private static final String USAGE = "Usage: DFA_Scan <automaton file> <text file> [--count]";
+
+    public static void main(String[] args) throws IOException {
+        boolean countOnly = args.length == 3 && args[2].equals("--count");
+        if (args.length != 2 && !countOnly) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        CompiledDFA dfa = Minimizer.minimize(AutomatonFile.read(Paths.get(args[0])));
+        TextScanner scanner = new TextScanner(dfa);
+        Path text = Paths.get(args[1]);
+
+        long start = System.nanoTime();
+        long matches;
+        if (countOnly) {
+            matches = scanner.scan(text, (from, to) -> { });
+        } else {
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            matches = scanner.scan(text, (from, to) -> {
+                try {
+                    out.write(Long.toString(from));
+                    out.write('\t');
+                    out.write(Long.toString(to));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        }
+        long nanos = Math.max(1, System.nanoTime() - start);
+        if (countOnly) {
+            long bytes = Files.size(text);
+            System.out.println(matches + " matches in " + nanos / 1_000_000 + " ms ("
+                    + (bytes * 1000 / nanos) + " MB/s).");
+        }
+    }
+}
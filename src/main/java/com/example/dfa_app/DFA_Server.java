@@ -0,0 +1,183 @@
+package com.example.dfa_app;
+
+import com.example.dfa_app.DFA.AutomatonFile;
+import com.example.dfa_app.DFA.CompiledDFA;
+import com.example.dfa_app.DFA.MinimizationCache;
+import com.example.dfa_app.DFA.Minimizer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local HTTP service for minimizing automata and testing words, without starting JavaFX.
+ * It listens on the loopback address only and runs every request on its own virtual thread.
+ *
+ * <pre>
+ * POST   /minimize              automaton file in, minimal automaton file out
+ * POST   /automata              stores the minimal DFA of the uploaded automaton, answers with its id
+ * GET    /automata/{id}         the stored minimal automaton
+ * POST   /automata/{id}/match   one word per line (symbols separated by spaces), answers accept/reject per line
+ * DELETE /automata/{id}         removes the stored automaton
+ * </pre>
+ *
+ * Automata use the {@link AutomatonFile} format. Stored automata are immutable {@link CompiledDFA}
+ * tables, so any number of requests can match against the same copy at once. Inputs that were
+ * minimized before are answered from a {@link MinimizationCache}.
+ */
+public class DFA_Server {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+    private static final int MAX_STORED = 10_000;
+    private static final int CACHE_ENTRIES = 4096;
+
+    private final Map<String, CompiledDFA> automata = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final MinimizationCache cache = new MinimizationCache(CACHE_ENTRIES);
+    private final HttpServer server;
+
+    public DFA_Server(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/minimize", this::handleMinimize);
+        server.createContext("/automata", this::handleAutomata);
+    }
+
+    public void start() {
+        server.start();
+        System.out.println("DFA server listening on http://" + server.getAddress().getHostString()
+                + ":" + server.getAddress().getPort());
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        if (args.length == 2 && args[0].equals("--port")) {
+            port = Integer.parseInt(args[1]);
+        } else if (args.length != 0) {
+            System.err.println("Usage: DFA_Server [--port N]");
+            System.exit(2);
+        }
+        new DFA_Server(port).start();
+    }
+
+    // --- Handlers ---
+    private void handleMinimize(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                send(exchange, 405, "Use POST.\n");
+                return;
+            }
+            CompiledDFA minimal = Minimizer.minimize(AutomatonFile.read(new StringReader(readBody(exchange))), cache);
+            send(exchange, 200, format(minimal));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            send(exchange, 400, e.getMessage() + "\n");
+        } catch (RuntimeException | OutOfMemoryError e) {
+            sendError(exchange, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleAutomata(HttpExchange exchange) throws IOException {
+        try {
+            // "/automata", "/automata/{id}" or "/automata/{id}/match"
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            if (path.length == 2 && method.equals("POST")) {
+                upload(exchange);
+                return;
+            }
+            CompiledDFA dfa = path.length >= 3 ? automata.get(path[2]) : null;
+            if (dfa == null) {
+                send(exchange, 404, "Unknown automaton.\n");
+            } else if (path.length == 3 && method.equals("GET")) {
+                send(exchange, 200, format(dfa));
+            } else if (path.length == 3 && method.equals("DELETE")) {
+                automata.remove(path[2]);
+                send(exchange, 200, "Deleted.\n");
+            } else if (path.length == 4 && path[3].equals("match") && method.equals("POST")) {
+                send(exchange, 200, match(dfa, readBody(exchange)));
+            } else {
+                send(exchange, 405, "Unsupported request.\n");
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            send(exchange, 400, e.getMessage() + "\n");
+        } catch (RuntimeException | OutOfMemoryError e) {
+            sendError(exchange, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void upload(HttpExchange exchange) throws IOException {
+        if (automata.size() >= MAX_STORED) {
+            send(exchange, 503, "Too many stored automata; delete some first.\n");
+            return;
+        }
+        CompiledDFA minimal = Minimizer.minimize(AutomatonFile.read(new StringReader(readBody(exchange))), cache);
+        String id = "a" + nextId.getAndIncrement();
+        automata.put(id, minimal);
+        send(exchange, 201, "id: " + id + "\nstates: " + minimal.getStateCount()
+                + "\nsymbols: " + minimal.getSymbolCount() + "\n");
+    }
+
+    private static String match(CompiledDFA dfa, String body) {
+        // A trailing newline ends the last word; it does not start another (empty) one.
+        String words = body.endsWith("\n") ? body.substring(0, body.length() - 1) : body;
+        StringBuilder result = new StringBuilder();
+        for (String line : words.split("\n", -1)) {
+            String word = line.strip();
+            String[] symbols = word.isEmpty() ? new String[0] : word.split("\\s+");
+            result.append(dfa.accepts(symbols) ? "accept\n" : "reject\n");
+        }
+        return result.toString();
+    }
+
+    // --- Helpers ---
+    private static String format(CompiledDFA dfa) throws IOException {
+        StringWriter out = new StringWriter();
+        AutomatonFile.write(dfa, out);
+        return out.toString();
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body is larger than " + MAX_BODY_BYTES + " bytes.");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    // Any other failure still gets a response instead of a reset connection.
+    private static void sendError(HttpExchange exchange, Throwable e) throws IOException {
+        System.err.println("DFA server: " + exchange.getRequestMethod() + " " + exchange.getRequestURI() + " failed: " + e);
+        send(exchange, 500, "Internal error.\n");
+    }
+
+    private static void send(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.dfa_app.DFA;
+
+import javafx.animation.Animation;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The scheduler's bookkeeping on the (headless) FX thread. Its state is static, so every test
+ * counts from where it starts and stops what it started.
+ */
+class AnimationSchedulerTest {
+
+    private static final Duration LONG = Duration.seconds(30);
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopAnimations() throws Exception {
+        FxToolkit.run(() -> {
+            AnimationScheduler.setDragging(false);
+            for (Node node : nodes) {
+                for (Animation animation : animations(node)) {
+                    animation.stop();
+                }
+            }
+        });
+    }
+
+    @Test
+    void oneAnimationOfEachKindPerNode() throws Exception {
+        FxToolkit.run(() -> {
+            int before = AnimationScheduler.getRunningCount();
+            Node first = node();
+            Node second = node();
+            for (Node node : List.of(first, second)) {
+                for (int i = 0; i < 3; i++) {
+                    AnimationScheduler.moveTo(node, 10 * i, 20 * i, LONG);
+                    AnimationScheduler.fadeIn(node, LONG);
+                    AnimationScheduler.scaleTo(node, 1.5, LONG);
+                }
+                Set<Animation> created = animations(node);
+                for (int i = 0; i < 3; i++) {
+                    AnimationScheduler.pulse(node, 1.2, LONG);
+                }
+                assertEquals(3, created.size());
+                assertEquals(4, animations(node).size());
+                assertTrue(animations(node).containsAll(created));
+            }
+            assertEquals(before + 8, AnimationScheduler.getRunningCount());
+
+            // A new target restarts the node's animation instead of adding one.
+            AnimationScheduler.moveTo(first, 300, 400, LONG);
+            AnimationScheduler.scaleTo(first, 1, LONG);
+            assertEquals(4, animations(first).size());
+            // scaleTo stops the pulse it would fight with.
+            assertEquals(before + 7, AnimationScheduler.getRunningCount());
+        });
+    }
+
+    @Test
+    void runningCountFallsAsAnimationsFinish() throws Exception {
+        int[] before = new int[1];
+        FxToolkit.run(() -> {
+            before[0] = AnimationScheduler.getRunningCount();
+            for (int i = 0; i < 5; i++) {
+                AnimationScheduler.fadeIn(node(), Duration.millis(50));
+            }
+            assertEquals(before[0] + 5, AnimationScheduler.getRunningCount());
+        });
+        long deadline = System.currentTimeMillis() + 5000;
+        int[] running = new int[1];
+        do {
+            Thread.sleep(20);
+            FxToolkit.run(() -> running[0] = AnimationScheduler.getRunningCount());
+        } while (running[0] != before[0] && System.currentTimeMillis() < deadline);
+        assertEquals(before[0], running[0]);
+        FxToolkit.run(() -> {
+            for (Node node : nodes) {
+                assertEquals(1, node.getOpacity());
+            }
+        });
+    }
+
+    @Test
+    void effectsStopAtTheLimitButMovesStillLand() throws Exception {
+        FxToolkit.run(() -> {
+            while (AnimationScheduler.getRunningCount() < AnimationScheduler.MAX_RUNNING) {
+                AnimationScheduler.pulse(node(), 1.2, LONG);
+            }
+            Node extra = node();
+            AnimationScheduler.pulse(extra, 1.2, LONG);
+            AnimationScheduler.fadeIn(extra, LONG);
+            AnimationScheduler.scaleTo(extra, 2, LONG);
+            AnimationScheduler.moveTo(extra, 70, 80, LONG);
+
+            assertEquals(AnimationScheduler.MAX_RUNNING, AnimationScheduler.getRunningCount());
+            assertEquals(1, extra.getOpacity());
+            assertEquals(2, extra.getScaleX());
+            assertEquals(70, extra.getLayoutX());
+            assertEquals(80, extra.getLayoutY());
+        });
+    }
+
+    @Test
+    void dragSuspendsEffectsUntilItEnds() throws Exception {
+        FxToolkit.run(() -> {
+            int before = AnimationScheduler.getRunningCount();
+            Node pulsing = node();
+            Node moved = node();
+            AnimationScheduler.pulse(pulsing, 1.5, LONG);
+            assertEquals(before + 1, AnimationScheduler.getRunningCount());
+
+            AnimationScheduler.setDragging(true);
+            assertTrue(AnimationScheduler.isDragging());
+            // The running pulse is stopped and its node put back to full size.
+            assertEquals(before, AnimationScheduler.getRunningCount());
+            assertEquals(1, pulsing.getScaleX());
+            assertEquals(1, pulsing.getScaleY());
+
+            AnimationScheduler.pulse(pulsing, 1.5, LONG);
+            AnimationScheduler.fadeIn(moved, LONG);
+            AnimationScheduler.moveTo(moved, 40, 50, LONG);
+            AnimationScheduler.scaleTo(moved, 1.3, LONG);
+            assertEquals(before, AnimationScheduler.getRunningCount());
+            assertEquals(1, moved.getOpacity());
+            assertEquals(40, moved.getLayoutX());
+            assertEquals(50, moved.getLayoutY());
+            assertEquals(1.3, moved.getScaleX());
+
+            AnimationScheduler.setDragging(false);
+            AnimationScheduler.pulse(pulsing, 1.5, LONG);
+            AnimationScheduler.moveTo(moved, 0, 0, LONG);
+            assertEquals(before + 2, AnimationScheduler.getRunningCount());
+        });
+    }
+
+    private Node node() {
+        Rectangle node = new Rectangle(10, 10);
+        nodes.add(node);
+        return node;
+    }
+
+    private static Set<Animation> animations(Node node) {
+        Set<Animation> animations = new HashSet<>();
+        for (Object value : node.getProperties().values()) {
+            if (value instanceof Animation animation) {
+                animations.add(animation);
+            }
+        }
+        return animations;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.dfa_app.DFA;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutomatonDocumentTest {
+
+    private static State state(AutomatonDocument document, String name) {
+        return new State(0, 0, 30, Color.WHITE, name, document);
+    }
+
+    @Test
+    void deletingAStateRemovesItsIncomingTransitions() throws Exception {
+        FxToolkit.run(() -> {
+            AutomatonDocument document = new AutomatonDocument();
+            State p = state(document, "p");
+            State q = state(document, "q");
+            State r = state(document, "r");
+            p.addTransitionDirect("a", q);
+            p.addTransitionDirect("b", p);
+            r.addTransitionDirect("c", q);
+            q.addTransitionDirect("a", p);
+
+            q.deleteState();
+
+            assertEquals(Set.of("b"), Set.copyOf(document.getAlphabet()));
+            // p has b, r has nothing.
+            assertEquals(1, document.getMissingTransitionCount());
+            assertTrue(p.getTransitions("a").isEmpty());
+            assertNull(p.getBundle(q));
+            assertTrue(r.getTransitions().isEmpty());
+            assertEquals(2, document.getStateCount());
+        });
+    }
+
+    @Test
+    void renamingASymbolMovesTheTransition() throws Exception {
+        FxToolkit.run(() -> {
+            AutomatonDocument document = new AutomatonDocument();
+            State p = state(document, "p");
+            State q = state(document, "q");
+            p.addTransitionDirect("a", q);
+            p.addTransitionDirect("b", q);
+            Transition a = p.getTransition("a");
+
+            a.setSymbol("c");
+
+            assertNull(p.getTransition("a"));
+            assertSame(a, p.getTransition("c"));
+            assertEquals(Set.of("b", "c"), Set.copyOf(document.getAlphabet()));
+            assertEquals(2, document.getMissingTransitionCount());
+            assertEquals("b,c", p.getBundle(q).getLabel());
+            assertEquals(List.of(a), p.getTransitions("c"));
+
+            assertThrows(IllegalArgumentException.class, () -> a.setSymbol("b"));
+            assertSame(a, p.getTransition("c"));
+        });
+    }
+
+    @Test
+    void invalidNamesAreRejectedWithoutTouchingTheUI() throws Exception {
+        FxToolkit.run(() -> {
+            AutomatonDocument document = new AutomatonDocument();
+            State p = state(document, "p");
+            State q = state(document, "q");
+
+            assertThrows(IllegalArgumentException.class, () -> q.setName("p"));
+            assertThrows(IllegalArgumentException.class, () -> q.setName(" "));
+            assertThrows(IllegalArgumentException.class, () -> state(document, "p"));
+            assertEquals("q", q.getName());
+            assertEquals(2, document.getStateCount());
+
+            q.setName("r");
+            p.setName("q");
+            assertEquals("q", p.getName());
+        });
+    }
+
+    @Test
+    void concurrentAddsOfOneStateLeaveItInOneDocument() throws Exception {
+        FxToolkit.start();
+        AutomatonDocument first = new AutomatonDocument();
+        AutomatonDocument second = new AutomatonDocument();
+        State[] states = new State[2000];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = new State(0, 0, 30, Color.WHITE, "s" + i);
+        }
+        Thread other = new Thread(() -> {
+            for (State s : states) {
+                second.addState(s);
+            }
+        });
+        other.start();
+        for (State s : states) {
+            first.addState(s);
+        }
+        other.join();
+
+        assertEquals(states.length, first.getStateCount() + second.getStateCount());
+        for (State s : states) {
+            assertTrue(first.getStates().contains(s) != second.getStates().contains(s));
+            assertTrue(s.getDocument().getStates().contains(s));
+        }
+    }
+}
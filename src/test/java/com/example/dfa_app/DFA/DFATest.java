@@ -0,0 +1,55 @@
+package com.example.dfa_app.DFA;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DFATest {
+
+    @BeforeAll
+    static void startToolkit() {
+        FxToolkit.start();
+    }
+
+    @Test
+    void minimizesAutomatonWithTrapState() {
+        DFA dfa = new DFA();
+        dfa.configureDFA(List.of("q0", "q1", "trap"), Set.of("a", "b"), "q0", List.of("q1"),
+                Map.of("q0", Map.of("a", "q1", "b", "trap"),
+                        "q1", Map.of("a", "q1", "b", "trap"),
+                        "trap", Map.of("a", "trap", "b", "trap")));
+
+        dfa.removeUnreachableStates();
+        dfa.removeDeadStates();
+        dfa.minimizeDFA();
+
+        // q0 and q1 differ only in acceptance; the trap becomes the implicit sink.
+        assertEquals(2, dfa.getStates().size());
+        for (State state : dfa.getStates()) {
+            assertNull(state.getTransition("b"));
+        }
+    }
+
+    @Test
+    void configuringAgainReplacesTheAutomaton() {
+        DFA dfa = new DFA();
+        dfa.configureDFA(List.of("q0", "q1"), Set.of("a"), "q0", List.of("q1"),
+                Map.of("q0", Map.of("a", "q1")));
+        AutomatonDocument first = dfa.getDocument();
+
+        dfa.configureDFA(List.of("q0", "q1", "q2"), Set.of("b"), "q0", List.of("q2"),
+                Map.of("q0", Map.of("b", "q1"), "q1", Map.of("b", "q2")));
+
+        assertNotSame(first, dfa.getDocument());
+        assertEquals(3, dfa.getStates().size());
+        assertEquals(3, dfa.getDocument().getStateCount());
+        assertEquals(List.of("b"), dfa.getDocument().getAlphabet());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.dfa_app.DFA;
+
+import javafx.geometry.Bounds;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiagramViewportTest {
+
+    private static final int GRID = 40;
+    private static final double SPACING = 100;
+
+    private final Pane view = new Pane();
+    private final Pane content = new Pane();
+    private final List<State> states = new ArrayList<>();
+    private DiagramViewport viewport;
+
+    // A GRID x GRID diagram far larger than the 400 x 300 view. The scale stays below OVERVIEW_SCALE,
+    // where labels are hidden and take no part in the bounds: text layout needs native fonts.
+    private void setUp() {
+        view.getChildren().add(content);
+        view.resize(400, 300);
+        for (int x = 0; x < GRID; x++) {
+            for (int y = 0; y < GRID; y++) {
+                State state = new State(50 + x * SPACING, 50 + y * SPACING, 20, Color.WHITE, x + "," + y);
+                state.setDetailed(false);
+                states.add(state);
+            }
+        }
+        content.getChildren().addAll(states);
+        viewport = new DiagramViewport(content, view);
+        viewport.zoomAt(0, 0, 0.2);
+    }
+
+    // Refreshes run later on the FX thread; this waits for the pending one.
+    private static void waitForRefresh() throws Exception {
+        FxToolkit.run(() -> { });
+    }
+
+    private void assertOnlyVisibleInView() {
+        Bounds visible = content.sceneToLocal(view.localToScene(view.getLayoutBounds()));
+        int shown = 0;
+        for (State state : states) {
+            boolean inView = state.getBoundsInParent().intersects(visible);
+            assertEquals(inView, state.isVisible(), state.getName());
+            if (inView) {
+                shown++;
+            }
+        }
+        assertTrue(shown > 0);
+    }
+
+    @Test
+    void hidesStatesOutsideTheView() throws Exception {
+        FxToolkit.run(this::setUp);
+        waitForRefresh();
+        FxToolkit.run(this::assertOnlyVisibleInView);
+
+        FxToolkit.run(() -> viewport.panBy(-310, -420));
+        waitForRefresh();
+        FxToolkit.run(this::assertOnlyVisibleInView);
+
+        FxToolkit.run(() -> viewport.zoomBy(0.8));
+        waitForRefresh();
+        FxToolkit.run(this::assertOnlyVisibleInView);
+
+        // Zoomed out far enough for the view to cover more cells than are occupied.
+        FxToolkit.run(() -> viewport.zoomBy(0.05));
+        waitForRefresh();
+        FxToolkit.run(this::assertOnlyVisibleInView);
+    }
+
+    @Test
+    void followsMovedAndRemovedStates() throws Exception {
+        FxToolkit.run(this::setUp);
+        waitForRefresh();
+        State far = states.get(states.size() - 1);
+        FxToolkit.run(() -> assertFalse(far.isVisible()));
+
+        FxToolkit.run(() -> far.moveState(300, 300));
+        waitForRefresh();
+        FxToolkit.run(() -> {
+            assertTrue(far.isVisible());
+            assertOnlyVisibleInView();
+        });
+
+        FxToolkit.run(() -> {
+            content.getChildren().remove(far);
+            states.remove(far);
+            far.moveState(5000, 5000);
+        });
+        waitForRefresh();
+        FxToolkit.run(this::assertOnlyVisibleInView);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.dfa_app.DFA;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DotExporterTest {
+
+    private static String export(CompiledDFA dfa) throws IOException {
+        StringWriter out = new StringWriter();
+        new DotExporter().export(dfa, out);
+        return out.toString();
+    }
+
+    @Test
+    void stateNamesCannotClashWithTheStartPoint() throws IOException {
+        // States named like the start point and like its renamed form.
+        CompiledDFA dfa = new CompiledDFA(new String[]{"a"}, new int[]{1, 2, 0},
+                new boolean[]{false, true, false}, 0, new String[]{"_", "__", "__start"});
+
+        String dot = export(dfa);
+
+        assertTrue(dot.contains("  \"_\" [shape=point, label=\"\"];\n  \"_\" -> \"___\";\n"));
+        assertTrue(dot.contains("  \"___\" [label=\"_\"];\n"));
+        assertTrue(dot.contains("  \"____\" [shape=doublecircle, label=\"__\"];\n"));
+        assertTrue(dot.contains("  \"____start\" -> \"___\" [label=\"a\"];\n"));
+    }
+
+    @Test
+    void groupsSymbolsByTarget() throws IOException {
+        CompiledDFA dfa = new CompiledDFA(new String[]{"a", "b", "c"}, new int[]{1, 0, 1, 1, 1, 1},
+                new boolean[]{false, true}, 0, new String[]{"p", "q"});
+
+        String dot = export(dfa);
+
+        assertTrue(dot.contains("  \"p\" -> \"q\" [label=\"a,c\"];\n  \"p\" -> \"p\" [label=\"b\"];\n"));
+        assertEquals(1, dot.split("\"q\" -> \"q\"", -1).length - 1);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.dfa_app.DFA;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes journals through a document, damages them the way a crash or a bad disk would, and
+ * rebuilds a fresh document from what {@link EditJournal#open(Path)} recovers.
+ */
+class EditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysIntoAFreshDocument() throws Exception {
+        FxToolkit.start();
+        try (EditJournal journal = EditJournal.open(directory)) {
+            AutomatonDocument document = new AutomatonDocument();
+            document.addEditListener(journal);
+            FxToolkit.run(() -> {
+                State p = state(document, "p", 10, 20);
+                State q = state(document, "q", 30, 40);
+                State r = state(document, "r", 50, 60);
+                p.addTransitionDirect("a", q);
+                q.addTransitionDirect("b", q);
+                r.addTransitionDirect("a", p);
+                q.setAccepting(true);
+                p.moveState(110, 120);
+                r.deleteState();
+                q.setName("z");
+            });
+        }
+
+        AutomatonDocument document = reopen();
+        assertEquals(2, document.getStateCount());
+        State p = named(document, "p");
+        State z = named(document, "z");
+        assertSame(p, document.getInitialState());
+        assertEquals(110, p.getLayoutX());
+        assertEquals(120, p.getLayoutY());
+        assertTrue(z.isAccepting());
+        assertFalse(p.isAccepting());
+        assertSame(z, p.getTransition("a").getNextState());
+        assertSame(z, z.getTransition("b").getNextState());
+        assertNull(p.getTransition("b"));
+        assertEquals(Set.of("a", "b"), Set.copyOf(document.getAlphabet()));
+    }
+
+    @Test
+    void tornTailIsCutOff() throws Exception {
+        writeTwoStates();
+        Path file = directory.resolve(EditJournal.JOURNAL_FILE);
+        long complete = Files.size(file);
+        // Half a record: a length prefix and a few bytes of its body.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 0, 0, 0, 0, 0, 0, 0}));
+        }
+
+        try (EditJournal journal = EditJournal.open(directory)) {
+            assertEquals(11, journal.getDroppedBytes());
+            assertEquals(complete, Files.size(file));
+            assertEquals(2, journal.getRecoveredModel().getStates().size());
+        }
+        // The cut is written back, so the next open finds nothing to drop.
+        try (EditJournal journal = EditJournal.open(directory)) {
+            assertEquals(0, journal.getDroppedBytes());
+        }
+    }
+
+    @Test
+    void damagedRecordIsRejectedWithEverythingAfterIt() throws Exception {
+        writeTwoStates();
+        Path file = directory.resolve(EditJournal.JOURNAL_FILE);
+        long before = Files.size(file);
+        try (EditJournal journal = EditJournal.open(directory)) {
+            AutomatonDocument document = rebuild(journal);
+            document.addEditListener(journal);
+            FxToolkit.run(() -> named(document, "q").setAccepting(true));
+        }
+        long after = Files.size(file);
+        assertTrue(after > before);
+
+        // One bit of the accepting record's payload, just before its crc.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, after - 5);
+            b.put(0, (byte) (b.get(0) ^ 1));
+            channel.write(b.flip(), after - 5);
+        }
+
+        try (EditJournal journal = EditJournal.open(directory)) {
+            assertEquals(after - before, journal.getDroppedBytes());
+            AutomatonDocument document = rebuild(journal);
+            assertEquals(2, document.getStateCount());
+            assertFalse(named(document, "q").isAccepting());
+        }
+    }
+
+    @Test
+    void dragIsCoalescedToItsLastMove() throws Exception {
+        FxToolkit.start();
+        long records;
+        try (EditJournal journal = EditJournal.open(directory)) {
+            AutomatonDocument document = new AutomatonDocument();
+            document.addEditListener(journal);
+            FxToolkit.run(() -> {
+                State p = state(document, "p", 0, 0);
+                for (int i = 1; i <= 500; i++) {
+                    p.moveState(i, 2 * i);
+                }
+            });
+            journal.close();
+            records = journal.getRecordsWritten();
+        }
+        // The add and at most a few moves, one per batch the drag happened to span.
+        assertTrue(records < 10, records + " records");
+
+        State p = named(reopen(), "p");
+        assertEquals(500, p.getLayoutX());
+        assertEquals(1000, p.getLayoutY());
+    }
+
+    @Test
+    void largeJournalIsCompactedIntoASnapshot() throws Exception {
+        FxToolkit.start();
+        int renames = 30_000;
+        try (EditJournal journal = EditJournal.open(directory)) {
+            AutomatonDocument document = new AutomatonDocument();
+            document.addEditListener(journal);
+            FxToolkit.run(() -> {
+                State p = state(document, "p", 0, 0);
+                State q = state(document, "q", 0, 0);
+                p.addTransitionDirect("a", q);
+                for (int i = 0; i < renames; i++) {
+                    q.setName("renamed-state-" + i);
+                }
+            });
+        }
+        assertTrue(Files.exists(directory.resolve(EditJournal.SNAPSHOT_FILE)));
+        assertTrue(Files.size(directory.resolve(EditJournal.JOURNAL_FILE)) < EditJournal.COMPACT_BYTES);
+
+        AutomatonDocument document = reopen();
+        State q = named(document, "renamed-state-" + (renames - 1));
+        assertSame(q, named(document, "p").getTransition("a").getNextState());
+    }
+
+    private void writeTwoStates() throws Exception {
+        FxToolkit.start();
+        try (EditJournal journal = EditJournal.open(directory)) {
+            AutomatonDocument document = new AutomatonDocument();
+            document.addEditListener(journal);
+            FxToolkit.run(() -> {
+                State p = state(document, "p", 0, 0);
+                State q = state(document, "q", 80, 0);
+                p.addTransitionDirect("a", q);
+            });
+        }
+    }
+
+    private AutomatonDocument reopen() throws Exception {
+        try (EditJournal journal = EditJournal.open(directory)) {
+            assertEquals(0, journal.getDroppedBytes());
+            return rebuild(journal);
+        }
+    }
+
+    // The same steps as the controller's restore, without the pane.
+    private static AutomatonDocument rebuild(EditJournal journal) throws Exception {
+        EditModel saved = journal.getRecoveredModel();
+        AutomatonDocument document = new AutomatonDocument();
+        FxToolkit.run(() -> {
+            Map<Long, State> restored = new HashMap<>();
+            for (EditModel.StateEntry entry : saved.getStates()) {
+                State state = state(document, entry.getName(), entry.getX(), entry.getY());
+                state.setAccepting(entry.isAccepting());
+                journal.bind(state, entry.getId());
+                restored.put(entry.getId(), state);
+            }
+            if (restored.containsKey(saved.getInitialState())) {
+                document.setInitialState(restored.get(saved.getInitialState()));
+            }
+            for (EditModel.TransitionEntry entry : saved.getTransitions()) {
+                Transition transition = new Transition(restored.get(entry.getFrom()), entry.getSymbol(),
+                        restored.get(entry.getTo()));
+                transition.getCurvedArrow().setControl(entry.getControlX(), entry.getControlY());
+                restored.get(entry.getFrom()).addTransition(transition);
+            }
+        });
+        return document;
+    }
+
+    private static State state(AutomatonDocument document, String name, double x, double y) {
+        return new State(x, y, 30, Color.WHITE, name, document);
+    }
+
+    private static State named(AutomatonDocument document, String name) {
+        for (State state : document.getStates()) {
+            if (name.equals(state.getName())) {
+                return state;
+            }
+        }
+        throw new AssertionError("No state " + name);
+    }
+}
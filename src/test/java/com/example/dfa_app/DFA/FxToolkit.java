@@ -0,0 +1,58 @@
+package com.example.dfa_app.DFA;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Starts the JavaFX toolkit once per test run (headless through Monocle, see the surefire
+ * configuration) and runs code on the FX thread.
+ */
+final class FxToolkit {
+
+    private static boolean started;
+
+    private FxToolkit() {
+    }
+
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException alreadyStarted) {
+            // Started outside this class.
+        }
+        started = true;
+    }
+
+    /**
+     * Runs the action on the FX thread and waits for it; its exception is rethrown here.
+     */
+    static void run(Runnable action) throws Exception {
+        start();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        });
+        try {
+            done.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            throw new AssertionError("The FX thread did not finish in time.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dfa_app.DFA;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LanguageAnalysisTest {
+
+    private static final long[] MODULI = {1, 2, 1_000_000_007L, (1L << 62) + 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+    // Both the step by step count (short words) and the matrix power (long words), with counts far
+    // above 2^63 so that every modulus is exercised near its top.
+    @Test
+    void countsModuloAgreeWithExactCounts() {
+        for (int seed = 0; seed < 20; seed++) {
+            CompiledDFA dfa = new AutomatonGenerator(seed)
+                    .setDensity(seed % 2 == 0 ? 1.0 : 0.7)
+                    .generate(AutomatonGenerator.Shape.RANDOM, 3 + seed % 5, 4);
+            LanguageAnalysis analysis = new LanguageAnalysis(dfa);
+            for (long length : new long[]{0, 1, 5, 40, 63, 500, 4000}) {
+                BigInteger exact = analysis.countWords(length);
+                for (long modulus : MODULI) {
+                    long expected = exact.mod(BigInteger.valueOf(modulus)).longValue();
+                    assertEquals(expected, analysis.countWordsMod(length, modulus),
+                            "seed " + seed + ", length " + length + ", modulus " + modulus);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.dfa_app.DFA;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The generated matchers (and the table walker they fall back to) against {@link CompiledDFA#accepts}.
+ */
+class MatcherCompilerTest {
+
+    // Generated symbols are "0"-"9", "a"-"z", ...: close together, so the switches are tableswitches.
+    @Test
+    void denseAlphabets() {
+        for (int seed = 0; seed < 40; seed++) {
+            CompiledDFA dfa = new AutomatonGenerator(seed)
+                    .setDensity(seed % 2 == 0 ? 1.0 : 0.5)
+                    .generate(AutomatonGenerator.Shape.RANDOM, 1 + seed % 12, 1 + seed % 20);
+            assertSameLanguage(dfa, seed, true);
+        }
+    }
+
+    // Characters far apart, so the switches are lookupswitches; partial rows mix both kinds.
+    @Test
+    void sparseAlphabets() {
+        for (int seed = 0; seed < 40; seed++) {
+            CompiledDFA generated = new AutomatonGenerator(seed)
+                    .setDensity(seed % 2 == 0 ? 1.0 : 0.4)
+                    .generate(AutomatonGenerator.Shape.RANDOM, 1 + seed % 12, 1 + seed % 6);
+            String[] alphabet = new String[generated.getSymbolCount()];
+            for (int a = 0; a < alphabet.length; a++) {
+                alphabet[a] = String.valueOf((char) (a == alphabet.length - 1 ? 0xFFFF : 7 + a * 3001));
+            }
+            assertSameLanguage(withAlphabet(generated, alphabet), seed, true);
+        }
+    }
+
+    @Test
+    void partialAutomataAndEmptyLanguages() {
+        for (int seed = 0; seed < 30; seed++) {
+            CompiledDFA dfa = new AutomatonGenerator(seed)
+                    .setDensity(0.2)
+                    .setAcceptingRatio(seed % 3 == 0 ? 0.0 : 0.2)
+                    .generate(AutomatonGenerator.Shape.RANDOM, 2 + seed % 9, 3);
+            assertSameLanguage(dfa, seed, true);
+        }
+    }
+
+    @Test
+    void emptyAlphabet() {
+        for (boolean accepting : new boolean[]{true, false}) {
+            CompiledDFA dfa = new CompiledDFA(new String[0], new int[0], new boolean[]{accepting}, 0,
+                    new String[]{"q0"});
+            Matcher matcher = MatcherCompiler.compile(dfa);
+            assertEquals(accepting, matcher.matches(""));
+            assertFalse(matcher.matches("a"));
+        }
+    }
+
+    @Test
+    void largeAutomatonFallsBackToTheTable() {
+        CompiledDFA dfa = new AutomatonGenerator(5).generate(AutomatonGenerator.Shape.RANDOM, 600, 40);
+        assertFalse(MatcherCompiler.isGenerated(MatcherCompiler.compile(dfa)));
+        assertSameLanguage(dfa, 5, false);
+    }
+
+    @Test
+    void rejectsMultiCharacterSymbols() {
+        CompiledDFA dfa = new CompiledDFA(new String[]{"ab"}, new int[]{0}, new boolean[]{true}, 0,
+                new String[]{"q0"});
+        assertThrows(IllegalArgumentException.class, () -> MatcherCompiler.compile(dfa));
+    }
+
+    private static void assertSameLanguage(CompiledDFA dfa, long seed, boolean generated) {
+        Matcher matcher = MatcherCompiler.compile(dfa);
+        assertEquals(generated, MatcherCompiler.isGenerated(matcher), "seed " + seed);
+        SplittableRandom random = new SplittableRandom(seed);
+        int k = dfa.getSymbolCount();
+        for (int w = 0; w < 500; w++) {
+            int length = random.nextInt(14);
+            String[] symbols = new String[length];
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                // Now and then a character outside the alphabet.
+                symbols[i] = k == 0 || random.nextInt(25) == 0 ? "☃" : dfa.getSymbol(random.nextInt(k));
+                text.append(symbols[i]);
+            }
+            assertEquals(dfa.accepts(symbols), matcher.matches(text), "seed " + seed + ", word " + text);
+        }
+        // Walks along existing transitions, so that long accepted words are tried too.
+        for (int w = 0; w < 200 && k > 0; w++) {
+            StringBuilder text = new StringBuilder();
+            int state = dfa.getInitialState();
+            for (int i = random.nextInt(40); i > 0; i--) {
+                int a = random.nextInt(k);
+                if (dfa.next(state, a) == CompiledDFA.NO_TRANSITION) {
+                    break;
+                }
+                state = dfa.next(state, a);
+                text.append(dfa.getSymbol(a));
+            }
+            assertEquals(dfa.isAccepting(state), matcher.matches(text.toString()), "seed " + seed + ", word " + text);
+        }
+    }
+
+    private static CompiledDFA withAlphabet(CompiledDFA dfa, String[] alphabet) {
+        int n = dfa.getStateCount();
+        int k = dfa.getSymbolCount();
+        int[] delta = new int[n * k];
+        boolean[] accepting = new boolean[n];
+        String[] names = new String[n];
+        for (int q = 0; q < n; q++) {
+            for (int a = 0; a < k; a++) {
+                delta[q * k + a] = dfa.next(q, a);
+            }
+            accepting[q] = dfa.isAccepting(q);
+            names[q] = dfa.getStateName(q);
+        }
+        return new CompiledDFA(alphabet, delta, accepting, dfa.getInitialState(), names);
+    }
+}
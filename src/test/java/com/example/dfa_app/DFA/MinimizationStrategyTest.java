@@ -0,0 +1,141 @@
+package com.example.dfa_app.DFA;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every strategy must give the same canonical minimal automaton. Brzozowski's double subset
+ * construction can blow up, so it only runs on small inputs.
+ */
+class MinimizationStrategyTest {
+
+    private static final List<MinimizationStrategy> ALL = List.of(MinimizationStrategy.MOORE,
+            MinimizationStrategy.VALMARI_LEHTINEN, MinimizationStrategy.BRZOZOWSKI, MinimizationStrategy.AUTO);
+    private static final List<MinimizationStrategy> SCALABLE = List.of(MinimizationStrategy.MOORE,
+            MinimizationStrategy.VALMARI_LEHTINEN, MinimizationStrategy.AUTO);
+    private static final int BRZOZOWSKI_MAX_STATES = 16;
+
+    @Test
+    void strategiesAgreeOnSmallAutomata() {
+        double[] densities = {1.0, 0.6, 0.25};
+        double[] acceptingRatios = {0.5, 0.1, 0.0};
+        for (AutomatonGenerator.Shape shape : AutomatonGenerator.Shape.values()) {
+            for (int states = 1; states <= 40; states += 3) {
+                for (int symbols = 1; symbols <= 4; symbols++) {
+                    for (int i = 0; i < densities.length; i++) {
+                        long seed = 31L * states + 7L * symbols + i;
+                        CompiledDFA dfa = new AutomatonGenerator(seed)
+                                .setDensity(densities[i])
+                                .setAcceptingRatio(acceptingRatios[i])
+                                .setCopies(2)
+                                .generate(shape, states, symbols);
+                        String input = shape + " " + states + "x" + symbols + " seed " + seed;
+                        assertAgree(dfa, states <= BRZOZOWSKI_MAX_STATES ? ALL : SCALABLE, input);
+                    }
+                }
+            }
+        }
+    }
+
+    // Past AutoMinimization.SMALL_STATES, so AUTO picks by shape rather than size.
+    @Test
+    void strategiesAgreeOnLargerAutomata() {
+        for (AutomatonGenerator.Shape shape : AutomatonGenerator.Shape.values()) {
+            for (int seed = 0; seed < 3; seed++) {
+                CompiledDFA dfa = new AutomatonGenerator(seed)
+                        .setDensity(seed == 0 ? 1.0 : 0.5)
+                        .generate(shape, 300 + 150 * seed, 3);
+                assertAgree(dfa, SCALABLE, shape + " seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void strategiesAgreeOnNFAs() {
+        for (int seed = 0; seed < 200; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            NFA nfa = randomNFA(random, 1 + random.nextInt(8), 1 + random.nextInt(3));
+            CompiledDFA reference = Minimizer.minimize(nfa, MinimizationStrategy.MOORE);
+            for (MinimizationStrategy strategy : ALL) {
+                CompiledDFA minimal = Minimizer.minimize(nfa, strategy);
+                assertSame(reference, minimal, strategy.getName() + " on NFA seed " + seed);
+            }
+            assertSameWords(Minimizer.determinize(nfa), reference, random, "NFA seed " + seed);
+        }
+    }
+
+    @Test
+    void chainKeepsEveryState() {
+        CompiledDFA chain = new AutomatonGenerator(1).generate(AutomatonGenerator.Shape.CHAIN, 200, 2);
+        for (MinimizationStrategy strategy : SCALABLE) {
+            assertEquals(200, Minimizer.minimize(chain, strategy).getStateCount(), strategy.getName());
+        }
+    }
+
+    private static void assertAgree(CompiledDFA dfa, List<MinimizationStrategy> strategies, String input) {
+        CompiledDFA reference = Minimizer.minimize(dfa, strategies.get(0));
+        for (MinimizationStrategy strategy : strategies.subList(1, strategies.size())) {
+            assertSame(reference, Minimizer.minimize(dfa, strategy), strategy.getName() + " on " + input);
+        }
+        // And the reference itself must keep the language.
+        assertSameWords(dfa, reference, new SplittableRandom(input.hashCode()), input);
+    }
+
+    private static void assertSame(CompiledDFA expected, CompiledDFA actual, String message) {
+        CanonicalForm first = CanonicalForm.of(expected);
+        CanonicalForm second = CanonicalForm.of(actual);
+        assertEquals(expected.getStateCount(), actual.getStateCount(), message);
+        assertEquals(first.getHash(), second.getHash(), message);
+        assertTrue(CanonicalForm.sameLanguage(first, second), message);
+    }
+
+    // Random words, symbols matched by name since minimization may reorder the alphabet.
+    private static void assertSameWords(CompiledDFA input, CompiledDFA minimal, SplittableRandom random, String message) {
+        int[] symbolMap = new int[input.getSymbolCount()];
+        List<String> minimalAlphabet = List.of(minimal.getAlphabet());
+        for (int a = 0; a < symbolMap.length; a++) {
+            symbolMap[a] = minimalAlphabet.indexOf(input.getSymbol(a));
+        }
+        for (int word = 0; word < 200; word++) {
+            int length = random.nextInt(10);
+            int q = input.getInitialState();
+            int m = minimal.getStateCount() == 0 ? CompiledDFA.NO_TRANSITION : minimal.getInitialState();
+            for (int i = 0; i < length && q != CompiledDFA.NO_TRANSITION; i++) {
+                int a = random.nextInt(symbolMap.length);
+                q = input.next(q, a);
+                m = m == CompiledDFA.NO_TRANSITION || symbolMap[a] < 0
+                        ? CompiledDFA.NO_TRANSITION : minimal.next(m, symbolMap[a]);
+            }
+            boolean expected = q != CompiledDFA.NO_TRANSITION && input.isAccepting(q);
+            boolean actual = m != CompiledDFA.NO_TRANSITION && minimal.isAccepting(m);
+            assertEquals(expected, actual, message);
+        }
+    }
+
+    private static NFA randomNFA(SplittableRandom random, int states, int symbols) {
+        NFA nfa = new NFA();
+        for (int q = 0; q < states; q++) {
+            nfa.addState("n" + q, random.nextInt(3) == 0);
+        }
+        for (int a = 0; a < symbols; a++) {
+            nfa.addSymbol(String.valueOf((char) ('a' + a)));
+        }
+        int edges = random.nextInt(states * (symbols + 1) * 2 + 1);
+        for (int e = 0; e < edges; e++) {
+            int from = random.nextInt(states);
+            int to = random.nextInt(states);
+            int symbol = random.nextInt(symbols + 1);
+            if (symbol == symbols) {
+                nfa.addEpsilonTransition(from, to);
+            } else {
+                nfa.addTransition(from, String.valueOf((char) ('a' + symbol)), to);
+            }
+        }
+        return nfa;
+    }
+}
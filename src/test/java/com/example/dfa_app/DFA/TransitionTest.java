@@ -0,0 +1,66 @@
+package com.example.dfa_app.DFA;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransitionTest {
+
+    // Draws a transition the way the controller does on ctrl+click: the symbol is typed, then the target is clicked.
+    private static Transition draw(State from, State to, String symbol) {
+        Transition transition = new Transition(from);
+        for (Node child : transition.getChildrenUnmodifiable()) {
+            if (child instanceof EditableLabel) {
+                ((EditableLabel) child).setText(symbol);
+            }
+        }
+        transition.completeTransition(to);
+        return transition;
+    }
+
+    @Test
+    void secondSymbolBetweenTheSameStatesJoinsTheArrow() throws Exception {
+        FxToolkit.run(() -> {
+            Pane pane = new Pane();
+            State p = new State(100, 100, 30, Color.WHITE, "p", new AutomatonDocument());
+            State q = new State(300, 100, 30, Color.WHITE, "q", new AutomatonDocument());
+            pane.getChildren().addAll(p, q);
+
+            Transition first = draw(p, q, "a");
+            Transition second = draw(p, q, "b");
+
+            TransitionBundle bundle = p.getBundle(q);
+            assertNotNull(bundle);
+            assertSame(first, bundle.getCarrier());
+            assertTrue(first.isDrawn());
+            assertFalse(second.isDrawn());
+            assertFalse(pane.getChildren().contains(second));
+            assertEquals("a,b", bundle.getLabel());
+            assertSame(first.getCurvedArrow(), second.getCurvedArrow());
+        });
+    }
+
+    @Test
+    void rebuiltTransitionsShareOneArrow() throws Exception {
+        FxToolkit.run(() -> {
+            State p = new State(100, 100, 30, Color.WHITE, "p", new AutomatonDocument());
+            State q = new State(300, 100, 30, Color.WHITE, "q", new AutomatonDocument());
+
+            p.addTransitionDirect("a", q);
+            p.addTransitionDirect("b", q);
+
+            TransitionBundle bundle = p.getBundle(q);
+            assertEquals(2, bundle.getTransitions().size());
+            assertTrue(bundle.getTransitions().get(0).isDrawn());
+            assertFalse(bundle.getTransitions().get(1).isDrawn());
+            assertEquals("a,b", bundle.getLabel());
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.dfa_app.DFA;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class WitnessesTest {
+
+    @Test
+    void separatingWordsAreShortestOnPartialAutomata() {
+        for (int seed = 0; seed < 150; seed++) {
+            int states = 2 + seed % 7;
+            int symbols = 1 + seed % 3;
+            CompiledDFA dfa = new AutomatonGenerator(seed)
+                    .setDensity(seed % 2 == 0 ? 0.5 : 1.0)
+                    .setAcceptingRatio(0.3)
+                    .generate(AutomatonGenerator.Shape.RANDOM, states, symbols);
+            for (int p = 0; p < states; p++) {
+                for (int q = 0; q < states; q++) {
+                    String[] expected = bruteForce(dfa, p, q, states);
+                    String[] word = Witnesses.separatingWord(dfa, p, q);
+                    String pair = "seed " + seed + ", states " + p + " and " + q;
+                    if (expected == null) {
+                        assertNull(word, pair);
+                        continue;
+                    }
+                    assertNotNull(word, pair);
+                    assertEquals(expected.length, word.length, pair);
+                    assertEquals(true, accepts(dfa, p, word) != accepts(dfa, q, word), pair);
+                }
+            }
+        }
+    }
+
+    @Test
+    void missingTransitionIsTheDeadState() {
+        // q0 -a-> q1 (accepting), q2 -a-> q3 -a-> q1, q4 has no transitions at all.
+        CompiledDFA dfa = new CompiledDFA(new String[]{"a", "b"},
+                new int[]{1, -1, -1, -1, 3, -1, 1, -1, -1, -1},
+                new boolean[]{false, true, false, false, false}, 0, new String[]{"q0", "q1", "q2", "q3", "q4"});
+        assertArrayEquals(new String[]{"a"}, Witnesses.separatingWord(dfa, 0, 2));
+        assertArrayEquals(new String[0], Witnesses.separatingWord(dfa, 2, 1));
+        assertArrayEquals(new String[]{"a", "a"}, Witnesses.separatingWord(dfa, 2, 4));
+        assertNull(Witnesses.separatingWord(dfa, 3, 0));
+    }
+
+    // Tries all words up to the given length, shortest first. With the dead state there are n + 1
+    // states, so two inequivalent states are separated by a word of length at most n - 1.
+    private static String[] bruteForce(CompiledDFA dfa, int p, int q, int maxLength) {
+        List<int[]> words = new ArrayList<>();
+        words.add(new int[0]);
+        for (int length = 0; length <= maxLength; length++) {
+            List<int[]> longer = new ArrayList<>();
+            for (int[] word : words) {
+                String[] symbols = new String[word.length];
+                for (int i = 0; i < word.length; i++) {
+                    symbols[i] = dfa.getSymbol(word[i]);
+                }
+                if (accepts(dfa, p, symbols) != accepts(dfa, q, symbols)) {
+                    return symbols;
+                }
+                for (int a = 0; a < dfa.getSymbolCount() && length < maxLength; a++) {
+                    int[] next = Arrays.copyOf(word, word.length + 1);
+                    next[word.length] = a;
+                    longer.add(next);
+                }
+            }
+            words = longer;
+        }
+        return null;
+    }
+
+    private static boolean accepts(CompiledDFA dfa, int state, String[] word) {
+        List<String> alphabet = List.of(dfa.getAlphabet());
+        for (String symbol : word) {
+            state = dfa.next(state, alphabet.indexOf(symbol));
+            if (state == CompiledDFA.NO_TRANSITION) {
+                return false;
+            }
+        }
+        return dfa.isAccepting(state);
+    }
+}